@@ -68,4 +68,7 @@ axiosInstance.interceptors.response.use(
     }
 );
 
+// 목록 API는 한 페이지씩 내려주고 다음 페이지 커서를 X-Next-Cursor 헤더에 싣는다(마지막 페이지면 없음)
+export const getNextCursor = (response) => response?.headers?.['x-next-cursor'] || null;
+
 export default axiosInstance;
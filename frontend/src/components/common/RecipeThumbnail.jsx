@@ -0,0 +1,36 @@
+import React, { useEffect, useState } from 'react';
+import axiosInstance from '../../axiosConfig';
+
+// 목록 응답에는 이미지 본문이 없으므로 카드가 그려질 때 /recipes/{id}/image를 따로 받아 표시한다
+const RecipeThumbnail = ({ recipeId, hasImage, alt, fallback = '이미지 영역' }) => {
+    const [objectUrl, setObjectUrl] = useState('');
+
+    useEffect(() => {
+        if (!hasImage || !recipeId) {
+            return undefined;
+        }
+        let active = true;
+        let url = '';
+        axiosInstance
+            .get(`/recipes/${recipeId}/image`, { responseType: 'blob' })
+            .then((res) => {
+                if (!active) return;
+                url = URL.createObjectURL(res.data);
+                setObjectUrl(url);
+            })
+            .catch(() => {
+                if (active) setObjectUrl('');
+            });
+        return () => {
+            active = false;
+            if (url) URL.revokeObjectURL(url);
+        };
+    }, [recipeId, hasImage]);
+
+    if (!objectUrl) {
+        return fallback;
+    }
+    return <img src={objectUrl} alt={alt} loading="lazy" className="h-full w-full object-cover" />;
+};
+
+export default RecipeThumbnail;
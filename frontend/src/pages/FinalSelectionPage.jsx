@@ -1,12 +1,15 @@
 ﻿import React, { useEffect, useMemo, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
-import axiosInstance from '../axiosConfig';
+import axiosInstance, { getNextCursor } from '../axiosConfig';
+import RecipeThumbnail from '../components/common/RecipeThumbnail';
 
 const FinalSelectionPage = () => {
     const navigate = useNavigate();
     const [reports, setReports] = useState([]);
     const [searchTerm, setSearchTerm] = useState('');
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [error, setError] = useState('');
     const [selectMode, setSelectMode] = useState(false);
     const [selectedIds, setSelectedIds] = useState(() => new Set());
@@ -19,6 +22,7 @@ const FinalSelectionPage = () => {
                 setLoading(true);
                 const res = await axiosInstance.get('/report/list');
                 setReports(res.data || []);
+                setNextCursor(getNextCursor(res));
             } catch (err) {
                 console.error('보고서 목록을 불러오지 못했습니다.', err);
                 setError('보고서 목록을 불러오지 못했습니다.');
@@ -30,6 +34,22 @@ const FinalSelectionPage = () => {
         fetchReports();
     }, []);
 
+    // 제목 검색과 건수는 지금까지 불러온 페이지 기준이다
+    const loadMore = async () => {
+        if (!nextCursor || loadingMore) return;
+        try {
+            setLoadingMore(true);
+            const res = await axiosInstance.get('/report/list', { params: { cursor: nextCursor } });
+            setReports((prev) => [...prev, ...(res.data || [])]);
+            setNextCursor(getNextCursor(res));
+        } catch (err) {
+            console.error('보고서 목록을 더 불러오지 못했습니다.', err);
+            setError('보고서 목록을 더 불러오지 못했습니다.');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const normalizedSearch = searchTerm.trim().toLowerCase();
     const filteredReports = useMemo(() => {
         if (!normalizedSearch) {
@@ -216,11 +236,7 @@ const FinalSelectionPage = () => {
                                     </div>
                                 )}
                                 <div className="h-32 bg-[color:var(--surface-muted)] flex items-center justify-center text-sm text-[color:var(--text-soft)] overflow-hidden">
-                                    {report.recipeImageBase64 ? (
-                                        <img src={report.recipeImageBase64} alt={report.recipeTitle} className="h-full w-full object-cover" />
-                                    ) : (
-                                        '이미지 영역'
-                                    )}
+                                    <RecipeThumbnail recipeId={report.recipeId} hasImage={report.recipeHasImage} alt={report.recipeTitle} />
                                 </div>
                                 <div className="px-4 py-3">
                                     <p className="text-sm font-semibold text-[color:var(--text)]">{report.recipeTitle}</p>
@@ -281,11 +297,7 @@ const FinalSelectionPage = () => {
                                     최종
                                 </div>
                                 <div className="h-32 bg-[color:var(--surface-muted)] flex items-center justify-center text-sm text-[color:var(--text-soft)] overflow-hidden">
-                                    {report.recipeImageBase64 ? (
-                                        <img src={report.recipeImageBase64} alt={report.recipeTitle} className="h-full w-full object-cover" />
-                                    ) : (
-                                        '이미지 영역'
-                                    )}
+                                    <RecipeThumbnail recipeId={report.recipeId} hasImage={report.recipeHasImage} alt={report.recipeTitle} />
                                 </div>
                                 <div className="px-4 py-3">
                                     <p className="text-sm font-semibold text-[color:var(--text)]">{report.recipeTitle}</p>
@@ -305,6 +317,19 @@ const FinalSelectionPage = () => {
                         <p className="mt-6 text-sm text-[color:var(--text-muted)]">일치하는 최종 보고서가 없습니다.</p>
                     )}
                 </div>
+
+                {!loading && nextCursor && (
+                    <div className="mt-8 flex justify-center">
+                        <button
+                            type="button"
+                            onClick={loadMore}
+                            disabled={loadingMore}
+                            className="rounded-full border border-[color:var(--border)] bg-[color:var(--surface)] px-6 py-2 text-sm font-semibold text-[color:var(--text)] shadow-[0_10px_25px_var(--shadow)] disabled:opacity-60"
+                        >
+                            {loadingMore ? '불러오는 중...' : '더 보기'}
+                        </button>
+                    </div>
+                )}
             </div>
         </div>
     );
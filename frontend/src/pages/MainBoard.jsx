@@ -1,7 +1,8 @@
-import React, { useEffect, useState } from 'react';
+import React, { useEffect, useRef, useState } from 'react';
 import { useAuth } from '../context/AuthContext';
 import { useNavigate } from 'react-router-dom';
-import axiosInstance from '../axiosConfig';
+import axiosInstance, { getNextCursor } from '../axiosConfig';
+import RecipeThumbnail from '../components/common/RecipeThumbnail';
 
 const MainBoard = () => {
     const { user } = useAuth();
@@ -11,30 +12,69 @@ const MainBoard = () => {
 
     const [recipes, setRecipes] = useState([]);
     const [searchTerm, setSearchTerm] = useState('');
+    const [appliedSearch, setAppliedSearch] = useState('');
+    const [nextCursor, setNextCursor] = useState(null);
     const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [error, setError] = useState('');
+    // 검색어가 바뀐 뒤 도착한 이전 검색어의 다음 페이지 응답은 버린다
+    const querySeq = useRef(0);
+
+    // 검색어가 있으면 검색 API, 없으면 허브 목록. 다음 페이지 커서는 X-Next-Cursor 헤더로 온다
+    const fetchPage = (query, cursor) => (query
+        ? axiosInstance.get('/recipes/search', { params: { q: query, cursor } })
+        : axiosInstance.get('/recipes', { params: { cursor } }));
+
+    // 입력이 잠시 멈춘 뒤에만 서버 검색을 요청한다
+    useEffect(() => {
+        const timer = setTimeout(() => setAppliedSearch(searchTerm.trim()), 300);
+        return () => clearTimeout(timer);
+    }, [searchTerm]);
 
     useEffect(() => {
+        let cancelled = false;
+        const seq = ++querySeq.current;
         const fetchRecipes = async () => {
             try {
                 setLoading(true);
-                const res = await axiosInstance.get('/recipes');
-                setRecipes(res.data || []);
+                setError('');
+                setNextCursor(null);
+                setLoadingMore(false);
+                const res = await fetchPage(appliedSearch);
+                if (!cancelled && seq === querySeq.current) {
+                    setRecipes(res.data || []);
+                    setNextCursor(getNextCursor(res));
+                }
             } catch (err) {
                 console.error('레시피 목록을 불러오지 못했습니다', err);
-                setError('레시피 목록을 불러오지 못했습니다.');
+                if (!cancelled) setError('레시피 목록을 불러오지 못했습니다.');
             } finally {
-                setLoading(false);
+                if (!cancelled) setLoading(false);
             }
         };
 
         fetchRecipes();
-    }, []);
+        return () => {
+            cancelled = true;
+        };
+    }, [appliedSearch]);
 
-    const normalizedSearch = searchTerm.trim().toLowerCase();
-    const filteredRecipes = normalizedSearch
-        ? recipes.filter((recipe) => (recipe.title || '').toLowerCase().includes(normalizedSearch))
-        : recipes;
+    const loadMore = async () => {
+        if (!nextCursor || loadingMore) return;
+        const seq = querySeq.current;
+        try {
+            setLoadingMore(true);
+            const res = await fetchPage(appliedSearch, nextCursor);
+            if (seq !== querySeq.current) return;
+            setRecipes((prev) => [...prev, ...(res.data || [])]);
+            setNextCursor(getNextCursor(res));
+        } catch (err) {
+            console.error('레시피 목록을 더 불러오지 못했습니다', err);
+            if (seq === querySeq.current) setError('레시피 목록을 더 불러오지 못했습니다.');
+        } finally {
+            if (seq === querySeq.current) setLoadingMore(false);
+        }
+    };
 
     return (
         <div className="relative">
@@ -60,14 +100,14 @@ const MainBoard = () => {
 
                 <div className="mt-6">
                     <label className="block text-xs font-semibold uppercase tracking-[0.3em] text-[color:var(--text-soft)] mb-2">
-                        제목 검색
+                        레시피 검색
                     </label>
                     <div className="flex items-center gap-2 rounded-2xl border border-[color:var(--border)] bg-[color:var(--surface)] px-4 py-3 shadow-[0_10px_25px_var(--shadow)]">
                         <input
                             type="text"
                             value={searchTerm}
                             onChange={(event) => setSearchTerm(event.target.value)}
-                            placeholder="제목으로 레시피를 검색합니다"
+                            placeholder="제목, 재료, 리포트 요약으로 레시피를 검색합니다"
                             className="w-full bg-transparent text-sm text-[color:var(--text)] placeholder:text-[color:var(--text-soft)] focus:outline-none"
                         />
                     </div>
@@ -82,7 +122,7 @@ const MainBoard = () => {
                 )}
 
                 <div className="mt-6 grid grid-cols-1 sm:grid-cols-2 lg:grid-cols-3 gap-6">
-                    {filteredRecipes.map((recipe) => (
+                    {recipes.map((recipe) => (
                         <button
                             type="button"
                             key={recipe.id}
@@ -90,11 +130,7 @@ const MainBoard = () => {
                             className="rounded-2xl border border-[color:var(--border)] bg-[color:var(--surface)] shadow-[0_12px_30px_var(--shadow)] overflow-hidden text-left"
                         >
                             <div className="h-32 bg-[color:var(--surface-muted)] flex items-center justify-center text-sm text-[color:var(--text-soft)] overflow-hidden">
-                                {recipe.imageBase64 ? (
-                                    <img src={recipe.imageBase64} alt={recipe.title} className="h-full w-full object-cover" />
-                                ) : (
-                                    '이미지 영역'
-                                )}
+                                <RecipeThumbnail recipeId={recipe.id} hasImage={recipe.hasImage} alt={recipe.title} />
                             </div>
                             <div className="bg-[color:var(--accent)] text-[color:var(--accent-contrast)] text-center text-sm font-semibold py-2">
                                 {recipe.title}
@@ -103,11 +139,24 @@ const MainBoard = () => {
                     ))}
                 </div>
 
-                {!loading && recipes.length === 0 && (
+                {!loading && nextCursor && (
+                    <div className="mt-8 flex justify-center">
+                        <button
+                            type="button"
+                            onClick={loadMore}
+                            disabled={loadingMore}
+                            className="rounded-full border border-[color:var(--border)] bg-[color:var(--surface)] px-6 py-2 text-sm font-semibold text-[color:var(--text)] shadow-[0_10px_25px_var(--shadow)] disabled:opacity-60"
+                        >
+                            {loadingMore ? '불러오는 중...' : '더 보기'}
+                        </button>
+                    </div>
+                )}
+
+                {!loading && !appliedSearch && recipes.length === 0 && (
                     <p className="mt-6 text-sm text-[color:var(--text-muted)]">등록된 레시피가 없습니다.</p>
                 )}
 
-                {!loading && recipes.length > 0 && filteredRecipes.length === 0 && (
+                {!loading && appliedSearch && recipes.length === 0 && (
                     <p className="mt-6 text-sm text-[color:var(--text-muted)]">일치하는 레시피가 없습니다.</p>
                 )}
             </div>
@@ -1,7 +1,7 @@
 
 import React from 'react';
 import { useAuth } from '../context/AuthContext';
-import axiosInstance from '../axiosConfig';
+import axiosInstance, { getNextCursor } from '../axiosConfig';
 
 const initialNotices = [];
 
@@ -101,8 +101,9 @@ const NoticeBoard = () => {
     const [content, setContent] = React.useState('');
     const [searchField, setSearchField] = React.useState('title');
     const [searchTerm, setSearchTerm] = React.useState('');
-    const [page, setPage] = React.useState(1);
     const [loadingNotices, setLoadingNotices] = React.useState(true);
+    const [nextCursor, setNextCursor] = React.useState(null);
+    const [loadingMore, setLoadingMore] = React.useState(false);
     const [noticeError, setNoticeError] = React.useState('');
     const [detailLoading, setDetailLoading] = React.useState(false);
     const [detailError, setDetailError] = React.useState('');
@@ -116,6 +117,7 @@ const NoticeBoard = () => {
     const [isSubmittingNotice, setIsSubmittingNotice] = React.useState(false);
     const [isSavingNotice, setIsSavingNotice] = React.useState(false);
     const [isSavingComment, setIsSavingComment] = React.useState(false);
+    // 검색은 지금까지 불러온 공지사항 안에서 한다
     const normalizedSearch = searchTerm.trim().toLowerCase();
     const filteredNotices = normalizedSearch
         ? notices.filter((notice) => {
@@ -123,10 +125,6 @@ const NoticeBoard = () => {
             return (haystack || '').toLowerCase().includes(normalizedSearch);
         })
         : notices;
-    const pageSize = 5;
-    const totalPages = Math.max(1, Math.ceil(filteredNotices.length / pageSize));
-    const currentPage = Math.min(page, totalPages);
-    const pagedNotices = filteredNotices.slice((currentPage - 1) * pageSize, currentPage * pageSize);
     const isLoggedIn = Boolean(user || localStorage.getItem('accessToken'));
     const isEditingComment = commentEditingId !== null;
 
@@ -157,15 +155,15 @@ const NoticeBoard = () => {
     const loadNotices = React.useCallback(async () => {
         setLoadingNotices(true);
         setNoticeError('');
+        setNextCursor(null);
         try {
             const response = await axiosInstance.get('/notices');
-            const data = Array.isArray(response.data) ? response.data : response.data?.data ?? [];
+            const data = Array.isArray(response.data) ? response.data : [];
             const normalized = data.map(normalizeNotice);
+            setNextCursor(getNextCursor(response));
             if (normalized.length) {
                 setNotices(normalized);
-                if (!selectedId) {
-                    setSelectedId(normalized[0]?.id ?? null);
-                }
+                setSelectedId((prev) => prev ?? normalized[0]?.id ?? null);
             } else {
                 setNotices(initialNotices.map(normalizeNotice));
             }
@@ -176,7 +174,23 @@ const NoticeBoard = () => {
         } finally {
             setLoadingNotices(false);
         }
-    }, [selectedId]);
+    }, []);
+
+    const loadMoreNotices = async () => {
+        if (!nextCursor || loadingMore) return;
+        try {
+            setLoadingMore(true);
+            const response = await axiosInstance.get('/notices', { params: { cursor: nextCursor } });
+            const data = Array.isArray(response.data) ? response.data : [];
+            setNotices((prev) => [...prev, ...data.map(normalizeNotice)]);
+            setNextCursor(getNextCursor(response));
+        } catch (error) {
+            console.error(error);
+            setNoticeError('공지사항을 더 불러오지 못했습니다.');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
 
     const loadNoticeDetail = React.useCallback(async (noticeId) => {
         if (!noticeId) {
@@ -209,10 +223,6 @@ const NoticeBoard = () => {
         loadNotices();
     }, [loadNotices]);
 
-    React.useEffect(() => {
-        setPage(1);
-    }, [searchField, searchTerm]);
-
     const handleOpenDetail = (notice) => {
         setSelectedId(notice.id);
         setSelectedNotice(notice);
@@ -253,7 +263,6 @@ const NoticeBoard = () => {
             setTitle('');
             setContent('');
             setShowForm(false);
-            setPage(1);
             loadNoticeDetail(fallbackNotice.id);
         } catch (error) {
             console.error(error);
@@ -441,7 +450,7 @@ const NoticeBoard = () => {
                                 {noticeError}
                             </div>
                         )}
-                        {!loadingNotices && pagedNotices.map((notice) => (
+                        {!loadingNotices && filteredNotices.map((notice) => (
                             <button
                                 type="button"
                                 key={notice.id}
@@ -462,34 +471,17 @@ const NoticeBoard = () => {
                 </div>
 
                 <div className="mt-6 flex items-center justify-between">
-                    <div className="flex gap-2">
-                        <button
-                            type="button"
-                            onClick={() => setPage(Math.max(1, currentPage - 1))}
-                            className="w-8 h-8 rounded-md border border-[color:var(--border)] text-sm text-[color:var(--text)] hover:bg-[color:var(--surface-muted)] transition"
-                        >
-                            &lt;
-                        </button>
-                        {Array.from({ length: totalPages }, (_, idx) => idx + 1).map((pageNum) => (
+                    <div>
+                        {!loadingNotices && nextCursor && (
                             <button
-                                key={pageNum}
                                 type="button"
-                                onClick={() => setPage(pageNum)}
-                                className={`w-8 h-8 rounded-md border border-[color:var(--border)] text-sm transition ${pageNum === currentPage
-                                    ? 'bg-[color:var(--surface-muted)] text-[color:var(--text)]'
-                                    : 'text-[color:var(--text-muted)] hover:bg-[color:var(--surface-muted)] hover:text-[color:var(--text)]'
-                                    }`}
+                                onClick={loadMoreNotices}
+                                disabled={loadingMore}
+                                className="rounded-full border border-[color:var(--border)] bg-[color:var(--surface)] px-6 py-2 text-sm font-semibold text-[color:var(--text)] shadow-[0_10px_25px_var(--shadow)] disabled:opacity-60"
                             >
-                                {pageNum}
+                                {loadingMore ? '불러오는 중...' : '더 보기'}
                             </button>
-                        ))}
-                        <button
-                            type="button"
-                            onClick={() => setPage(Math.min(totalPages, currentPage + 1))}
-                            className="w-8 h-8 rounded-md border border-[color:var(--border)] text-sm text-[color:var(--text)] hover:bg-[color:var(--surface-muted)] transition"
-                        >
-                            &gt;
-                        </button>
+                        )}
                     </div>
                     <button
                         type="button"
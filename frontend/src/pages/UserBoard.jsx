@@ -2,6 +2,7 @@ import React, { useEffect, useState } from 'react';
 import { useAuth } from '../context/AuthContext';
 import { useNavigate } from 'react-router-dom';
 import axiosInstance from '../axiosConfig';
+import RecipeThumbnail from '../components/common/RecipeThumbnail';
 
 const UserBoard = () => {
     const { user } = useAuth();
@@ -125,11 +126,11 @@ const UserBoard = () => {
                                         {recipe.openYn === 'Y' ? '🔓' : '🔒'}
                                     </div>
                                     <div className="h-32 bg-[color:var(--surface-muted)] flex items-center justify-center text-sm text-[color:var(--text-soft)] overflow-hidden">
-                                        {recipe.imageBase64 ? (
-                                            <img src={recipe.imageBase64} alt={recipe.title} className="h-full w-full object-cover" />
-                                        ) : (
-                                            '이미지 영역'
-                                        )}
+                                        <RecipeThumbnail
+                                            recipeId={recipe.id}
+                                            hasImage={recipe.hasImage}
+                                            alt={recipe.title}
+                                        />
                                     </div>
                                     <div className="bg-[color:var(--accent)] text-[color:var(--accent-contrast)] text-center text-sm font-semibold py-2">
                                         {recipe.title}
@@ -3,7 +3,7 @@ import { Plus, Trash2 } from 'lucide-react';
 import { useAuth } from '../context/AuthContext';
 import { useLocation, useNavigate, useParams } from 'react-router-dom';
 import { useBeforeUnload } from 'react-router';
-import axiosInstance from '../axiosConfig';
+import axiosInstance, { getNextCursor } from '../axiosConfig';
 
 const labels = {
     guest: '게스트',
@@ -246,6 +246,10 @@ const UserCreateRecipe = () => {
     const [loadLoading, setLoadLoading] = useState(false);
     const [loadError, setLoadError] = useState('');
     const [loadSearch, setLoadSearch] = useState('');
+    const [appliedLoadSearch, setAppliedLoadSearch] = useState('');
+    const [hubCursor, setHubCursor] = useState(null);
+    const [hubLoadingMore, setHubLoadingMore] = useState(false);
+    const hubQuerySeq = useRef(0);
     const [initializing, setInitializing] = useState(true);
     const initialSnapshotRef = useRef('');
     const shouldBlockRef = useRef(true);
@@ -333,14 +337,24 @@ const UserCreateRecipe = () => {
         }
     };
 
-    const applyLoadedRecipe = (data) => {
-        if (!data) return;
+    const applyLoadedRecipe = async (item) => {
+        if (!item) return;
         if (isDirty && hasUserEdits && shouldBlockRef.current) {
             const confirmed = window.confirm(labels.confirmLeave);
             if (!confirmed) {
                 return;
             }
         }
+        // 목록 항목에는 재료/조리 단계/이미지가 없으므로 상세를 받아 채운다
+        let data;
+        try {
+            const res = await axiosInstance.get(`/recipes/${item.id}`);
+            data = res.data || item;
+        } catch (err) {
+            console.error('레시피를 불러오지 못했습니다.', err);
+            setLoadError(labels.loadError);
+            return;
+        }
         applyInitialState({
             title: data.title || '',
             description: data.description || '',
@@ -353,25 +367,57 @@ const UserCreateRecipe = () => {
         setLoadModalOpen(false);
     };
 
+    const fetchHubPage = (query, cursor) => (query
+        ? axiosInstance.get('/recipes/search', { params: { q: query, cursor } })
+        : axiosInstance.get('/recipes', { params: { cursor } }));
+
     useEffect(() => {
         if (!loadModalOpen) {
             setLoadSearch('');
+            setAppliedLoadSearch('');
+            return;
+        }
+        let active = true;
+        const fetchMine = async () => {
+            try {
+                const mineRes = await axiosInstance.get('/recipes/me');
+                if (!active) return;
+                setLoadRecipes((prev) => ({ ...prev, mine: mineRes.data || [] }));
+            } catch (err) {
+                if (!active) return;
+                console.error('레시피를 불러오지 못했습니다.', err);
+                setLoadError(labels.loadError);
+            }
+        };
+        fetchMine();
+        return () => {
+            active = false;
+        };
+    }, [loadModalOpen]);
+
+    // 입력이 잠시 멈춘 뒤에만 허브 검색을 요청한다
+    useEffect(() => {
+        const timer = setTimeout(() => setAppliedLoadSearch(loadSearch.trim()), 300);
+        return () => clearTimeout(timer);
+    }, [loadSearch]);
+
+    // 허브 목록은 서버 검색으로 한 페이지씩 받는다
+    useEffect(() => {
+        if (!loadModalOpen) {
             return;
         }
         let active = true;
-        const fetchLists = async () => {
+        const seq = ++hubQuerySeq.current;
+        const fetchHub = async () => {
             setLoadLoading(true);
             setLoadError('');
+            setHubCursor(null);
+            setHubLoadingMore(false);
             try {
-                const [hubRes, mineRes] = await Promise.all([
-                    axiosInstance.get('/recipes'),
-                    axiosInstance.get('/recipes/me'),
-                ]);
-                if (!active) return;
-                setLoadRecipes({
-                    hub: hubRes.data || [],
-                    mine: mineRes.data || [],
-                });
+                const res = await fetchHubPage(appliedLoadSearch);
+                if (!active || seq !== hubQuerySeq.current) return;
+                setLoadRecipes((prev) => ({ ...prev, hub: res.data || [] }));
+                setHubCursor(getNextCursor(res));
             } catch (err) {
                 if (!active) return;
                 console.error('레시피를 불러오지 못했습니다.', err);
@@ -380,17 +426,35 @@ const UserCreateRecipe = () => {
                 if (active) setLoadLoading(false);
             }
         };
-        fetchLists();
+        fetchHub();
         return () => {
             active = false;
         };
-    }, [loadModalOpen]);
+    }, [loadModalOpen, appliedLoadSearch]);
+
+    const loadMoreHub = async () => {
+        if (!hubCursor || hubLoadingMore) return;
+        const seq = hubQuerySeq.current;
+        try {
+            setHubLoadingMore(true);
+            const res = await fetchHubPage(appliedLoadSearch, hubCursor);
+            if (seq !== hubQuerySeq.current) return;
+            setLoadRecipes((prev) => ({ ...prev, hub: [...prev.hub, ...(res.data || [])] }));
+            setHubCursor(getNextCursor(res));
+        } catch (err) {
+            console.error('레시피를 더 불러오지 못했습니다.', err);
+            if (seq === hubQuerySeq.current) setLoadError(labels.loadError);
+        } finally {
+            if (seq === hubQuerySeq.current) setHubLoadingMore(false);
+        }
+    };
 
+    // 허브는 서버에서 검색된 결과를 그대로 쓰고, 내 레시피만 화면에서 제목으로 거른다
     const filteredLoadList = useMemo(() => {
-        const list = loadTab === 'mine' ? loadRecipes.mine : loadRecipes.hub;
+        if (loadTab === 'hub') return loadRecipes.hub;
         const keyword = loadSearch.trim().toLowerCase();
-        if (!keyword) return list;
-        return list.filter((item) => (item.title || '').toLowerCase().includes(keyword));
+        if (!keyword) return loadRecipes.mine;
+        return loadRecipes.mine.filter((item) => (item.title || '').toLowerCase().includes(keyword));
     }, [loadRecipes, loadSearch, loadTab]);
 
 
@@ -1631,6 +1695,18 @@ const UserCreateRecipe = () => {
                                         </div>
                                     ))}
                                 </div>
+                                {loadTab === 'hub' && !loadLoading && hubCursor && (
+                                    <div className="mt-4 flex justify-center">
+                                        <button
+                                            type="button"
+                                            onClick={loadMoreHub}
+                                            disabled={hubLoadingMore}
+                                            className="rounded-full border border-[color:var(--border)] bg-[color:var(--surface)] px-6 py-2 text-sm font-semibold text-[color:var(--text)] shadow-[0_10px_25px_var(--shadow)] disabled:opacity-60"
+                                        >
+                                            {hubLoadingMore ? '불러오는 중...' : '더 보기'}
+                                        </button>
+                                    </div>
+                                )}
                             </div>
                         </div>
                     </div>
@@ -0,0 +1,90 @@
+// 벤치마크 공용 한국어 레시피 픽스처.
+// classpath:fixtures/korean_recipes.txt를 한 번 읽어 레시피 원문/재료 문자열/재료명 목록으로 제공한다.
+package com.aivle0102.bigproject.benchmark;
+
+import com.aivle0102.bigproject.util.RecipeIngredientExtractor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class RecipeFixtures {
+
+    private static final String RESOURCE = "fixtures/korean_recipes.txt";
+
+    private static volatile List<String> recipes;
+
+    private RecipeFixtures() {
+    }
+
+    // "제품명: 재료, 재료, ..." 형식의 레시피 원문
+    public static List<String> recipes() {
+        List<String> loaded = recipes;
+        if (loaded == null) {
+            synchronized (RecipeFixtures.class) {
+                if (recipes == null) {
+                    recipes = load();
+                }
+                loaded = recipes;
+            }
+        }
+        return loaded;
+    }
+
+    // 콜론 뒤의 재료 문자열(수량/단위 포함)
+    public static List<String> ingredientTexts() {
+        List<String> out = new ArrayList<>();
+        for (String recipe : recipes()) {
+            int idx = recipe.indexOf(':');
+            out.add(idx == -1 ? "" : recipe.substring(idx + 1).trim());
+        }
+        return out;
+    }
+
+    // 쉼표로 나눈 원본 재료 토큰(수량/단위/괄호 포함, 중복 제거)
+    public static List<String> rawIngredientTokens() {
+        Set<String> out = new LinkedHashSet<>();
+        for (String text : ingredientTexts()) {
+            for (String token : text.split(",")) {
+                String t = token.trim();
+                if (!t.isEmpty()) out.add(t);
+            }
+        }
+        return new ArrayList<>(out);
+    }
+
+    // 추출기를 거친 재료명(서비스 계층에 실제로 들어가는 값, 중복 제거)
+    public static List<String> ingredientNames() {
+        Set<String> out = new LinkedHashSet<>();
+        for (String text : ingredientTexts()) {
+            out.addAll(RecipeIngredientExtractor.extractIngredients(text));
+        }
+        return new ArrayList<>(out);
+    }
+
+    private static List<String> load() {
+        InputStream is = RecipeFixtures.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (is == null) {
+            throw new IllegalStateException("벤치마크 픽스처를 찾을 수 없습니다: " + RESOURCE);
+        }
+        List<String> out = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String t = line.trim();
+                if (t.isEmpty() || t.startsWith("#")) continue;
+                out.add(t);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return List.copyOf(out);
+    }
+}
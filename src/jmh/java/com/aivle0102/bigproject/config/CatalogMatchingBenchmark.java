@@ -0,0 +1,53 @@
+// 카탈로그 로더의 재료 매칭 경로 벤치마크.
+// 로더는 실제 JSON 카탈로그(classpath:data)를 스냅샷 없이 한 번 로드해 둔다.
+package com.aivle0102.bigproject.config;
+
+import com.aivle0102.bigproject.benchmark.RecipeFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class CatalogMatchingBenchmark {
+
+    private ProcessedFoodsCatalogLoader processedFoods;
+    private RawProduceCatalogLoader rawProduce;
+    private List<String> ingredientNames;
+
+    @Setup
+    public void setUp() {
+        processedFoods = new ProcessedFoodsCatalogLoader(new ClassPathResource("data/processed_foods_catalog.json"));
+        processedFoods.load();
+        rawProduce = new RawProduceCatalogLoader(
+                new ClassPathResource("data/raw_produce_catalog.json"),
+                new ClassPathResource("data/raw_produce_seafood_category.json"));
+        rawProduce.load();
+        ingredientNames = RecipeFixtures.ingredientNames();
+    }
+
+    @Benchmark
+    public void buildSearchPlan(Blackhole bh) {
+        for (String name : ingredientNames) {
+            bh.consume(processedFoods.buildSearchPlan(name));
+        }
+    }
+
+    @Benchmark
+    public void matchDirectFromCatalog(Blackhole bh) {
+        for (String name : ingredientNames) {
+            bh.consume(processedFoods.matchDirectFromCatalog(name));
+        }
+    }
+
+    @Benchmark
+    public void isRawProduce(Blackhole bh) {
+        for (String name : ingredientNames) {
+            bh.consume(rawProduce.isRawProduce(name));
+        }
+    }
+}
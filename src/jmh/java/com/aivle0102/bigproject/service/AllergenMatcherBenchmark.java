@@ -0,0 +1,61 @@
+// AllergenMatcher 추출 경로 벤치마크.
+// 1 op = 픽스처의 전체 재료(또는 원재료 문자열)에 대해 한 번씩 호출한다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.benchmark.RecipeFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class AllergenMatcherBenchmark {
+
+    private final AllergenMatcher matcher = new AllergenMatcher();
+
+    private List<String> ingredientNames;
+    private List<List<String>> tokenLists;
+    // HACCP 원재료명(rawmtrl) 형태로 이어 붙인 재료 문자열
+    private List<String> rawmtrlTexts;
+
+    @Setup
+    public void setUp() {
+        ingredientNames = RecipeFixtures.ingredientNames();
+        tokenLists = RecipeFixtures.ingredientNames().stream()
+                .map(name -> List.of(name.split(" ")))
+                .toList();
+        rawmtrlTexts = RecipeFixtures.ingredientTexts();
+    }
+
+    @Benchmark
+    public void buildPrdkindQueries(Blackhole bh) {
+        for (String name : ingredientNames) {
+            bh.consume(matcher.buildPrdkindQueries(name));
+        }
+    }
+
+    @Benchmark
+    public void directMatch(Blackhole bh) {
+        for (String name : ingredientNames) {
+            bh.consume(matcher.directMatchIngredientToCanonical(name));
+            bh.consume(matcher.directMultiMatchIngredientToCanonical(name));
+        }
+    }
+
+    @Benchmark
+    public void extractCanonicalFromRawmtrl(Blackhole bh) {
+        for (String text : rawmtrlTexts) {
+            bh.consume(matcher.extractCanonicalFromRawmtrl(text));
+        }
+    }
+
+    @Benchmark
+    public void extractCanonicalFromTokens(Blackhole bh) {
+        for (List<String> tokens : tokenLists) {
+            bh.consume(matcher.extractCanonicalFromTokens(tokens));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+// RecipeCaseServiceImpl.findCases 벤치마크 (규제 사례 CSV 매칭).
+// 저장소는 findCases에서 쓰이지 않으므로 null로 두고, CSV는 첫 호출 전에 미리 로드한다.
+// 디버그 System.out 출력은 콘솔 I/O가 측정을 지배하지 않도록 버리는 스트림으로 돌린다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.benchmark.RecipeFixtures;
+import com.aivle0102.bigproject.dto.RecipeCaseRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class RecipeCaseServiceBenchmark {
+
+    private RecipeCaseServiceImpl service;
+    private List<RecipeCaseRequest> requests;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        service = new RecipeCaseServiceImpl(null);
+        requests = new ArrayList<>();
+        long id = 1;
+        for (String recipe : RecipeFixtures.recipes()) {
+            RecipeCaseRequest request = new RecipeCaseRequest();
+            request.setRecipeId(id++);
+            request.setRecipe(recipe);
+            requests.add(request);
+        }
+        // CSV 지연 로딩을 측정 구간 밖으로
+        service.findCases(requests.get(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void findCases(Blackhole bh) {
+        for (RecipeCaseRequest request : requests) {
+            bh.consume(service.findCases(request));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+// 레시피 목록 한 페이지(50건) 응답의 전송 바이트와 할당량 비교.
+// legacy: 행마다 image_base64와 리포트 content를 읽어 content JSON을 파싱하고 RecipeResponse로 직렬화
+// slim: recipe_summary 행으로 만든 RecipeListItemResponse를 직렬화(이미지 유무만 전달)
+// DB에서 TEXT 컬럼을 읽는 비용은 행마다 문자열을 새로 만드는 것으로 대신한다. 페이지당 바이트는 TearDown에서 출력.
+// 실행: gradle jmh -PjmhInclude=RecipeListPayloadBenchmark  (할당량은 gc.alloc.rate.norm)
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.benchmark.RecipeFixtures;
+import com.aivle0102.bigproject.domain.RecipeSummary;
+import com.aivle0102.bigproject.dto.RecipeListItemResponse;
+import com.aivle0102.bigproject.dto.RecipeResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+@State(Scope.Benchmark)
+public class RecipeListPayloadBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    // 레시피 이미지 크기(KB, base64 기준)
+    @Param({"100", "1000"})
+    public int imageKb;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Row> rows = new ArrayList<>();
+    private long legacyBytes;
+    private long slimBytes;
+
+    private record Row(long id, String title, String description, String steps, String image, String reportContent) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<String> recipes = RecipeFixtures.recipes();
+        Random random = new Random(42);
+        byte[] raw = new byte[imageKb * 768];
+        random.nextBytes(raw);
+        String image = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(raw);
+        String reportContent = objectMapper.writeValueAsString(sampleReport(recipes.get(0)));
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String recipe = recipes.get(i % recipes.size());
+            rows.add(new Row(i + 1, "레시피 " + i, recipe.substring(0, Math.min(120, recipe.length())), recipe, image, reportContent));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("[imageKb=%d] bytes per page: legacy=%d slim=%d%n", imageKb, legacyBytes, slimBytes);
+    }
+
+    @Benchmark
+    public byte[] legacyFullResponses() throws Exception {
+        List<RecipeResponse> responses = new ArrayList<>(PAGE_SIZE);
+        for (Row row : rows) {
+            Map<String, Object> report = objectMapper.readValue(new String(row.reportContent()), MAP_TYPE);
+            responses.add(new RecipeResponse(
+                    row.id(), row.title(), row.description(),
+                    List.of("밥", "계란", "간장"), List.of(new String(row.steps()).split("\n")),
+                    new String(row.image()), report, Map.of(), "요약", List.of(), null,
+                    "PUBLISHED", "Y", "writer", "작성자", LocalDateTime.of(2026, 1, 1, 9, 0)));
+        }
+        byte[] body = objectMapper.writeValueAsBytes(responses);
+        legacyBytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] slimListItems() throws Exception {
+        List<RecipeListItemResponse> items = new ArrayList<>(PAGE_SIZE);
+        for (Row row : rows) {
+            items.add(RecipeListItemResponse.from(RecipeSummary.builder()
+                    .recipeId(row.id())
+                    .recipeName(row.title())
+                    .description(row.description())
+                    .userId("writer")
+                    .status("PUBLISHED")
+                    .openYn("Y")
+                    .hasImage(!row.image().isEmpty())
+                    .ingredients(List.of("밥", "계란", "간장"))
+                    .allergens(List.of("Egg"))
+                    .latestReportId(row.id())
+                    .latestReportSummary("요약")
+                    .hubVisible(true)
+                    .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                    .updatedAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                    .build(), "작성자"));
+        }
+        byte[] body = objectMapper.writeValueAsBytes(items);
+        slimBytes = body.length;
+        return body;
+    }
+
+    private static Map<String, Object> sampleReport(String recipe) {
+        // 실제 AI 리포트와 비슷한 구조/크기(섹션 7개, 섹션마다 여러 문단)
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (String section : List.of("executiveSummary", "marketSnapshot", "riskAssessment", "swot",
+                "conceptIdeas", "kpis", "nextSteps")) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("summary", recipe);
+            body.put("points", List.of(recipe, recipe, recipe));
+            body.put("decision", "GO");
+            report.put(section, body);
+        }
+        return report;
+    }
+}
@@ -0,0 +1,159 @@
+// 리포트 생성 방식(single: 한 번에 전체 / sections: 섹션별 동시 호출) 지연 분포·토큰 비용 비교.
+// OpenAI는 출력 토큰 수에 비례해 응답하는 모의 클라이언트로 대체한다(첫 토큰 지연 + 토큰당 시간 + 로그정규 흔들림).
+// 실행: gradle jmh -PjmhInclude=ReportGenerationModeBenchmark -PjmhModes=sample  (p50/p95는 SampleTime 백분위)
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.benchmark.RecipeFixtures;
+import com.aivle0102.bigproject.client.LlmResponseCache;
+import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.client.OpenAiMetrics;
+import com.aivle0102.bigproject.client.OpenAiRateLimiter;
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.dto.ReportRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportGenerationModeBenchmark {
+
+    @Param({"single", "sections"})
+    public String mode;
+
+    private SimulatedOpenAiClient client;
+    private ExecutorService sectionExecutor;
+    private AiReportService service;
+    private ReportRequest request;
+    private final AtomicLong operations = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        client = new SimulatedOpenAiClient();
+        // 응답 캐시는 끈 상태(리포트 생성 경로는 캐시 대상이 아님)
+        LlmResponseCache cache = new LlmResponseCache(null, new SimpleMeterRegistry(), new StandardEnvironment(), false, 1, 1);
+        sectionExecutor = ExecutorConfig.daemonPool("report-section", 7);
+        service = new AiReportService(client, cache, sectionExecutor);
+        setField(service, "model", "gpt-4.1-mini");
+        setField(service, "generationMode", mode);
+
+        request = new ReportRequest();
+        request.setRecipe(String.join("\n", RecipeFixtures.recipes().subList(0, 3)));
+        request.setTargetCountry("US");
+        request.setTargetPersona("30대 맞벌이 직장인");
+        request.setPriceRange("8~12 USD");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sectionExecutor.shutdownNow();
+        long ops = Math.max(operations.get(), 1);
+        // 토큰 비용(호출 1회 평균): 입력 / 그중 반복되는 공통 앞부분(프롬프트 캐시 대상) / 출력 / 호출 수
+        System.out.printf("[%s] per report: inputTokens=%d prefixTokens=%d outputTokens=%d calls=%.1f%n",
+                mode,
+                client.inputTokens.get() / ops,
+                client.prefixTokens.get() / ops,
+                client.outputTokens.get() / ops,
+                (double) client.calls.get() / ops);
+    }
+
+    @Benchmark
+    public Map<String, Object> generateReport() {
+        operations.incrementAndGet();
+        return service.generateReport(request);
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    // 섹션별 출력 토큰 수(실제 리포트 응답 크기 기준 대략치)와 응답 속도를 흉내 내는 OpenAI 클라이언트
+    static final class SimulatedOpenAiClient extends OpenAiClient {
+
+        private static final Map<String, Integer> OUTPUT_TOKENS = new LinkedHashMap<>();
+        static {
+            OUTPUT_TOKENS.put("executiveSummary", 350);
+            OUTPUT_TOKENS.put("marketSnapshot", 700);
+            OUTPUT_TOKENS.put("riskAssessment", 300);
+            OUTPUT_TOKENS.put("swot", 350);
+            OUTPUT_TOKENS.put("conceptIdeas", 600);
+            OUTPUT_TOKENS.put("kpis", 400);
+            OUTPUT_TOKENS.put("nextSteps", 150);
+        }
+        // 실제 지연(첫 토큰 ~500ms, 토큰당 ~15ms)을 1/100로 줄여 측정 시간을 줄인다
+        private static final long FIRST_TOKEN_MICROS = 5_000;
+        private static final long PER_TOKEN_MICROS = 150;
+
+        final AtomicLong inputTokens = new AtomicLong();
+        final AtomicLong prefixTokens = new AtomicLong();
+        final AtomicLong outputTokens = new AtomicLong();
+        final AtomicLong calls = new AtomicLong();
+
+        SimulatedOpenAiClient() {
+            super(WebClient.create(),
+                    new OpenAiRateLimiter(new SimpleMeterRegistry(), false, 1, 1, 1, 1),
+                    new OpenAiMetrics(new SimpleMeterRegistry()),
+                    0, 0, 0, 2);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public String chatCompletion(String caller, Map<String, Object> body, Duration timeout) {
+            List<Map<String, String>> messages = (List<Map<String, String>>) body.get("messages");
+            long prefixChars = 0;
+            for (int i = 0; i < messages.size() - 1; i++) {
+                prefixChars += messages.get(i).get("content").length();
+            }
+            String last = messages.get(messages.size() - 1).get("content");
+
+            StringBuilder json = new StringBuilder("{");
+            int tokens = 0;
+            for (Map.Entry<String, Integer> section : OUTPUT_TOKENS.entrySet()) {
+                if (!last.contains("\"" + section.getKey() + "\"")) continue;
+                if (json.length() > 1) json.append(',');
+                json.append('"').append(section.getKey()).append("\": {\"text\": \"")
+                        .append("가".repeat(section.getValue())).append("\"}");
+                tokens += section.getValue();
+            }
+            json.append('}');
+
+            calls.incrementAndGet();
+            inputTokens.addAndGet((prefixChars + last.length()) / 2);
+            prefixTokens.addAndGet(prefixChars / 2);
+            outputTokens.addAndGet(tokens);
+
+            double jitter = Math.exp(ThreadLocalRandom.current().nextGaussian() * 0.25);
+            long micros = (long) ((FIRST_TOKEN_MICROS + tokens * PER_TOKEN_MICROS) * jitter);
+            try {
+                TimeUnit.MICROSECONDS.sleep(micros);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return json.toString();
+        }
+    }
+}
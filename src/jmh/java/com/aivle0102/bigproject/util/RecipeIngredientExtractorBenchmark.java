@@ -0,0 +1,30 @@
+// RecipeIngredientExtractor.extractIngredients 벤치마크.
+// 1 op = 픽스처 레시피 전체의 재료 문자열을 한 번씩 정제한다.
+package com.aivle0102.bigproject.util;
+
+import com.aivle0102.bigproject.benchmark.RecipeFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class RecipeIngredientExtractorBenchmark {
+
+    private List<String> ingredientTexts;
+
+    @Setup
+    public void setUp() {
+        ingredientTexts = RecipeFixtures.ingredientTexts();
+    }
+
+    @Benchmark
+    public void extractIngredients(Blackhole bh) {
+        for (String text : ingredientTexts) {
+            bh.consume(RecipeIngredientExtractor.extractIngredients(text));
+        }
+    }
+}
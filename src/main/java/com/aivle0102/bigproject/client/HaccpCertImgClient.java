@@ -1,81 +1,168 @@
 // HACCP 제품 이미지/표기 정보 API를 호출하는 클라이언트.
 // prdkind/prdlstNm 검색 결과를 파싱해 반환
+// 같은 검색이 동시에 들어오면 진행 중인 한 번의 조회 결과를 함께 사용한다.
 
 package com.aivle0102.bigproject.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
-@RequiredArgsConstructor
 public class HaccpCertImgClient {
 
-    // host까지만 url 입력
-    @Value("http://apis.data.go.kr/B553748")
-    private String baseUrl;
+    private final WebClient haccpWebClient;
+    private final HaccpResponseCache responseCache;
+    private final String baseUrl;
+    private final String serviceKey;
 
-    @Value("${haccp.service-key}")
-    private String serviceKey;
-
-    private final RestTemplate restTemplate = new RestTemplate();
     private final XmlMapper xmlMapper = new XmlMapper();
+    // 검색 키 -> 진행 중인 조회(완료되면 제거)
+    private final Map<String, CompletableFuture<HaccpResponseCache.CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+    private final MeterRegistry meterRegistry;
+
+    public HaccpCertImgClient(
+            @Qualifier("haccpWebClient") WebClient haccpWebClient,
+            HaccpResponseCache responseCache,
+            MeterRegistry meterRegistry,
+            // host까지만 url 입력
+            @Value("${haccp.base-url:http://apis.data.go.kr/B553748}") String baseUrl,
+            @Value("${haccp.service-key}") String serviceKey
+    ) {
+        this.haccpWebClient = haccpWebClient;
+        this.responseCache = responseCache;
+        this.baseUrl = baseUrl;
+        this.serviceKey = serviceKey;
+        this.meterRegistry = meterRegistry;
+        this.coalesced = Counter.builder("haccp.client.coalesced")
+                .description("진행 중인 동일 HACCP 검색에 합류한 요청 수")
+                .register(meterRegistry);
+    }
 
     public JsonNode searchByPrdkind(String prdkindKeyword, int pageNo, int numOfRows) {
-        String url = UriComponentsBuilder
-                .fromUriString(baseUrl + "/CertImgListServiceV3/getCertImgListServiceV3")
-                .queryParam("returnType", "xml")
-                .queryParam("pageNo", pageNo)
-                .queryParam("numOfRows", numOfRows)
-                .queryParam("prdkind", prdkindKeyword)
-                .queryParam("ServiceKey", serviceKey)
-                .build()
-                .toUriString();
+        return searchByPrdkindAsync(prdkindKeyword, pageNo, numOfRows).block();
+    }
 
-        System.out.println("[HACCP 주소] " + maskServiceKey(url));
+    public JsonNode searchByPrdlstNm(String prdlstNmKeyword, int pageNo, int numOfRows) {
+        return searchByPrdlstNmAsync(prdlstNmKeyword, pageNo, numOfRows).block();
+    }
 
-        ResponseEntity<String> resp = restTemplate.getForEntity(url, String.class);
+    public Mono<JsonNode> searchByPrdkindAsync(String prdkindKeyword, int pageNo, int numOfRows) {
+        return search("prdkind", prdkindKeyword, pageNo, numOfRows);
+    }
 
-        String body = Optional.ofNullable(resp.getBody()).orElse("");
-        if (!body.trim().startsWith("<")) {
-            throw new IllegalStateException("HACCP API가 XML이 아닌 응답을 반환했습니다: " + body);
-        }
+    public Mono<JsonNode> searchByPrdlstNmAsync(String prdlstNmKeyword, int pageNo, int numOfRows) {
+        return search("prdlstNm", prdlstNmKeyword, pageNo, numOfRows);
+    }
 
-        try {
-            return xmlMapper.readTree(body.getBytes(StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new IllegalStateException("HACCP XML 응답 파싱에 실패했습니다.", e);
+    private Mono<JsonNode> search(String searchParam, String keyword, int pageNo, int numOfRows) {
+        // 구독 시점에 합류/시작을 결정한다(Mono를 만들기만 하고 구독하지 않으면 원격 호출도 없다)
+        return Mono.defer(() -> join(searchParam, HaccpResponseCache.normalizeKeyword(keyword), pageNo, numOfRows));
+    }
+
+    private Mono<JsonNode> join(String searchParam, String keyword, int pageNo, int numOfRows) {
+        // 동일 검색이 진행 중이면 합류, 아니면 새로 시작(한 구독자가 취소해도 공유 조회는 유지)
+        // 키워드는 응답 캐시와 같은 기준으로 정규화되어 들어온다(" 두부"와 "두부"는 같은 조회)
+        String key = searchParam + "|" + keyword + "|" + pageNo + "|" + numOfRows;
+        CompletableFuture<HaccpResponseCache.CachedResponse> created = new CompletableFuture<>();
+        CompletableFuture<HaccpResponseCache.CachedResponse> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return Mono.fromFuture(existing, true).map(cached -> parse(cached.body()));
         }
+
+        // 대기 중인 구독자에게 알리기 전에 먼저 제거해 완료 이후 요청은 새로 조회하도록 한다
+        load(searchParam, keyword, pageNo, numOfRows).subscribe(
+                loaded -> {
+                    inFlight.remove(key, created);
+                    created.complete(loaded);
+                },
+                error -> {
+                    inFlight.remove(key, created);
+                    created.completeExceptionally(error);
+                });
+        return Mono.fromFuture(created, true).map(cached -> parse(cached.body()));
     }
 
-    public JsonNode searchByPrdlstNm(String prdlstNmKeyword, int pageNo, int numOfRows) {
-        String url = UriComponentsBuilder
+    private Mono<HaccpResponseCache.CachedResponse> load(String searchParam, String keyword, int pageNo, int numOfRows) {
+        // 캐시(힙/DB) 조회 -> 없을 때만 원격 API 호출(빈 결과도 짧은 TTL로 캐싱)
+        // DB 계층은 블로킹이므로 boundedElastic에서, 원격 호출은 논블로킹으로 수행
+        return Mono.fromCallable(() -> responseCache.lookup(searchParam, keyword, pageNo, numOfRows))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(hit -> hit.map(Mono::just).orElseGet(() -> fetch(searchParam, keyword, pageNo, numOfRows)
+                        .map(this::toCachedResponse)
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(loaded -> responseCache.put(searchParam, keyword, pageNo, numOfRows, loaded))));
+    }
+
+    private Mono<String> fetch(String searchParam, String keyword, int pageNo, int numOfRows) {
+        URI uri = UriComponentsBuilder
                 .fromUriString(baseUrl + "/CertImgListServiceV3/getCertImgListServiceV3")
                 .queryParam("returnType", "xml")
                 .queryParam("pageNo", pageNo)
                 .queryParam("numOfRows", numOfRows)
-                .queryParam("prdlstNm", prdlstNmKeyword)
+                .queryParam(searchParam, keyword)
                 .queryParam("ServiceKey", serviceKey)
                 .build()
-                .toUriString();
-
-        System.out.println("[HACCP 주소] " + maskServiceKey(url));
+                .encode()
+                .toUri();
+
+        System.out.println("[HACCP 주소] " + maskServiceKey(uri.toString()));
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return haccpWebClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(body -> {
+                        if (!body.trim().startsWith("<")) {
+                            throw new IllegalStateException("HACCP API가 XML이 아닌 응답을 반환했습니다: " + body);
+                        }
+                        return body;
+                    })
+                    .doOnSuccess(body -> stopTimer(sample, searchParam, "success"))
+                    .doOnError(error -> stopTimer(sample, searchParam, "error"));
+        });
+    }
 
-        ResponseEntity<String> resp = restTemplate.getForEntity(url, String.class);
+    private void stopTimer(Timer.Sample sample, String searchParam, String outcome) {
+        // 캐시를 지나 실제로 원격 API를 호출한 경우만 기록
+        sample.stop(Timer.builder("haccp.client.requests")
+                .description("HACCP 원격 API 호출 지연 시간")
+                .tag("search", searchParam)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
 
-        String body = Optional.ofNullable(resp.getBody()).orElse("");
-        if (!body.trim().startsWith("<")) {
-            throw new IllegalStateException("HACCP API가 XML이 아닌 응답을 반환했습니다: " + body);
-        }
+    private HaccpResponseCache.CachedResponse toCachedResponse(String body) {
+        JsonNode bodyNode = resolveBody(parse(body));
+        JsonNode item = bodyNode.path("items").path("item");
+        boolean empty = item.isMissingNode() || item.isNull() || (item.isArray() && item.isEmpty());
+        // 오류/쿼터 초과 응답은 캐싱하지 않고, 정상 0건(totalCount=0)만 빈 결과로 캐싱
+        boolean cacheable = !empty || "0".equals(bodyNode.path("totalCount").asText(""));
+        return new HaccpResponseCache.CachedResponse(body, empty, cacheable);
+    }
 
+    private JsonNode parse(String body) {
         try {
             return xmlMapper.readTree(body.getBytes(StandardCharsets.UTF_8));
         } catch (Exception e) {
@@ -83,6 +170,11 @@ public class HaccpCertImgClient {
         }
     }
 
+    private JsonNode resolveBody(JsonNode root) {
+        JsonNode response = root.path("response");
+        return (response.isMissingNode() || response.isNull() ? root : response).path("body");
+    }
+
     private String maskServiceKey(String url) {
         int idx = url.indexOf("ServiceKey=");
         if (idx < 0) return url;
@@ -0,0 +1,192 @@
+// HACCP 검색 응답을 (검색 유형, 키워드, pageNo, numOfRows) 단위로 캐싱한다.
+// 힙 LRU -> Postgres 순으로 조회하고, 빈 결과는 짧은 TTL로 따로 캐싱한다.
+package com.aivle0102.bigproject.client;
+
+import com.aivle0102.bigproject.domain.HaccpSearchCacheEntry;
+import com.aivle0102.bigproject.repository.HaccpSearchCacheRepository;
+import com.aivle0102.bigproject.util.ExpiringLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+@Component
+public class HaccpResponseCache {
+
+    private static final Logger LOGGER = Logger.getLogger(HaccpResponseCache.class.getName());
+    private static final int MAX_KEYWORD_LENGTH = 200;
+
+    private final HaccpSearchCacheRepository repository;
+    private final ExpiringLruCache<String, CachedResponse> memory;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    private final Counter memoryHits;
+    private final Counter dbHits;
+    private final Counter misses;
+    private final Counter dbErrors;
+
+    public record CachedResponse(String body, boolean empty, boolean cacheable) {
+    }
+
+    public HaccpResponseCache(
+            HaccpSearchCacheRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${haccp.cache.enabled:true}") boolean enabled,
+            @Value("${haccp.cache.max-entries:2000}") int maxEntries,
+            @Value("${haccp.cache.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${haccp.cache.negative-ttl-minutes:60}") long negativeTtlMinutes
+    ) {
+        this.repository = repository;
+        this.memory = new ExpiringLruCache<>(maxEntries);
+        this.enabled = enabled;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.negativeTtl = Duration.ofMinutes(negativeTtlMinutes);
+
+        this.memoryHits = lookupCounter(meterRegistry, "memory", "hit");
+        this.dbHits = lookupCounter(meterRegistry, "db", "hit");
+        this.misses = lookupCounter(meterRegistry, "upstream", "miss");
+        this.dbErrors = Counter.builder("haccp.cache.db.errors")
+                .description("HACCP 캐시 DB 계층 조회/저장 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("haccp.cache.memory.size", memory, ExpiringLruCache::size)
+                .description("HACCP 캐시 힙 계층 항목 수")
+                .register(meterRegistry);
+    }
+
+    public CachedResponse get(
+            String searchType,
+            String keyword,
+            int pageNo,
+            int numOfRows,
+            Supplier<CachedResponse> loader
+    ) {
+        // 힙 -> DB -> 원격 API 순으로 조회하고 하위 계층에서 찾으면 상위 계층을 채운다
+        Optional<CachedResponse> cached = lookup(searchType, keyword, pageNo, numOfRows);
+        if (cached.isPresent()) return cached.get();
+        CachedResponse loaded = loader.get();
+        put(searchType, keyword, pageNo, numOfRows, loaded);
+        return loaded;
+    }
+
+    public Optional<CachedResponse> lookup(String searchType, String keyword, int pageNo, int numOfRows) {
+        // 힙 -> DB 순으로 조회(원격 호출은 호출 측에서 비동기로 수행한 뒤 put)
+        if (!isCacheable(keyword)) return Optional.empty();
+
+        String key = cacheKey(searchType, keyword, pageNo, numOfRows);
+
+        Optional<CachedResponse> inMemory = memory.get(key);
+        if (inMemory.isPresent()) {
+            memoryHits.increment();
+            return inMemory;
+        }
+
+        Optional<HaccpSearchCacheEntry> stored = findStored(key);
+        if (stored.isPresent()) {
+            HaccpSearchCacheEntry entry = stored.get();
+            CachedResponse cached = new CachedResponse(entry.getResponseBody(), Boolean.TRUE.equals(entry.getEmptyResult()), true);
+            memory.put(key, cached, entry.getExpiresAt().toInstant(ZoneOffset.UTC));
+            dbHits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String searchType, String keyword, int pageNo, int numOfRows, CachedResponse loaded) {
+        // 빈 결과는 짧은 TTL, 오류 응답(cacheable=false)은 저장하지 않음
+        if (!isCacheable(keyword) || loaded == null || !loaded.cacheable()) return;
+        String key = cacheKey(searchType, keyword, pageNo, numOfRows);
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(loaded.empty() ? negativeTtl : ttl);
+        memory.put(key, loaded, expiresAt);
+        store(key, searchType, keyword, pageNo, numOfRows, loaded, now, expiresAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeExpired() {
+        // 기동 시 만료된 DB 캐시 행 정리(같은 키는 저장 시 덮어쓰므로 미사용 키만 남는다)
+        if (!enabled) return;
+        try {
+            int deleted = repository.deleteExpired(LocalDateTime.now(ZoneOffset.UTC));
+            LOGGER.info(() -> "HACCP 캐시 만료 행 정리: deleted=" + deleted);
+        } catch (RuntimeException e) {
+            dbErrors.increment();
+            LOGGER.warning(() -> "HACCP 캐시 만료 행 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private Optional<HaccpSearchCacheEntry> findStored(String key) {
+        try {
+            return repository.findById(key)
+                    .filter(e -> e.getExpiresAt() != null && e.getExpiresAt().isAfter(LocalDateTime.now(ZoneOffset.UTC)));
+        } catch (RuntimeException e) {
+            // 캐시 계층 장애로 검색 자체가 실패하지 않도록 원격 호출로 진행
+            dbErrors.increment();
+            LOGGER.warning(() -> "HACCP 캐시 DB 조회 실패: key=" + key + " error=" + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(
+            String key,
+            String searchType,
+            String keyword,
+            int pageNo,
+            int numOfRows,
+            CachedResponse response,
+            Instant now,
+            Instant expiresAt
+    ) {
+        try {
+            repository.save(HaccpSearchCacheEntry.builder()
+                    .cacheKey(key)
+                    .searchType(searchType)
+                    .keyword(keyword)
+                    .pageNo(pageNo)
+                    .numOfRows(numOfRows)
+                    .responseBody(response.body())
+                    .emptyResult(response.empty())
+                    .createdAt(LocalDateTime.ofInstant(now, ZoneOffset.UTC))
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC))
+                    .build());
+        } catch (RuntimeException e) {
+            dbErrors.increment();
+            LOGGER.warning(() -> "HACCP 캐시 DB 저장 실패: key=" + key + " error=" + e.getMessage());
+        }
+    }
+
+    private boolean isCacheable(String keyword) {
+        return enabled && keyword != null && !keyword.isBlank() && keyword.length() <= MAX_KEYWORD_LENGTH;
+    }
+
+    private static String cacheKey(String searchType, String keyword, int pageNo, int numOfRows) {
+        return searchType + "|" + normalizeKeyword(keyword) + "|" + pageNo + "|" + numOfRows;
+    }
+
+    // 캐시 키와 진행 중 조회 합류 키가 같은 기준을 쓰도록 공유(앞뒤 공백 제거)
+    static String normalizeKeyword(String keyword) {
+        return keyword == null ? null : keyword.trim();
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("haccp.cache.lookups")
+                .description("HACCP 검색 캐시 조회 결과")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,184 @@
+// 같은 입력이면 같은 결과로 취급할 수 있는 LLM 호출의 응답을 캐싱한다.
+// 키는 (호출 위치, model, messages, temperature, response_format)의 SHA-256이며, 힙 LRU -> Postgres 순으로 조회한다.
+// 호출 위치별 TTL/비활성화: llm.cache.sites.<호출 위치>.ttl-minutes / .enabled
+package com.aivle0102.bigproject.client;
+
+import com.aivle0102.bigproject.domain.LlmResponseCacheEntry;
+import com.aivle0102.bigproject.repository.LlmResponseCacheRepository;
+import com.aivle0102.bigproject.util.ExpiringLruCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+@Component
+public class LlmResponseCache {
+
+    private static final Logger LOGGER = Logger.getLogger(LlmResponseCache.class.getName());
+
+    // 응답을 결정하는 요청 필드(이 외의 필드는 키에 넣지 않는다)
+    private static final String[] KEY_FIELDS = {"model", "messages", "temperature", "response_format"};
+
+    private final LlmResponseCacheRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final ExpiringLruCache<String, String> memory;
+    private final boolean enabled;
+    private final Duration defaultTtl;
+    private final Counter dbErrors;
+    // 키 해시용(맵 키 순서와 무관하게 같은 요청은 같은 JSON이 되도록 정렬)
+    private final ObjectMapper canonicalMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    public LlmResponseCache(
+            LlmResponseCacheRepository repository,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${llm.cache.enabled:true}") boolean enabled,
+            @Value("${llm.cache.max-entries:1000}") int maxEntries,
+            @Value("${llm.cache.ttl-minutes:10080}") long ttlMinutes
+    ) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.memory = new ExpiringLruCache<>(maxEntries);
+        this.enabled = enabled;
+        this.defaultTtl = Duration.ofMinutes(ttlMinutes);
+        this.dbErrors = Counter.builder("llm.cache.db.errors")
+                .description("LLM 응답 캐시 DB 계층 조회/저장 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("llm.cache.memory.size", memory, ExpiringLruCache::size)
+                .description("LLM 응답 캐시 힙 계층 항목 수")
+                .register(meterRegistry);
+    }
+
+    public String get(String callSite, Map<String, Object> body, Supplier<String> loader) {
+        // 힙 -> DB -> OpenAI 순으로 조회하고 하위 계층에서 찾으면 상위 계층을 채운다
+        if (!isEnabled(callSite)) {
+            count(callSite, "none", "bypass");
+            return loader.get();
+        }
+        String key = cacheKey(callSite, body);
+
+        Optional<String> inMemory = memory.get(key);
+        if (inMemory.isPresent()) {
+            count(callSite, "memory", "hit");
+            return inMemory.get();
+        }
+
+        Optional<LlmResponseCacheEntry> stored = findStored(key);
+        if (stored.isPresent()) {
+            LlmResponseCacheEntry entry = stored.get();
+            memory.put(key, entry.getResponseBody(), entry.getExpiresAt().toInstant(ZoneOffset.UTC));
+            count(callSite, "db", "hit");
+            return entry.getResponseBody();
+        }
+
+        count(callSite, "upstream", "miss");
+        String loaded = loader.get();
+        // 빈 응답은 일시 오류일 수 있으므로 저장하지 않는다
+        if (loaded != null && !loaded.isBlank()) {
+            Instant now = Instant.now();
+            Instant expiresAt = now.plus(ttl(callSite));
+            memory.put(key, loaded, expiresAt);
+            store(key, callSite, body, loaded, now, expiresAt);
+        }
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeExpired() {
+        // 기동 시 만료된 DB 캐시 행 정리
+        if (!enabled) return;
+        try {
+            int deleted = repository.deleteExpired(LocalDateTime.now(ZoneOffset.UTC));
+            LOGGER.info(() -> "LLM 응답 캐시 만료 행 정리: deleted=" + deleted);
+        } catch (RuntimeException e) {
+            dbErrors.increment();
+            LOGGER.warning(() -> "LLM 응답 캐시 만료 행 정리 실패: " + e.getMessage());
+        }
+    }
+
+    String cacheKey(String callSite, Map<String, Object> body) {
+        Map<String, Object> keyFields = new LinkedHashMap<>();
+        keyFields.put("site", callSite);
+        for (String field : KEY_FIELDS) {
+            keyFields.put(field, body.get(field));
+        }
+        try {
+            byte[] canonical = canonicalMapper.writeValueAsString(keyFields).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("LLM 캐시 키 생성 실패", e);
+        }
+    }
+
+    private boolean isEnabled(String callSite) {
+        return enabled && environment.getProperty("llm.cache.sites." + callSite + ".enabled", Boolean.class, true);
+    }
+
+    private Duration ttl(String callSite) {
+        Long minutes = environment.getProperty("llm.cache.sites." + callSite + ".ttl-minutes", Long.class);
+        return minutes == null ? defaultTtl : Duration.ofMinutes(minutes);
+    }
+
+    private Optional<LlmResponseCacheEntry> findStored(String key) {
+        try {
+            return repository.findById(key)
+                    .filter(e -> e.getExpiresAt() != null && e.getExpiresAt().isAfter(LocalDateTime.now(ZoneOffset.UTC)));
+        } catch (RuntimeException e) {
+            // 캐시 계층 장애로 호출 자체가 실패하지 않도록 OpenAI 호출로 진행
+            dbErrors.increment();
+            LOGGER.warning(() -> "LLM 응답 캐시 DB 조회 실패: key=" + key + " error=" + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String key, String callSite, Map<String, Object> body, String response, Instant now, Instant expiresAt) {
+        try {
+            Object model = body.get("model");
+            repository.save(LlmResponseCacheEntry.builder()
+                    .cacheKey(key)
+                    .callSite(callSite)
+                    .model(model == null ? null : model.toString())
+                    .responseBody(response)
+                    .createdAt(LocalDateTime.ofInstant(now, ZoneOffset.UTC))
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC))
+                    .build());
+        } catch (RuntimeException e) {
+            dbErrors.increment();
+            LOGGER.warning(() -> "LLM 응답 캐시 DB 저장 실패: key=" + key + " error=" + e.getMessage());
+        }
+    }
+
+    private void count(String callSite, String tier, String result) {
+        Counter.builder("llm.cache.lookups")
+                .description("LLM 응답 캐시 조회 결과(호출 위치별)")
+                .tag("site", callSite)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,35 +1,173 @@
 package com.aivle0102.bigproject.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 // OpenAI 호출 전용 클래스
+// 모든 채팅 호출은 OpenAiRateLimiter 입장 제어를 거치고, 429는 Retry-After/지수 백오프(지터)로 재시도한다.
+// 원격 호출마다 OpenAiMetrics로 호출 위치(caller, 호출 측이 넘기는 고정 이름)/모델별 지연·토큰·오류를 기록한다.
 
 @Component
 public class OpenAiClient {
 
     private final WebClient openAiWebClient;
+    private final OpenAiRateLimiter rateLimiter;
+    private final OpenAiMetrics metrics;
+    private final int maxRetries;
+    private final long backoffBaseMs;
+    private final long defaultCompletionTokens;
+    private final double charsPerToken;
 
-    public OpenAiClient(@Qualifier("openAiWebClient") WebClient openAiWebClient) {
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final String STREAM_DONE = "[DONE]";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // cachedTokens: prompt_tokens 중 프롬프트 캐시에서 읽은 토큰 수(usage.prompt_tokens_details.cached_tokens)
+    private record Completion(String content, long promptTokens, long cachedTokens, long completionTokens, long totalTokens) {
+    }
+
+    public OpenAiClient(
+            @Qualifier("openAiWebClient") WebClient openAiWebClient,
+            OpenAiRateLimiter rateLimiter,
+            OpenAiMetrics metrics,
+            @Value("${openai.rate-limit.max-retries:3}") int maxRetries,
+            @Value("${openai.rate-limit.backoff-base-ms:1000}") long backoffBaseMs,
+            @Value("${openai.rate-limit.default-completion-tokens:1000}") long defaultCompletionTokens,
+            @Value("${openai.rate-limit.chars-per-token:2}") double charsPerToken
+    ) {
         this.openAiWebClient = openAiWebClient;
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
+        this.maxRetries = maxRetries;
+        this.backoffBaseMs = backoffBaseMs;
+        this.defaultCompletionTokens = defaultCompletionTokens;
+        this.charsPerToken = charsPerToken;
+    }
+
+    // caller: 메트릭 caller 태그로 쓰는 호출 위치 이름(예: "report-summary"). 메서드 이름이 바뀌어도 유지되도록 고정 문자열로 넘긴다
+    public String chatCompletion(String caller, Map<String, Object> body) {
+        return chatCompletion(caller, body, null);
+    }
+
+    // 호출별 제한 시간(초과 시 요청을 취소하고 IllegalStateException, 입장 대기 시간은 제외)
+    public String chatCompletion(String caller, Map<String, Object> body, Duration timeout) {
+        return withAdmission("chat", caller, body, () -> {
+            Mono<Completion> request = requestChatCompletion(body);
+            return timeout == null ? request.block() : request.block(timeout);
+        });
+    }
+
+    // 스트리밍 채팅 호출: 응답 조각(delta.content)이 도착할 때마다 onDelta로 넘기고, 완성된 전체 본문을 반환
+    public String chatCompletionStream(String caller, Map<String, Object> body, Consumer<String> onDelta) {
+        Map<String, Object> streamBody = new LinkedHashMap<>(body);
+        streamBody.put("stream", true);
+        streamBody.put("stream_options", Map.of("include_usage", true));
+        return withAdmission("chat.stream", caller, body, () -> streamChatCompletion(streamBody, onDelta));
+    }
+
+    private String withAdmission(String operation, String caller, Map<String, Object> body, Supplier<Completion> call) {
+        long estimatedTokens = estimateTokens(body);
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire(estimatedTokens);
+            OpenAiMetrics.Call measured = metrics.start(operation, body.get("model"), caller);
+            try {
+                Completion completion = call.get();
+                measured.success(completion.promptTokens(), completion.cachedTokens(), completion.completionTokens());
+                rateLimiter.reconcile(estimatedTokens, completion.totalTokens());
+                return completion.content();
+            } catch (WebClientResponseException.TooManyRequests e) {
+                measured.failure(e);
+                // 할당량 소진은 기다려도 풀리지 않으므로 재시도하지 않는다
+                if (attempt >= maxRetries || e.getResponseBodyAsString().contains("insufficient_quota")) {
+                    throw new RuntimeException("OpenAI Rate Limit 초과", e);
+                }
+                Duration backoff = Duration.ofMillis(backoffBaseMs << Math.min(attempt, 10));
+                Duration retryAfter = parseRetryAfter(e.getHeaders());
+                rateLimiter.pauseFor(retryAfter != null && retryAfter.compareTo(backoff) > 0 ? retryAfter : backoff);
+                sleepJitter(backoff);
+            } catch (RuntimeException e) {
+                measured.failure(e);
+                throw e;
+            }
+        }
+    }
+
+    private Completion streamChatCompletion(Map<String, Object> body, Consumer<String> onDelta) {
+        // 429는 본문 전에 상태 코드로 오므로 재시도해도 onDelta가 중복 호출되지 않는다
+        StringBuilder content = new StringBuilder();
+        AtomicReference<JsonNode> usage = new AtomicReference<>();
+        Flux<ServerSentEvent<String>> events = openAiWebClient.post()
+                .uri("/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE);
+        events.takeWhile(event -> !STREAM_DONE.equals(event.data()))
+                .doOnNext(event -> {
+                    String data = event.data();
+                    if (data == null || data.isBlank()) return;
+                    JsonNode chunk = readChunk(data);
+                    if (chunk.path("usage").isObject()) usage.set(chunk.path("usage"));
+                    JsonNode delta = chunk.path("choices").path(0).path("delta").path("content");
+                    if (delta.isTextual() && !delta.asText().isEmpty()) {
+                        content.append(delta.asText());
+                        onDelta.accept(delta.asText());
+                    }
+                })
+                .blockLast();
+        if (content.length() == 0) {
+            throw new RuntimeException("OpenAI 스트리밍 응답이 비어있음");
+        }
+        JsonNode tokens = usage.get();
+        return tokens == null
+                ? new Completion(content.toString(), 0, 0, 0, 0)
+                : new Completion(content.toString(), tokens.path("prompt_tokens").asLong(),
+                tokens.path("prompt_tokens_details").path("cached_tokens").asLong(),
+                tokens.path("completion_tokens").asLong(), tokens.path("total_tokens").asLong());
+    }
+
+    private JsonNode readChunk(String data) {
+        try {
+            return objectMapper.readTree(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("OpenAI 스트리밍 응답 조각을 읽을 수 없습니다.", e);
+        }
     }
 
     @SuppressWarnings("unchecked")
-    public String chatCompletion(Map<String, Object> body) {
+    private Mono<Completion> requestChatCompletion(Map<String, Object> body) {
 
         return openAiWebClient.post()
                 .uri("/chat/completions")
                 .bodyValue(body)
                 .retrieve()
-                .onStatus(
-                        status -> status.value() == 429,
-                        response -> Mono.error(new RuntimeException("OpenAI Rate Limit 초과"))
-                )
                 .bodyToMono(Map.class)
                 .map(res -> {
                     List<Map<String, Object>> choices =
@@ -42,8 +180,63 @@ public class OpenAiClient {
                     Map<String, Object> message =
                             (Map<String, Object>) choices.get(0).get("message");
 
-                    return message.get("content").toString();
-                })
-                .block();
+                    Map<?, ?> usage = res.get("usage") instanceof Map<?, ?> m ? m : Map.of();
+                    Map<?, ?> promptDetails = usage.get("prompt_tokens_details") instanceof Map<?, ?> m ? m : Map.of();
+                    return new Completion(message.get("content").toString(), tokenCount(usage, "prompt_tokens"),
+                            tokenCount(promptDetails, "cached_tokens"),
+                            tokenCount(usage, "completion_tokens"), tokenCount(usage, "total_tokens"));
+                });
+    }
+
+    private static long tokenCount(Map<?, ?> usage, String key) {
+        return usage.get(key) instanceof Number n ? n.longValue() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long estimateTokens(Map<String, Object> body) {
+        // 입력 메시지 글자 수 기반 추정 + 응답 토큰 상한(max_tokens, 없으면 기본값), 응답 usage로 나중에 정산
+        long chars = 0;
+        if (body.get("messages") instanceof List<?> messages) {
+            for (Object message : messages) {
+                if (message instanceof Map<?, ?> m && m.get("content") instanceof String content) {
+                    chars += content.length();
+                }
+            }
+        }
+        long completion = body.get("max_tokens") instanceof Number n ? n.longValue() : defaultCompletionTokens;
+        return (long) Math.ceil(chars / charsPerToken) + completion;
+    }
+
+    private static Duration parseRetryAfter(HttpHeaders headers) {
+        // retry-after-ms(밀리초) -> retry-after(초 또는 HTTP 날짜) 순
+        String millis = headers.getFirst("retry-after-ms");
+        try {
+            if (millis != null) return Duration.ofMillis((long) Double.parseDouble(millis.trim()));
+        } catch (NumberFormatException ignored) {
+        }
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Duration.ofMillis((long) (Double.parseDouble(value.trim()) * 1000));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            Duration until = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    private static void sleepJitter(Duration backoff) {
+        // 동시에 429를 받은 호출들이 같은 시각에 몰리지 않도록 [0, backoff) 무작위 대기
+        long bound = Math.max(backoff.toMillis(), 1);
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(bound));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAI 재시도 대기 중 인터럽트되었습니다.", e);
+        }
     }
 }
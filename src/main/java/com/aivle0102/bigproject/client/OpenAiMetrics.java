@@ -0,0 +1,128 @@
+// OpenAI 호출 계측(Micrometer). 호출 위치(caller)와 모델별로 지연 히스토그램, 토큰 사용량, 오류/429, 진행 중 호출 수를 기록한다.
+// caller는 호출 측이 넘기는 고정 이름(예: "report-summary")이라 코드 이동/이름 변경에도 대시보드 태그가 유지된다.
+package com.aivle0102.bigproject.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class OpenAiMetrics {
+
+    private final MeterRegistry meterRegistry;
+    // operation|model|caller -> 진행 중 호출 수(게이지는 키마다 한 번만 등록)
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public OpenAiMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 원격 호출 1회(재시도는 각각 별도 호출) 시작. 반환된 Call로 성공/실패를 한 번만 기록한다.
+    public Call start(String operation, Object model, String caller) {
+        String modelTag = model == null ? "unknown" : model.toString();
+        String callerTag = caller == null || caller.isBlank() ? "unknown" : caller;
+        Tags tags = Tags.of("operation", operation, "model", modelTag, "caller", callerTag);
+        AtomicInteger gauge = inFlight.computeIfAbsent(operation + "|" + modelTag + "|" + callerTag, key -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("openai.client.inflight", counter, AtomicInteger::get)
+                    .description("응답을 기다리는 중인 OpenAI 호출 수")
+                    .tags(tags)
+                    .register(meterRegistry);
+            return counter;
+        });
+        gauge.incrementAndGet();
+        return new Call(tags, gauge, System.nanoTime());
+    }
+
+    public final class Call {
+
+        private final Tags tags;
+        private final AtomicInteger gauge;
+        private final long startNanos;
+        private boolean finished;
+
+        private Call(Tags tags, AtomicInteger gauge, long startNanos) {
+            this.tags = tags;
+            this.gauge = gauge;
+            this.startNanos = startNanos;
+        }
+
+        public void success(long promptTokens, long completionTokens) {
+            success(promptTokens, 0, completionTokens);
+        }
+
+        // cachedTokens는 promptTokens에 포함된 캐시 적중분이라 prompt와 따로 더하지 않는다(적중률 = cached / prompt)
+        public void success(long promptTokens, long cachedTokens, long completionTokens) {
+            if (!finish("success", "200")) return;
+            if (promptTokens > 0) tokens("prompt").increment(promptTokens);
+            if (cachedTokens > 0) tokens("cached").increment(cachedTokens);
+            if (completionTokens > 0) tokens("completion").increment(completionTokens);
+        }
+
+        public void failure(Throwable error) {
+            String status = statusOf(error);
+            boolean rateLimited = "429".equals(status);
+            if (!finish(rateLimited ? "rate_limited" : "error", status)) return;
+            if (rateLimited) {
+                Counter.builder("openai.client.rate.limited")
+                        .description("429 응답을 받은 OpenAI 호출 수")
+                        .tags(tags)
+                        .register(meterRegistry)
+                        .increment();
+            }
+            Counter.builder("openai.client.errors")
+                    .description("실패한 OpenAI 호출 수(상태 코드별, 429 포함)")
+                    .tags(tags)
+                    .tag("status", status)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        private boolean finish(String outcome, String status) {
+            if (finished) return false;
+            finished = true;
+            gauge.decrementAndGet();
+            Timer.builder("openai.client.requests")
+                    .description("OpenAI 원격 호출 지연 시간(재시도는 각각 기록, 입장 대기 시간 제외)")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return true;
+        }
+
+        private Counter tokens(String type) {
+            return Counter.builder("openai.client.tokens")
+                    .description("OpenAI 응답 usage 기준 토큰 수")
+                    .baseUnit("tokens")
+                    .tags(tags)
+                    .tag("type", type)
+                    .register(meterRegistry);
+        }
+    }
+
+    static String statusOf(Throwable error) {
+        // 원인 사슬에서 HTTP 상태를 찾고, 없으면 예외 종류(타임아웃 등)로 구분
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException e) return String.valueOf(e.getStatusCode().value());
+            if (t instanceof TimeoutException) return "timeout";
+            // Mono.block(timeout) 초과는 IllegalStateException으로 온다
+            if (t instanceof IllegalStateException && String.valueOf(t.getMessage()).startsWith("Timeout on blocking read")) {
+                return "timeout";
+            }
+        }
+        return "io";
+    }
+}
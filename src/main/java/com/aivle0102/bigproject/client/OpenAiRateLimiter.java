@@ -0,0 +1,167 @@
+// OpenAI 호출 입장 제어(분당 요청 수/분당 토큰 수 버킷 + 429 Retry-After 일시 정지).
+// 모든 채팅 호출은 OpenAiClient를 거쳐 여기서 차례를 기다리고, 대기열이 가득 차거나 대기 한도를 넘으면 거절한다.
+package com.aivle0102.bigproject.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class OpenAiRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final boolean enabled;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+
+    private final Bucket requestBucket;
+    private final Bucket tokenBucket;
+
+    // 도착 순서대로 한 명씩 버킷을 기다린다(공정 락)
+    private final ReentrantLock admission = new ReentrantLock(true);
+    private final Semaphore queueSlots;
+    // 429 Retry-After 이후까지 모든 호출을 멈춘다
+    private final AtomicLong pausedUntilNanos = new AtomicLong(System.nanoTime());
+
+    private final Timer throttled;
+    private final Counter rejected;
+    private final Counter pauses;
+
+    public OpenAiRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${openai.rate-limit.enabled:true}") boolean enabled,
+            @Value("${openai.rate-limit.requests-per-minute:500}") long requestsPerMinute,
+            @Value("${openai.rate-limit.tokens-per-minute:200000}") long tokensPerMinute,
+            @Value("${openai.rate-limit.max-queued:100}") int maxQueued,
+            @Value("${openai.rate-limit.max-wait-ms:120000}") long maxWaitMs
+    ) {
+        this.enabled = enabled;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.requestBucket = new Bucket(requestsPerMinute);
+        this.tokenBucket = new Bucket(tokensPerMinute);
+        this.queueSlots = new Semaphore(maxQueued);
+
+        this.throttled = Timer.builder("openai.gateway.throttled")
+                .description("OpenAI 호출이 입장 제어에서 기다린 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("openai.gateway.rejected")
+                .description("대기열 초과/대기 한도 초과로 거절된 OpenAI 호출 수")
+                .register(meterRegistry);
+        this.pauses = Counter.builder("openai.gateway.pauses")
+                .description("429 응답으로 전체 호출을 일시 정지한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("openai.gateway.queue.depth", this, OpenAiRateLimiter::queueDepth)
+                .description("입장 제어에서 대기 중인 OpenAI 호출 수")
+                .register(meterRegistry);
+    }
+
+    public void acquire(long estimatedTokens) {
+        // 요청 1건 + 예상 토큰만큼 버킷에서 차감될 때까지 대기
+        if (!enabled) return;
+        if (!queueSlots.tryAcquire()) {
+            rejected.increment();
+            throw new IllegalStateException("OpenAI 요청 대기열이 가득 찼습니다.");
+        }
+        long start = System.nanoTime();
+        long deadline = start + maxWaitNanos;
+        try {
+            if (!admission.tryLock(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw waitExceeded();
+            }
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    long waitNanos = Math.max(pausedUntilNanos.get() - now, 0);
+                    waitNanos = Math.max(waitNanos, requestBucket.nanosUntilAvailable(1, now));
+                    waitNanos = Math.max(waitNanos, tokenBucket.nanosUntilAvailable(estimatedTokens, now));
+                    if (waitNanos <= 0) {
+                        requestBucket.take(1);
+                        tokenBucket.take(estimatedTokens);
+                        return;
+                    }
+                    if (now + waitNanos > deadline) {
+                        throw waitExceeded();
+                    }
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            } finally {
+                admission.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAI 요청 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            queueSlots.release();
+            throttled.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void reconcile(long estimatedTokens, long actualTokens) {
+        // 응답 usage 기준으로 예상 토큰과의 차이를 돌려주거나 추가 차감
+        if (!enabled || actualTokens <= 0) return;
+        tokenBucket.take(actualTokens - estimatedTokens);
+    }
+
+    public void pauseFor(Duration delay) {
+        // 429 응답 시 모든 호출을 delay만큼 멈춘다(이미 더 긴 정지가 있으면 유지)
+        if (!enabled || delay.isZero() || delay.isNegative()) return;
+        long until = System.nanoTime() + delay.toNanos();
+        pausedUntilNanos.accumulateAndGet(until, (current, next) -> next - current > 0 ? next : current);
+        pauses.increment();
+    }
+
+    public int queueDepth() {
+        return maxQueued - queueSlots.availablePermits();
+    }
+
+    // 분당 한도를 용량으로, 나노초 단위로 연속 충전되는 버킷(토큰 정산으로 음수가 될 수 있음)
+    private static final class Bucket {
+
+        private final long capacity;
+        private final double refillPerNano;
+        private double available;
+        private long lastRefillNanos;
+
+        Bucket(long perMinute) {
+            this.capacity = Math.max(perMinute, 1);
+            this.refillPerNano = (double) this.capacity / NANOS_PER_MINUTE;
+            this.available = this.capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized long nanosUntilAvailable(long amount, long now) {
+            refill(now);
+            // 용량보다 큰 요청은 가득 찼을 때 통과시킨다(영원히 대기하지 않도록)
+            double needed = Math.min(amount, capacity) - available;
+            if (needed <= 0) return 0;
+            return (long) Math.ceil(needed / refillPerNano);
+        }
+
+        synchronized void take(long amount) {
+            available = Math.min(capacity, available - amount);
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed <= 0) return;
+            available = Math.min(capacity, available + elapsed * refillPerNano);
+            lastRefillNanos = now;
+        }
+    }
+
+    private IllegalStateException waitExceeded() {
+        rejected.increment();
+        return new IllegalStateException("OpenAI 요청 대기 시간이 한도를 초과했습니다.");
+    }
+}
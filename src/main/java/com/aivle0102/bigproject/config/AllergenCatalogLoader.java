@@ -2,7 +2,10 @@
 // 국가명/규정 문구도 함께 관리한다.
 package com.aivle0102.bigproject.config;
 
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -24,9 +28,16 @@ import lombok.Getter;
 @Component
 public class AllergenCatalogLoader {
 
+    private static final Logger LOGGER = Logger.getLogger(AllergenCatalogLoader.class.getName());
+    static final String SNAPSHOT_NAME = "allergen";
+
     @Value("${allergen.catalog-path}")
     private Resource allergenCatalogResource;
 
+    // 빌드 시 생성되는 스냅샷(없거나 오래되면 JSON으로 로드)
+    @Value("${allergen.snapshot-path:classpath:data/snapshot/allergen.bin}")
+    private Resource snapshotResource;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // countryCode -> 표준 알레르겐 이름 (예: "US" -> ["Milk","Egg",...])
@@ -47,8 +58,67 @@ public class AllergenCatalogLoader {
 
     public AllergenCatalogLoader() {}
 
+    // 스냅샷 컴파일러 전용(JSON만 사용)
+    AllergenCatalogLoader(Resource allergenCatalogResource) {
+        this.allergenCatalogResource = allergenCatalogResource;
+    }
+
     @jakarta.annotation.PostConstruct
     public void load() {
+        long started = System.nanoTime();
+        boolean fromSnapshot = CatalogSnapshot.read(snapshotResource, SNAPSHOT_NAME,
+                new Resource[]{allergenCatalogResource}, this::readSnapshot);
+        if (!fromSnapshot) {
+            loadJson();
+        }
+        LOGGER.info(() -> "알레르겐 카탈로그 로드: source=" + (fromSnapshot ? "snapshot" : "json")
+                + " countries=" + countryToAllergens.size()
+                + " elapsedMs=" + (System.nanoTime() - started) / 1_000_000);
+    }
+
+    void writeSnapshot(Path target) throws IOException {
+        CatalogSnapshot.write(target, SNAPSHOT_NAME, CatalogSnapshot.checksum(allergenCatalogResource), out -> {
+            CatalogSnapshot.writeStrings(out, glutenCereals);
+            out.writeInt(countryToAllergens.size());
+            for (Map.Entry<String, List<String>> e : countryToAllergens.entrySet()) {
+                out.writeUTF(e.getKey());
+                CatalogSnapshot.writeStrings(out, e.getValue());
+            }
+            out.writeInt(countryToName.size());
+            for (Map.Entry<String, String> e : countryToName.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeUTF(e.getValue());
+            }
+            out.writeInt(countryToLegalBasis.size());
+            for (Map.Entry<String, List<String>> e : countryToLegalBasis.entrySet()) {
+                out.writeUTF(e.getKey());
+                CatalogSnapshot.writeStrings(out, e.getValue());
+            }
+        });
+    }
+
+    private void readSnapshot(DataInputStream in) throws IOException {
+        List<String> gluten = CatalogSnapshot.readStrings(in);
+        Map<String, List<String>> map = new HashMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            map.put(in.readUTF(), CatalogSnapshot.readStrings(in));
+        }
+        Map<String, String> countryNames = new HashMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            countryNames.put(in.readUTF(), in.readUTF());
+        }
+        Map<String, List<String>> basisMap = new HashMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            basisMap.put(in.readUTF(), CatalogSnapshot.readStrings(in));
+        }
+
+        this.glutenCereals = gluten;
+        this.countryToAllergens = map;
+        this.countryToName = countryNames;
+        this.countryToLegalBasis = basisMap;
+    }
+
+    private void loadJson() {
         try (InputStream is = allergenCatalogResource.getInputStream()) {
             JsonNode root = objectMapper.readTree(is);
             Map<String, List<String>> map = new HashMap<>();
@@ -0,0 +1,117 @@
+// 카탈로그 로더가 공유하는 바이너리 스냅샷 포맷.
+// 빌드 시 JSON을 정규화된 상태로 미리 컴파일해 두고, 기동 시에는 스트림으로 바로 읽는다.
+package com.aivle0102.bigproject.config;
+
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+final class CatalogSnapshot {
+
+    private static final Logger LOGGER = Logger.getLogger(CatalogSnapshot.class.getName());
+
+    // 'ACSN'
+    private static final int MAGIC = 0x4143534E;
+    // 스냅샷 레이아웃이나 정규화 규칙이 바뀌면 올린다
+    static final int FORMAT_VERSION = 1;
+
+    @FunctionalInterface
+    interface BodyWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface BodyReader {
+        void read(DataInputStream in) throws IOException;
+    }
+
+    private CatalogSnapshot() {
+    }
+
+    static long checksum(Resource... sources) throws IOException {
+        // 원본 JSON 바이트의 CRC32 (스냅샷이 원본보다 오래됐는지 판별)
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+        for (Resource source : sources) {
+            try (InputStream is = source.getInputStream()) {
+                int n;
+                while ((n = is.read(buffer)) > 0) {
+                    crc.update(buffer, 0, n);
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    static void write(Path target, String catalogName, long sourceChecksum, BodyWriter body) throws IOException {
+        Files.createDirectories(target.getParent());
+        try (OutputStream os = Files.newOutputStream(target);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(catalogName);
+            out.writeLong(sourceChecksum);
+            body.write(out);
+        }
+    }
+
+    static boolean read(Resource snapshot, String catalogName, Resource[] sources, BodyReader body) {
+        // 스냅샷이 없거나 버전/원본 체크섬이 다르면 false (호출 측에서 JSON으로 폴백)
+        if (snapshot == null || !snapshot.exists()) return false;
+        try (InputStream is = snapshot.getInputStream();
+             DataInputStream in = new DataInputStream(new BufferedInputStream(is, 64 * 1024))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !catalogName.equals(in.readUTF())) {
+                LOGGER.warning(() -> "카탈로그 스냅샷 버전 불일치, JSON으로 로드: " + snapshot);
+                return false;
+            }
+            long expected = in.readLong();
+            if (expected != checksum(sources)) {
+                LOGGER.warning(() -> "카탈로그 스냅샷이 원본보다 오래됨, JSON으로 로드: " + snapshot);
+                return false;
+            }
+            body.read(in);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning(() -> "카탈로그 스냅샷 읽기 실패, JSON으로 로드: " + snapshot + " error=" + e.getMessage());
+            return false;
+        }
+    }
+
+    static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String v : values) {
+            out.writeUTF(v);
+        }
+    }
+
+    static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            out.add(in.readUTF());
+        }
+        return out;
+    }
+
+    static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
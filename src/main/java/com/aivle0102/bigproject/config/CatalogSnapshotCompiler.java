@@ -0,0 +1,39 @@
+// 빌드 단계(compileCatalogSnapshots 태스크)에서 실행되는 카탈로그 스냅샷 생성기.
+// 각 로더로 JSON을 한 번 로드한 뒤, 정규화가 끝난 상태를 바이너리 스냅샷으로 기록한다.
+package com.aivle0102.bigproject.config;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public final class CatalogSnapshotCompiler {
+
+    private CatalogSnapshotCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        // args[0]: JSON이 있는 data 디렉터리, args[1]: 스냅샷 출력 디렉터리
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: CatalogSnapshotCompiler <dataDir> <outputDir>");
+        }
+        Path dataDir = Path.of(args[0]);
+        Path outputDir = Path.of(args[1]);
+
+        RawProduceCatalogLoader rawProduce = new RawProduceCatalogLoader(
+                new FileSystemResource(dataDir.resolve("raw_produce_catalog.json")),
+                new FileSystemResource(dataDir.resolve("raw_produce_seafood_category.json")));
+        rawProduce.load();
+        rawProduce.writeSnapshot(outputDir.resolve(RawProduceCatalogLoader.SNAPSHOT_NAME + ".bin"));
+
+        ProcessedFoodsCatalogLoader processedFoods = new ProcessedFoodsCatalogLoader(
+                new FileSystemResource(dataDir.resolve("processed_foods_catalog.json")));
+        processedFoods.load();
+        processedFoods.writeSnapshot(outputDir.resolve(ProcessedFoodsCatalogLoader.SNAPSHOT_NAME + ".bin"));
+
+        AllergenCatalogLoader allergen = new AllergenCatalogLoader(
+                new FileSystemResource(dataDir.resolve("allergen.json")));
+        allergen.load();
+        allergen.writeSnapshot(outputDir.resolve(AllergenCatalogLoader.SNAPSHOT_NAME + ".bin"));
+    }
+}
@@ -0,0 +1,97 @@
+// 서비스별 작업 스레드 풀 설정.
+// 스레드 이름("<용도>-N", 데몬)과 종료 처리를 여기서 한 번에 관리하고, 서비스는 이름으로 주입받아 쓰기만 한다.
+// 기본 주입 후보에서 빼 두어(defaultCandidate = false) 스프링 기본 applicationTaskExecutor 구성에는 영향을 주지 않는다.
+package com.aivle0102.bigproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Configuration
+public class ExecutorConfig {
+
+    public static final String ALLERGEN_INGREDIENT_EXECUTOR = "allergenIngredientExecutor";
+    public static final String ALLERGEN_BATCH_EXECUTOR = "allergenBatchExecutor";
+    public static final String PERSONA_EVALUATION_EXECUTOR = "personaEvaluationExecutor";
+    public static final String PERSONA_GENERATION_EXECUTOR = "personaGenerationExecutor";
+    public static final String REPORT_STREAM_EXECUTOR = "reportStreamExecutor";
+    public static final String REPORT_SECTION_EXECUTOR = "reportSectionExecutor";
+    public static final String RECIPE_PIPELINE_EXECUTOR = "recipePipelineExecutor";
+    public static final String REPORT_JOB_EXECUTOR = "reportJobExecutor";
+    public static final String REPORT_JOB_SCHEDULER = "reportJobScheduler";
+
+    // HACCP 단계에서 재료를 동시에 탐색할 최대 개수
+    @Bean(name = ALLERGEN_INGREDIENT_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService allergenIngredientExecutor(@Value("${allergen.analysis.ingredient-parallelism:4}") int parallelism) {
+        return daemonPool("allergen-ingredient", parallelism);
+    }
+
+    // 배치에서 동시에 분석하는 레시피 수
+    @Bean(name = ALLERGEN_BATCH_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService allergenBatchExecutor(@Value("${allergen.batch.parallelism:4}") int parallelism) {
+        return daemonPool("allergen-batch", parallelism);
+    }
+
+    @Bean(name = PERSONA_EVALUATION_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService personaEvaluationExecutor(@Value("${evaluation.persona-parallelism:5}") int parallelism) {
+        return daemonPool("persona-evaluation", parallelism);
+    }
+
+    @Bean(name = PERSONA_GENERATION_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService personaGenerationExecutor(@Value("${persona.generation-parallelism:5}") int parallelism) {
+        return daemonPool("persona-generation", parallelism);
+    }
+
+    @Bean(name = REPORT_STREAM_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService reportStreamExecutor(@Value("${report.stream.parallelism:4}") int parallelism) {
+        return daemonPool("report-stream", parallelism);
+    }
+
+    // sections 모드에서만 사용(single 모드면 스레드가 만들어지지 않는다)
+    @Bean(name = REPORT_SECTION_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService reportSectionExecutor(@Value("${report.generation.section-parallelism:7}") int parallelism) {
+        return daemonPool("report-section", parallelism);
+    }
+
+    // create 파이프라인에서 서로 독립적인 외부 호출 단계를 동시에 돌릴 풀
+    @Bean(name = RECIPE_PIPELINE_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService recipePipelineExecutor(@Value("${recipe.pipeline.parallelism:4}") int parallelism) {
+        return daemonPool("recipe-pipeline", parallelism);
+    }
+
+    // 보고서 작업 워커. 종료 시 드레인은 ReportJobWorker가 먼저 처리하고, 여기서는 남은 스레드만 정리한다
+    @Bean(name = REPORT_JOB_EXECUTOR, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ExecutorService reportJobExecutor(@Value("${report.job.workers:2}") int workers) {
+        return daemonPool("report-job", workers);
+    }
+
+    @Bean(name = REPORT_JOB_SCHEDULER, destroyMethod = "shutdownNow", defaultCandidate = false)
+    public ScheduledExecutorService reportJobScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(daemonThreads("report-job-poller"));
+    }
+
+    // 이름이 "<namePrefix>-N"인 데몬 스레드 고정 풀(1 이하면 스레드 1개로 순차 처리). 스레드는 작업이 들어올 때 만들어진다
+    public static ExecutorService daemonPool(String namePrefix, int size) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, size), daemonThreads(() -> namePrefix + "-" + seq.incrementAndGet()));
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return daemonThreads(() -> name);
+    }
+
+    private static ThreadFactory daemonThreads(Supplier<String> names) {
+        return r -> {
+            Thread t = new Thread(r, names.get());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
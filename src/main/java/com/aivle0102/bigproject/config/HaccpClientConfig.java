@@ -0,0 +1,57 @@
+// HACCP(data.go.kr) 호출 전용 WebClient 설정.
+// keep-alive 커넥션 풀의 최대 연결 수가 곧 data.go.kr 전체 동시 호출 상한이 된다.
+package com.aivle0102.bigproject.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class HaccpClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider haccpConnectionProvider(
+            @Value("${haccp.http.max-connections:8}") int maxConnections,
+            @Value("${haccp.http.pending-acquire-timeout-ms:10000}") long pendingAcquireTimeoutMs,
+            @Value("${haccp.http.max-idle-seconds:30}") long maxIdleSeconds
+    ) {
+        // 연결이 모두 사용 중이면 대기열에서 기다리고, 대기 시간을 넘기면 실패
+        return ConnectionProvider.builder("haccp")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .build();
+    }
+
+    @Bean
+    public WebClient haccpWebClient(
+            @Qualifier("haccpConnectionProvider") ConnectionProvider connectionProvider,
+            @Value("${haccp.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${haccp.http.response-timeout-ms:10000}") long responseTimeoutMs
+    ) {
+        int maxInMemory = 2 * 1024 * 1024;
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(maxInMemory))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .build();
+    }
+}
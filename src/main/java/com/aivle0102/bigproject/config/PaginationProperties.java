@@ -0,0 +1,27 @@
+// 목록 API 페이지 크기 설정(요청값이 없으면 기본값, 최대값을 넘으면 최대값)
+package com.aivle0102.bigproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaginationProperties {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PaginationProperties(
+            @Value("${pagination.default-size:50}") int defaultSize,
+            @Value("${pagination.max-size:200}") int maxSize
+    ) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int resolveSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+}
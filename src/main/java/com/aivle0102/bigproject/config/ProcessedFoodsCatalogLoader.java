@@ -2,6 +2,7 @@
 // 품목명/대표식품명/분류 정보를 메모리로 제공한다.
 package com.aivle0102.bigproject.config;
 
+import com.aivle0102.bigproject.util.TextNormalizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
@@ -9,21 +10,27 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.LinkedHashSet;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.logging.Logger;
 
 @Component
 public class ProcessedFoodsCatalogLoader {
 
+    private static final Logger LOGGER = Logger.getLogger(ProcessedFoodsCatalogLoader.class.getName());
+    static final String SNAPSHOT_NAME = "processed_foods";
+
     private static final double PRDKIND_THRESHOLD = 0.80;
     private static final double PRDLSTNM_THRESHOLD = 0.75;
     private static final int MAX_CANDIDATES = 5;
@@ -38,13 +45,43 @@ public class ProcessedFoodsCatalogLoader {
     @Value("${processed-foods.catalog-path:classpath:data/processed_foods_catalog.json}")
     private Resource catalogResource;
 
+    // 빌드 시 생성되는 정규화 스냅샷(없거나 오래되면 JSON으로 로드)
+    @Value("${processed-foods.snapshot-path:classpath:data/snapshot/processed_foods.bin}")
+    private Resource snapshotResource;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Getter
     private List<ProcessedFoodEntry> entries = List.of();
 
+    // 로딩 시점에 정규화해 둔 후보 색인(prdkind: 가공식품품목명, prdlstNm: 대표식품명)
+    private NameIndex processedNameIndex = NameIndex.build(List.of());
+    private NameIndex representativeNameIndex = NameIndex.build(List.of());
+
+    // 유제품 분류에 속한 품목명/대표식품명의 정규화 값
+    private Set<String> dairyNormalizedNames = Set.of();
+
+    public ProcessedFoodsCatalogLoader() {}
+
+    // 스냅샷 컴파일러 전용(JSON만 사용)
+    ProcessedFoodsCatalogLoader(Resource catalogResource) {
+        this.catalogResource = catalogResource;
+    }
+
     @jakarta.annotation.PostConstruct
     public void load() {
+        long started = System.nanoTime();
+        boolean fromSnapshot = CatalogSnapshot.read(snapshotResource, SNAPSHOT_NAME,
+                new Resource[]{catalogResource}, this::readSnapshot);
+        if (!fromSnapshot) {
+            loadJson();
+        }
+        LOGGER.info(() -> "가공식품 카탈로그 로드: source=" + (fromSnapshot ? "snapshot" : "json")
+                + " entries=" + entries.size()
+                + " elapsedMs=" + (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void loadJson() {
         List<ProcessedFoodEntry> out = new ArrayList<>();
         try (InputStream is = catalogResource.getInputStream()) {
             JsonNode root = objectMapper.readTree(is);
@@ -68,6 +105,70 @@ public class ProcessedFoodsCatalogLoader {
         }
 
         this.entries = out;
+        buildIndexes(out);
+    }
+
+    void writeSnapshot(Path target) throws IOException {
+        // 원본 항목 + 이름별 정규화 값 + 유제품 이름 집합을 그대로 기록
+        CatalogSnapshot.write(target, SNAPSHOT_NAME, CatalogSnapshot.checksum(catalogResource), out -> {
+            out.writeInt(entries.size());
+            for (ProcessedFoodEntry e : entries) {
+                CatalogSnapshot.writeNullable(out, e.getProcessedName());
+                CatalogSnapshot.writeNullable(out, e.getRepresentativeName());
+                CatalogSnapshot.writeNullable(out, e.getMajorCategory());
+                CatalogSnapshot.writeNullable(out, e.getMinorCategory());
+            }
+            processedNameIndex.write(out);
+            representativeNameIndex.write(out);
+            CatalogSnapshot.writeStrings(out, dairyNormalizedNames);
+        });
+    }
+
+    private void readSnapshot(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<ProcessedFoodEntry> loaded = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            loaded.add(new ProcessedFoodEntry(
+                    CatalogSnapshot.readNullable(in),
+                    CatalogSnapshot.readNullable(in),
+                    CatalogSnapshot.readNullable(in),
+                    CatalogSnapshot.readNullable(in)
+            ));
+        }
+        NameIndex processed = NameIndex.read(in);
+        NameIndex representative = NameIndex.read(in);
+        Set<String> dairy = new HashSet<>(CatalogSnapshot.readStrings(in));
+
+        this.entries = loaded;
+        this.processedNameIndex = processed;
+        this.representativeNameIndex = representative;
+        this.dairyNormalizedNames = dairy;
+    }
+
+    private void buildIndexes(List<ProcessedFoodEntry> loaded) {
+        // 이름별 최초 등장 순서를 유지해 색인 구성(후보 점수 맵의 삽입 순서를 기존과 동일하게 유지)
+        Map<String, String> processedNames = new LinkedHashMap<>();
+        Map<String, String> representativeNames = new LinkedHashMap<>();
+        Set<String> dairy = new HashSet<>();
+
+        for (ProcessedFoodEntry e : loaded) {
+            String processed = safe(e.getProcessedName());
+            String representative = safe(e.getRepresentativeName());
+            if (!processed.isBlank()) {
+                processedNames.putIfAbsent(processed, normalizeForCompare(processed));
+            }
+            if (!representative.isBlank()) {
+                representativeNames.putIfAbsent(representative, normalizeForCompare(representative));
+            }
+            if (isDairyCategory(e)) {
+                dairy.add(normalizeForCompare(e.getProcessedName()));
+                dairy.add(normalizeForCompare(e.getRepresentativeName()));
+            }
+        }
+
+        this.processedNameIndex = NameIndex.build(new ArrayList<>(processedNames.entrySet()));
+        this.representativeNameIndex = NameIndex.build(new ArrayList<>(representativeNames.entrySet()));
+        this.dairyNormalizedNames = dairy;
     }
 
     public Optional<String> matchDirectFromCatalog(String ingredientName) {
@@ -75,16 +176,8 @@ public class ProcessedFoodsCatalogLoader {
         String normalized = normalizeForCompare(ingredientName);
         if (normalized.isBlank()) return Optional.empty();
 
-        for (ProcessedFoodEntry e : entries) {
-            String processed = normalizeForCompare(e.getProcessedName());
-            String representative = normalizeForCompare(e.getRepresentativeName());
-
-            if (!normalized.isBlank() &&
-                    (normalized.equals(processed) || normalized.equals(representative))) {
-                if (isDairyCategory(e)) {
-                    return Optional.of("Milk");
-                }
-            }
+        if (dairyNormalizedNames.contains(normalized)) {
+            return Optional.of("Milk");
         }
 
         return Optional.empty();
@@ -100,23 +193,8 @@ public class ProcessedFoodsCatalogLoader {
             return new CatalogSearchPlan(List.of(), List.of());
         }
 
-        Map<String, Double> prdkindScores = new HashMap<>();
-        Map<String, Double> prdlstScores = new HashMap<>();
-
-        for (ProcessedFoodEntry e : entries) {
-            String processed = safe(e.getProcessedName());
-            String representative = safe(e.getRepresentativeName());
-
-            double processedScore = similarityScore(normalized, normalizeForCompare(processed));
-            double repScore = similarityScore(normalized, normalizeForCompare(representative));
-
-            if (!processed.isBlank() && processedScore >= PRDKIND_THRESHOLD) {
-                prdkindScores.merge(processed, processedScore, Math::max);
-            }
-            if (!representative.isBlank() && repScore >= PRDLSTNM_THRESHOLD) {
-                prdlstScores.merge(representative, repScore, Math::max);
-            }
-        }
+        Map<String, Double> prdkindScores = processedNameIndex.scoreAbove(normalized, PRDKIND_THRESHOLD);
+        Map<String, Double> prdlstScores = representativeNameIndex.scoreAbove(normalized, PRDLSTNM_THRESHOLD);
 
         List<String> prdkindCandidates = topCandidates(prdkindScores, MAX_CANDIDATES);
         List<String> prdlstNmCandidates = topCandidates(prdlstScores, MAX_CANDIDATES);
@@ -141,81 +219,181 @@ public class ProcessedFoodsCatalogLoader {
                 .toList();
     }
 
-    private double similarityScore(String a, String b) {
-        if (a.isBlank() || b.isBlank()) return 0.0;
-        if (a.equals(b)) return 1.0;
-
-        double containsScore = (a.contains(b) || b.contains(a)) ? 0.9 : 0.0;
-        double jaccard = jaccardScore(a, b);
-        double edit = normalizedEditScore(a, b);
-        return Math.max(containsScore, Math.max(jaccard, edit));
+    private static String normalizeForCompare(String text) {
+        // 소문자화 후 문자/숫자만 남김
+        return TextNormalizer.compareKey(text);
     }
 
-    private double jaccardScore(String a, String b) {
-        Set<String> at = tokenize(a);
-        Set<String> bt = tokenize(b);
-        if (at.isEmpty() || bt.isEmpty()) return 0.0;
-
-        Set<String> inter = new HashSet<>(at);
-        inter.retainAll(bt);
-        Set<String> union = new HashSet<>(at);
-        union.addAll(bt);
-        return union.isEmpty() ? 0.0 : ((double) inter.size() / (double) union.size());
+    private static String safe(String text) {
+        return text == null ? "" : text.trim();
     }
 
-    private double normalizedEditScore(String a, String b) {
-        int maxLen = Math.max(a.length(), b.length());
-        if (maxLen == 0) return 0.0;
-        int dist = levenshtein(a, b);
-        return 1.0 - ((double) dist / (double) maxLen);
+    private String text(JsonNode node, String key) {
+        if (node == null) return null;
+        JsonNode v = node.get(key);
+        return (v == null || v.isNull()) ? null : v.asText();
     }
 
-    private int levenshtein(String a, String b) {
-        int[] prev = new int[b.length() + 1];
-        int[] curr = new int[b.length() + 1];
+    /**
+     * 정규화된 이름 목록에 대한 문자 단위 역색인.
+     * 질의 문자와 겹치는 이름만 후보로 좁히고, 임계값 안에서만 편집거리를 계산한다.
+     * 점수는 기존 유사도(완전 일치 1.0, 포함 0.9, 정규화 편집거리 중 최댓값)와 동일하다.
+     */
+    static final class NameIndex {
+        private final String[] names;
+        private final String[] normalized;
+        // 문자 -> (이름 id, 해당 문자 등장 횟수) 목록. id 오름차순
+        private final Map<Character, int[][]> postings;
+
+        private NameIndex(String[] names, String[] normalized, Map<Character, int[][]> postings) {
+            this.names = names;
+            this.normalized = normalized;
+            this.postings = postings;
+        }
+
+        static NameIndex build(List<Map.Entry<String, String>> nameToNormalized) {
+            int size = nameToNormalized.size();
+            String[] names = new String[size];
+            String[] normalized = new String[size];
+            Map<Character, List<int[]>> building = new HashMap<>();
+
+            for (int id = 0; id < size; id++) {
+                Map.Entry<String, String> entry = nameToNormalized.get(id);
+                names[id] = entry.getKey();
+                normalized[id] = entry.getValue();
+
+                Map<Character, Integer> counts = new LinkedHashMap<>();
+                for (int i = 0; i < normalized[id].length(); i++) {
+                    counts.merge(normalized[id].charAt(i), 1, Integer::sum);
+                }
+                for (Map.Entry<Character, Integer> c : counts.entrySet()) {
+                    building.computeIfAbsent(c.getKey(), k -> new ArrayList<>()).add(new int[]{id, c.getValue()});
+                }
+            }
 
-        for (int j = 0; j <= b.length(); j++) {
-            prev[j] = j;
+            Map<Character, int[][]> postings = new HashMap<>();
+            for (Map.Entry<Character, List<int[]>> e : building.entrySet()) {
+                postings.put(e.getKey(), e.getValue().toArray(new int[0][]));
+            }
+            return new NameIndex(names, normalized, postings);
         }
 
-        for (int i = 1; i <= a.length(); i++) {
-            curr[0] = i;
-            for (int j = 1; j <= b.length(); j++) {
-                int cost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
-                curr[j] = Math.min(
-                        Math.min(curr[j - 1] + 1, prev[j] + 1),
-                        prev[j - 1] + cost
-                );
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(names.length);
+            for (int id = 0; id < names.length; id++) {
+                out.writeUTF(names[id]);
+                out.writeUTF(normalized[id]);
             }
-            int[] tmp = prev;
-            prev = curr;
-            curr = tmp;
         }
-        return prev[b.length()];
-    }
 
-    private Set<String> tokenize(String text) {
-        String normalized = text.replaceAll("[^\\p{L}\\p{Nd}]+", " ").trim();
-        if (normalized.isBlank()) return Set.of();
-        return new LinkedHashSet<>(Arrays.asList(normalized.split("\\s+")));
-    }
+        static NameIndex read(DataInputStream in) throws IOException {
+            // 정규화 값은 스냅샷에서 그대로 쓰고 posting 목록만 다시 구성
+            int size = in.readInt();
+            List<Map.Entry<String, String>> pairs = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                pairs.add(Map.entry(in.readUTF(), in.readUTF()));
+            }
+            return build(pairs);
+        }
 
-    private String normalizeForCompare(String text) {
-        if (text == null) return "";
-        String cleaned = text.toLowerCase(Locale.ROOT)
-                .replaceAll("[^\\p{L}\\p{Nd}]+", "")
-                .trim();
-        return cleaned;
-    }
+        Map<String, Double> scoreAbove(String query, double threshold) {
+            // 1) 질의의 서로 다른 문자마다 posting을 합쳐 이름별 "질의 문자에 속한 위치 수"를 센다
+            int[] shared = new int[names.length];
+            boolean[] seen = new boolean[names.length];
+            List<Integer> touched = new ArrayList<>();
+            Set<Character> queryChars = new HashSet<>();
+            for (int i = 0; i < query.length(); i++) {
+                char c = query.charAt(i);
+                if (!queryChars.add(c)) continue;
+                int[][] list = postings.get(c);
+                if (list == null) continue;
+                for (int[] posting : list) {
+                    int id = posting[0];
+                    if (!seen[id]) {
+                        seen[id] = true;
+                        touched.add(id);
+                    }
+                    shared[id] += posting[1];
+                }
+            }
 
-    private String safe(String text) {
-        return text == null ? "" : text.trim();
-    }
+            // 2) 기존 전수 탐색과 같은 삽입 순서를 위해 id 오름차순으로 점수 계산
+            touched.sort(null);
+            Map<String, Double> scores = new HashMap<>();
+            int la = query.length();
+            for (int id : touched) {
+                String candidate = normalized[id];
+                int lb = candidate.length();
+                int maxLen = Math.max(la, lb);
+
+                double score;
+                if (query.equals(candidate)) {
+                    score = 1.0;
+                } else if (query.contains(candidate) || candidate.contains(query)) {
+                    // 포함 관계면 편집거리는 길이 차이와 같다
+                    score = Math.max(0.9, editScore(Math.abs(la - lb), maxLen));
+                } else {
+                    int maxDist = maxDistanceFor(maxLen, threshold);
+                    // 편집거리 d 이내라면 후보의 최소 lb - d 개 위치는 질의 문자와 일치해야 한다
+                    if (shared[id] < lb - maxDist) continue;
+                    int dist = boundedLevenshtein(query, candidate, maxDist);
+                    if (dist > maxDist) continue;
+                    score = editScore(dist, maxLen);
+                }
+                if (score >= threshold) {
+                    scores.merge(names[id], score, Math::max);
+                }
+            }
+            return scores;
+        }
 
-    private String text(JsonNode node, String key) {
-        if (node == null) return null;
-        JsonNode v = node.get(key);
-        return (v == null || v.isNull()) ? null : v.asText();
+        private static double editScore(int dist, int maxLen) {
+            return 1.0 - ((double) dist / (double) maxLen);
+        }
+
+        private static int maxDistanceFor(int maxLen, double threshold) {
+            // editScore(d, maxLen) >= threshold 를 만족하는 최대 d (부동소수 비교까지 동일하게 판정)
+            int d = Math.min(maxLen, (int) Math.ceil((1.0 - threshold) * maxLen) + 1);
+            while (d > 0 && editScore(d, maxLen) < threshold) d--;
+            return d;
+        }
+
+        static int boundedLevenshtein(String a, String b, int maxDist) {
+            // 대각선 폭 maxDist 밴드만 계산하고, 행 최솟값이 maxDist를 넘으면 즉시 중단(maxDist + 1 반환)
+            int la = a.length();
+            int lb = b.length();
+            if (Math.abs(la - lb) > maxDist) return maxDist + 1;
+
+            int inf = maxDist + 1;
+            int[] prev = new int[lb + 1];
+            int[] curr = new int[lb + 1];
+            for (int j = 0; j <= lb; j++) {
+                prev[j] = j <= maxDist ? j : inf;
+            }
+
+            for (int i = 1; i <= la; i++) {
+                int from = Math.max(1, i - maxDist);
+                int to = Math.min(lb, i + maxDist);
+                curr[0] = i <= maxDist ? i : inf;
+                if (from > 1) curr[from - 1] = inf;
+                int rowMin = curr[0];
+                for (int j = from; j <= to; j++) {
+                    int cost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
+                    int v = Math.min(
+                            Math.min(curr[j - 1] + 1, prev[j] + 1),
+                            prev[j - 1] + cost
+                    );
+                    curr[j] = Math.min(v, inf);
+                    rowMin = Math.min(rowMin, curr[j]);
+                }
+                if (to < lb) curr[to + 1] = inf;
+                if (rowMin > maxDist) return inf;
+                int[] tmp = prev;
+                prev = curr;
+                curr = tmp;
+            }
+            return Math.min(prev[lb], inf);
+        }
     }
 
     public static class ProcessedFoodEntry {
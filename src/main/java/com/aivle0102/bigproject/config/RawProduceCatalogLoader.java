@@ -2,6 +2,7 @@
 // 원재료성 식품은 JSON, 수산물은 분류 JSON으로 카테고리를 매칭한다.
 package com.aivle0102.bigproject.config;
 
+import com.aivle0102.bigproject.util.TextNormalizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
@@ -9,6 +10,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -16,10 +20,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.logging.Logger;
 
 @Component
 public class RawProduceCatalogLoader {
 
+    private static final Logger LOGGER = Logger.getLogger(RawProduceCatalogLoader.class.getName());
+    static final String SNAPSHOT_NAME = "raw_produce";
+
     // 원재료성 식품 JSON 경로(기본값: resources/data/raw_produce_catalog.json)
     @Value("${raw-produce.catalog-path:classpath:data/raw_produce_catalog.json}")
     private Resource catalogResource;
@@ -28,6 +36,10 @@ public class RawProduceCatalogLoader {
     @Value("${raw-produce.seafood-category-path:classpath:data/raw_produce_seafood_category.json}")
     private Resource seafoodCategoryResource;
 
+    // 빌드 시 생성되는 정규화 스냅샷(없거나 오래되면 JSON으로 로드)
+    @Value("${raw-produce.snapshot-path:classpath:data/snapshot/raw_produce.bin}")
+    private Resource snapshotResource;
+
     // 원재료성 식품 사전(식품명/대표식품명/중분류/소분류 포함)
     @Getter
     private final Set<String> rawProduceNames = new HashSet<>();
@@ -38,10 +50,49 @@ public class RawProduceCatalogLoader {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public RawProduceCatalogLoader() {}
+
+    // 스냅샷 컴파일러 전용(JSON만 사용)
+    RawProduceCatalogLoader(Resource catalogResource, Resource seafoodCategoryResource) {
+        this.catalogResource = catalogResource;
+        this.seafoodCategoryResource = seafoodCategoryResource;
+    }
+
     @jakarta.annotation.PostConstruct
     public void load() {
-        loadRawProduceJson();
-        loadSeafoodCategoryJson();
+        long started = System.nanoTime();
+        boolean fromSnapshot = CatalogSnapshot.read(snapshotResource, SNAPSHOT_NAME,
+                new Resource[]{catalogResource, seafoodCategoryResource}, this::readSnapshot);
+        if (!fromSnapshot) {
+            loadRawProduceJson();
+            loadSeafoodCategoryJson();
+        }
+        LOGGER.info(() -> "원물 카탈로그 로드: source=" + (fromSnapshot ? "snapshot" : "json")
+                + " names=" + rawProduceNames.size()
+                + " seafood=" + seafoodCategoryByName.size()
+                + " elapsedMs=" + (System.nanoTime() - started) / 1_000_000);
+    }
+
+    void writeSnapshot(Path target) throws IOException {
+        CatalogSnapshot.write(target, SNAPSHOT_NAME, CatalogSnapshot.checksum(catalogResource, seafoodCategoryResource), out -> {
+            CatalogSnapshot.writeStrings(out, rawProduceNames);
+            out.writeInt(seafoodCategoryByName.size());
+            for (Map.Entry<String, SeafoodCategory> e : seafoodCategoryByName.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeUTF(e.getValue().name());
+            }
+        });
+    }
+
+    private void readSnapshot(DataInputStream in) throws IOException {
+        List<String> names = CatalogSnapshot.readStrings(in);
+        int seafoodSize = in.readInt();
+        Map<String, SeafoodCategory> seafood = new HashMap<>(seafoodSize * 2);
+        for (int i = 0; i < seafoodSize; i++) {
+            seafood.put(in.readUTF(), SeafoodCategory.valueOf(in.readUTF()));
+        }
+        rawProduceNames.addAll(names);
+        seafoodCategoryByName.putAll(seafood);
     }
 
     private void loadRawProduceJson() {
@@ -121,13 +172,8 @@ public class RawProduceCatalogLoader {
     }
 
     private String normalizeKey(String value) {
-        if (value == null) return "";
-        String cleaned = value.replace("﻿", "")
-                .replace("_", " ")
-                .trim();
-        cleaned = cleaned.replaceAll("\\([^)]*\\)", " ");
-        cleaned = cleaned.replaceAll("\\s+", " ").trim();
-        return cleaned;
+        // BOM/밑줄/괄호 묶음 제거 후 공백 정리
+        return TextNormalizer.catalogKey(value);
     }
 
     private List<String> splitCommaList(String value) {
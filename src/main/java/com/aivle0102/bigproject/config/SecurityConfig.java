@@ -3,6 +3,7 @@ package com.aivle0102.bigproject.config;
 import java.util.Arrays;
 import java.util.List;
 
+import com.aivle0102.bigproject.dto.KeysetPage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -109,6 +110,8 @@ public class SecurityConfig {
                 configuration.setAllowedOrigins(allowedOrigins);
                 configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
                 configuration.setAllowedHeaders(List.of("*"));
+                // 목록 API의 다음 페이지 커서 헤더를 브라우저에서 읽을 수 있도록 노출
+                configuration.setExposedHeaders(List.of(KeysetPage.NEXT_CURSOR_HEADER));
                 configuration.setAllowCredentials(true);
 
                 UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
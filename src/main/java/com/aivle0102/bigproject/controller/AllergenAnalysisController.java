@@ -3,18 +3,38 @@
 package com.aivle0102.bigproject.controller;
 
 import com.aivle0102.bigproject.dto.AllergenAnalysisResponse;
+import com.aivle0102.bigproject.dto.MultiCountryRequest;
 import com.aivle0102.bigproject.dto.ReportRequest;
 import com.aivle0102.bigproject.service.AllergenAnalysisService;
+import com.aivle0102.bigproject.service.AllergenBatchService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/allergen")
 @RequiredArgsConstructor
 public class AllergenAnalysisController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final AllergenAnalysisService allergenAnalysisService;
+    private final AllergenBatchService allergenBatchService;
+
+    // 배치 스트리밍 응답 제한 시간(이 엔드포인트에만 적용, 다른 비동기 응답은 기본값 사용)
+    @Value("${allergen.batch.timeout-ms:1800000}")
+    private long batchTimeoutMs;
 
     @PostMapping("/analyze")
     public ResponseEntity<AllergenAnalysisResponse> analyze(@RequestBody ReportRequest request) {
@@ -22,4 +42,24 @@ public class AllergenAnalysisController {
         AllergenAnalysisResponse resp = allergenAnalysisService.analyze(request);
         return ResponseEntity.ok(resp);
     }
+
+    @PostMapping("/analyze/countries")
+    public ResponseEntity<Map<String, AllergenAnalysisResponse>> analyzeForCountries(@RequestBody MultiCountryRequest request) {
+        // recipe 하나를 countries 각각의 의무 알레르기 기준으로 분석(국가 코드 -> 결과)
+        List<String> ingredients = request.getRecipe() == null ? List.of() : List.of(request.getRecipe());
+        List<String> countries = request.getCountries() == null ? List.of() : request.getCountries();
+        return ResponseEntity.ok(allergenAnalysisService.analyzeForCountries(ingredients, new LinkedHashSet<>(countries)));
+    }
+
+    @PostMapping(value = "/analyze/batch", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> analyzeBatch(HttpServletRequest request) throws IOException {
+        // 본문: [{recipeId, ingredients, targetCountry}, ...] 배열 또는 NDJSON
+        // 응답: 레시피별 결과를 완료 순서대로 한 줄씩 스트리밍
+        InputStream jobs = request.getInputStream();
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(batchTimeoutMs);
+        StreamingResponseBody body = out -> allergenBatchService.analyzeBatch(jobs, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
 }
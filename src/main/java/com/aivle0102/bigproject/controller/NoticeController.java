@@ -23,9 +23,13 @@ public class NoticeController {
     private final NoticeService noticeService;
 
     @GetMapping
-    public ResponseEntity<List<NoticeResponse>> getNotices(Principal principal) {
+    public ResponseEntity<List<NoticeResponse>> getNotices(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            Principal principal
+    ) {
         String userId = principal == null ? null : principal.getName();
-        return ResponseEntity.ok(noticeService.getNotices(userId));
+        return noticeService.getNotices(userId, cursor, size).toResponseEntity();
     }
 
     @GetMapping("/{noticeId}")
@@ -1,26 +1,36 @@
 package com.aivle0102.bigproject.controller;
 
 import com.aivle0102.bigproject.dto.RecipeCreateRequest;
+import com.aivle0102.bigproject.dto.RecipeListItemResponse;
 import com.aivle0102.bigproject.dto.RecipePublishRequest;
 import com.aivle0102.bigproject.dto.RecipeResponse;
 import com.aivle0102.bigproject.dto.RecipeTargetRecommendRequest;
 import com.aivle0102.bigproject.dto.RecipeTargetRecommendResponse;
+import com.aivle0102.bigproject.dto.ReportJobResponse;
 import com.aivle0102.bigproject.dto.VisibilityUpdateRequest;
 import com.aivle0102.bigproject.service.RecipeService;
 import com.aivle0102.bigproject.service.RecipeTargetRecommendationService;
+import com.aivle0102.bigproject.service.ReportJobService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 
+import java.net.URI;
 import java.security.Principal;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.List;
 
 @RestController
@@ -30,6 +40,7 @@ public class RecipeController {
 
     private final RecipeService recipeService;
     private final RecipeTargetRecommendationService recipeTargetRecommendationService;
+    private final ReportJobService reportJobService;
 
     @PostMapping
     public ResponseEntity<RecipeResponse> create(@RequestBody RecipeCreateRequest request, Principal principal) {
@@ -40,14 +51,39 @@ public class RecipeController {
         return ResponseEntity.ok(response);
     }
 
+    // 레시피만 바로 저장하고 보고서/알레르기/평가 생성은 작업으로 등록(202 + 작업 ID)
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobResponse> createWithReportJob(@RequestBody RecipeCreateRequest request, Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ReportJobResponse job = reportJobService.submitRecipeCreation(principal.getName(), request);
+        return ResponseEntity.accepted().location(URI.create("/api/report-jobs/" + job.getJobId())).body(job);
+    }
+
     @GetMapping
-    public ResponseEntity<List<RecipeResponse>> getAll(Principal principal) {
+    public ResponseEntity<List<RecipeListItemResponse>> getAll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            Principal principal
+    ) {
         String requester = principal == null ? null : principal.getName();
-        return ResponseEntity.ok(recipeService.getAll(requester));
+        return recipeService.getAll(requester, cursor, size).toResponseEntity();
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<RecipeListItemResponse>> search(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            Principal principal
+    ) {
+        String requester = principal == null ? null : principal.getName();
+        return recipeService.search(requester, query, cursor, size).toResponseEntity();
     }
 
     @GetMapping("/me")
-    public ResponseEntity<List<RecipeResponse>> getMine(Principal principal) {
+    public ResponseEntity<List<RecipeListItemResponse>> getMine(Principal principal) {
         if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -60,6 +96,15 @@ public class RecipeController {
         return ResponseEntity.ok(recipeService.getOne(id, requester));
     }
 
+    // 목록 카드 썸네일용 이미지(data URL로 저장된 값을 바이너리로 변환)
+    @GetMapping("/{id}/image")
+    public ResponseEntity<byte[]> getImage(@PathVariable("id") Long id, Principal principal) {
+        String requester = principal == null ? null : principal.getName();
+        return recipeService.getImage(id, requester)
+                .map(RecipeController::toImageResponse)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @PutMapping("/{id}/publish")
     public ResponseEntity<RecipeResponse> publish(
             @PathVariable("id") Long id,
@@ -113,6 +158,33 @@ public class RecipeController {
         return ResponseEntity.noContent().build();
     }
 
+    private static ResponseEntity<byte[]> toImageResponse(String image) {
+        MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
+        String data = image.trim();
+        int comma = data.indexOf(',');
+        if (data.startsWith("data:") && comma > 0) {
+            String meta = data.substring("data:".length(), comma);
+            int semicolon = meta.indexOf(';');
+            String type = semicolon < 0 ? meta : meta.substring(0, semicolon);
+            try {
+                mediaType = MediaType.parseMediaType(type);
+            } catch (InvalidMediaTypeException e) {
+                // 형식이 이상하면 바이너리로 내려준다
+            }
+            data = data.substring(comma + 1);
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(data);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePrivate())
+                .body(bytes);
+    }
+
     @PostMapping("/recommend-targets")
     public ResponseEntity<RecipeTargetRecommendResponse> recommendTargets(@RequestBody RecipeTargetRecommendRequest request) {
         return ResponseEntity.ok(recipeTargetRecommendationService.recommend(request));
@@ -2,12 +2,16 @@ package com.aivle0102.bigproject.controller;
 
 import com.aivle0102.bigproject.dto.ReportCreateRequest;
 import com.aivle0102.bigproject.dto.ReportDetailResponse;
+import com.aivle0102.bigproject.dto.ReportJobResponse;
 import com.aivle0102.bigproject.dto.ReportListItem;
 import com.aivle0102.bigproject.dto.RecipePublishRequest;
 import com.aivle0102.bigproject.dto.VisibilityUpdateRequest;
 import com.aivle0102.bigproject.service.RecipeService;
+import com.aivle0102.bigproject.service.ReportJobService;
+import com.aivle0102.bigproject.service.ReportStreamingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,7 +20,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.security.Principal;
 import java.util.List;
 
@@ -25,6 +31,8 @@ import java.util.List;
 public class RecipeReportController {
 
     private final RecipeService recipeService;
+    private final ReportStreamingService reportStreamingService;
+    private final ReportJobService reportJobService;
 
     @GetMapping("/api/recipes/{id}/reports")
     public ResponseEntity<List<ReportListItem>> getReports(@PathVariable("id") Long id, Principal principal) {
@@ -44,6 +52,41 @@ public class RecipeReportController {
         return ResponseEntity.ok(recipeService.createReport(id, principal.getName(), request));
     }
 
+    // 보고서 생성 스트리밍(SSE): section 이벤트로 완성된 섹션을 먼저 보내고, 저장 후 complete 이벤트로 상세를 보낸다
+    @PostMapping(value = "/api/recipes/{id}/reports/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamReport(
+            @PathVariable("id") Long id,
+            @RequestBody(required = false) ReportCreateRequest request,
+            Principal principal
+    ) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(reportStreamingService.streamReport(id, principal.getName(), request));
+    }
+
+    // 보고서 생성 작업 등록: 202와 작업 ID를 바로 돌려주고, 생성은 워커가 진행한다(GET /api/report-jobs/{jobId}로 상태 확인)
+    @PostMapping("/api/recipes/{id}/reports/jobs")
+    public ResponseEntity<ReportJobResponse> submitReportJob(
+            @PathVariable("id") Long id,
+            @RequestBody(required = false) ReportCreateRequest request,
+            Principal principal
+    ) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ReportJobResponse job = reportJobService.submit(id, principal.getName(), request);
+        return ResponseEntity.accepted().location(URI.create("/api/report-jobs/" + job.getJobId())).body(job);
+    }
+
+    @GetMapping("/api/report-jobs/{jobId}")
+    public ResponseEntity<ReportJobResponse> getReportJob(@PathVariable("jobId") Long jobId, Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(reportJobService.getJob(jobId, principal.getName()));
+    }
+
     @GetMapping("/api/reports/{reportId}")
     public ResponseEntity<ReportDetailResponse> getReportDetail(@PathVariable("reportId") Long reportId, Principal principal) {
         String requester = principal == null ? null : principal.getName();
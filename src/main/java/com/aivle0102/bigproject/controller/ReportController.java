@@ -1,17 +1,21 @@
 package com.aivle0102.bigproject.controller;
 
+import com.aivle0102.bigproject.config.PaginationProperties;
 import com.aivle0102.bigproject.domain.MarketReport;
 import com.aivle0102.bigproject.domain.UserInfo;
 import com.aivle0102.bigproject.dto.FinalEvaluationRequest;
 import com.aivle0102.bigproject.dto.FinalEvaluationResponse;
+import com.aivle0102.bigproject.dto.KeysetPage;
 import com.aivle0102.bigproject.dto.ReportDetailResponse;
 import com.aivle0102.bigproject.dto.ReportListItemResponse;
 import com.aivle0102.bigproject.dto.ReportRequest;
 import com.aivle0102.bigproject.repository.MarketReportRepository;
 import com.aivle0102.bigproject.repository.UserInfoRepository;
 import com.aivle0102.bigproject.service.AiReportService;
+import com.aivle0102.bigproject.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.security.Principal;
@@ -35,6 +40,7 @@ public class ReportController {
     private final AiReportService aiReportService;
     private final MarketReportRepository marketReportRepository;
     private final UserInfoRepository userInfoRepository;
+    private final PaginationProperties paginationProperties;
     private final com.aivle0102.bigproject.service.RecipeService recipeService;
     private static final String REPORT_TYPE_FINAL = "FINAL_EVALUATION";
 
@@ -45,14 +51,26 @@ public class ReportController {
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<ReportListItemResponse>> list(Principal principal) {
+    public ResponseEntity<List<ReportListItemResponse>> list(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            Principal principal
+    ) {
         String userId = principal == null ? null : principal.getName();
         Long companyId = userId == null ? null
                 : userInfoRepository.findByUserId(userId).map(UserInfo::getCompanyId).orElse(null);
-        List<MarketReport> reports = companyId == null
-                ? marketReportRepository.findAllByOrderByCreatedAtDesc()
-                : marketReportRepository.findByRecipe_CompanyIdOrderByCreatedAtDesc(companyId);
-        return ResponseEntity.ok(reports.stream().map(ReportListItemResponse::from).toList());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolveSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<ReportListItemResponse> reports = companyId == null
+                ? marketReportRepository.findPage(after.createdAt(), after.id(), limit)
+                : marketReportRepository.findPageByCompanyId(companyId, after.createdAt(), after.id(), limit);
+        return KeysetPage.of(
+                reports,
+                pageSize,
+                report -> new KeysetCursor(report.getCreatedAt(), report.getReportId()),
+                page -> page
+        ).toResponseEntity();
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,53 @@
+package com.aivle0102.bigproject.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "haccp_search_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HaccpSearchCacheEntry {
+
+    // searchType|keyword|pageNo|numOfRows
+    @Id
+    @Column(name = "cache_key", length = 300)
+    private String cacheKey;
+
+    @Column(name = "search_type", length = 20, nullable = false)
+    private String searchType;
+
+    @Column(name = "keyword", length = 200, nullable = false)
+    private String keyword;
+
+    @Column(name = "page_no", nullable = false)
+    private Integer pageNo;
+
+    @Column(name = "num_of_rows", nullable = false)
+    private Integer numOfRows;
+
+    // HACCP XML 응답 원문
+    @Column(name = "response_body", columnDefinition = "TEXT", nullable = false)
+    private String responseBody;
+
+    @Column(name = "empty_result", nullable = false)
+    private Boolean emptyResult;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.aivle0102.bigproject.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "llm_response_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LlmResponseCacheEntry {
+
+    // SHA-256(호출 위치, model, messages, temperature, response_format)
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "call_site", length = 50, nullable = false)
+    private String callSite;
+
+    @Column(name = "model", length = 100)
+    private String model;
+
+    @Column(name = "response_body", columnDefinition = "TEXT", nullable = false)
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
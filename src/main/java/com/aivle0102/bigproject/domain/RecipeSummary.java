@@ -0,0 +1,84 @@
+package com.aivle0102.bigproject.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 레시피 카드용 읽기 모델. 레시피/재료/리포트/알레르기 정보를 한 행에 모아 두고
+// RecipeService의 쓰기 트랜잭션 안에서 함께 갱신한다(RecipeSummaryService).
+// 작성자 이름은 레시피 쓰기와 무관하게 바뀌므로 담지 않고 목록 조회 시 userinfo에서 가져온다
+@Entity
+@Table(name = "recipe_summary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeSummary {
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(name = "recipe_name", nullable = false, length = 200)
+    private String recipeName;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "open_yn", nullable = false, length = 1, columnDefinition = "CHAR(1)")
+    private String openYn;
+
+    @Column(name = "has_image", nullable = false)
+    private boolean hasImage;
+
+    @Column(name = "ingredients", columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<String> ingredients;
+
+    // 매칭된 알레르기 성분(중복 제거)
+    @Column(name = "allergens", columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<String> allergens;
+
+    // 최신 AI 리포트
+    @Column(name = "latest_report_id")
+    private Long latestReportId;
+
+    @Column(name = "latest_report_summary", columnDefinition = "TEXT")
+    private String latestReportSummary;
+
+    // 검색 대상 텍스트(제목, 설명, 재료, 알레르기, 공개 AI 리포트 요약). search_vector/trigram 인덱스의 원본
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    // 공개된 AI 리포트가 있어 허브 목록에 노출되는지
+    @Column(name = "hub_visible", nullable = false)
+    private boolean hubVisible;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,96 @@
+package com.aivle0102.bigproject.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "report_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJob {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    // 다음에 실행할 단계
+    public static final String STAGE_GENERATE = "GENERATE";
+    public static final String STAGE_PERSIST = "PERSIST";
+    public static final String STAGE_DONE = "DONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    @Column(name = "requester_id", nullable = false, length = 50)
+    private String requesterId;
+
+    // ReportCreateRequest 원문(JSON)
+    @Column(name = "request_json", columnDefinition = "TEXT")
+    private String requestJson;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "stage", nullable = false, length = 20)
+    private String stage;
+
+    // GENERATE 단계 체크포인트
+    @Column(name = "report_json", columnDefinition = "TEXT")
+    private String reportJson;
+
+    @Column(name = "summary", columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "allergen_json", columnDefinition = "TEXT")
+    private String allergenJson;
+
+    @Column(name = "consumers_json", columnDefinition = "TEXT")
+    private String consumersJson;
+
+    @Column(name = "report_id")
+    private Long reportId;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "run_after", nullable = false)
+    private LocalDateTime runAfter;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -4,12 +4,14 @@ package com.aivle0102.bigproject.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 import java.util.Map;
 
 @Getter
 @Builder
+@Jacksonized
 public class AllergenAnalysisResponse {
     private String targetCountry;
 
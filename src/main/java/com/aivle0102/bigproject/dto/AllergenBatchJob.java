@@ -0,0 +1,18 @@
+// 배치 알레르기 분석의 레시피 단위 작업 DTO.
+// JSON 배열 또는 NDJSON 한 줄로 전달된다.
+package com.aivle0102.bigproject.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AllergenBatchJob {
+    private Long recipeId;
+    private List<String> ingredients;
+    private String targetCountry;
+}
@@ -0,0 +1,14 @@
+// 배치 알레르기 분석의 레시피 단위 결과 DTO(NDJSON 한 줄).
+// 실패한 작업은 result 없이 error만 채운다.
+package com.aivle0102.bigproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AllergenBatchResult {
+    private Long recipeId;
+    private AllergenAnalysisResponse result;
+    private String error;
+}
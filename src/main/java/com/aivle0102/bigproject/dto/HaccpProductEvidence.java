@@ -4,9 +4,11 @@ package com.aivle0102.bigproject.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class HaccpProductEvidence {
     private String prdlstReportNo; // 품목보고번호
     private String prdlstNm;       // 제품명
@@ -4,11 +4,13 @@ package com.aivle0102.bigproject.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class IngredientEvidence {
     private String ingredient;
 
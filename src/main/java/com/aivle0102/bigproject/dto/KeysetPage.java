@@ -0,0 +1,35 @@
+package com.aivle0102.bigproject.dto;
+
+import com.aivle0102.bigproject.util.KeysetCursor;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지 결과. nextCursor가 null이면 마지막 페이지
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    // 다음 페이지 커서를 내려주는 응답 헤더(본문은 기존과 같은 배열)
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // 페이지 크기 + 1건을 조회한 결과에서 다음 페이지 존재 여부를 판단해 잘라낸다
+    public static <E, T> KeysetPage<T> of(
+            List<E> rows,
+            int size,
+            Function<E, KeysetCursor> cursorOf,
+            Function<List<E>, List<T>> mapper
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new KeysetPage<>(mapper.apply(page), nextCursor);
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (nextCursor != null) {
+            ok.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return ok.body(items);
+    }
+}
@@ -0,0 +1,49 @@
+package com.aivle0102.bigproject.dto;
+
+import com.aivle0102.bigproject.domain.RecipeSummary;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 레시피 목록 항목(recipe_summary 읽기 모델). 이미지(image_base64)와 리포트 본문은 싣지 않고,
+// 이미지는 hasImage일 때 /api/recipes/{id}/image로 따로 받는다
+@Getter
+@AllArgsConstructor
+public class RecipeListItemResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private String status;
+    private String openYn;
+    @JsonProperty("user_id")
+    private String userId;
+    @JsonProperty("user_name")
+    private String userName;
+    private LocalDateTime createdAt;
+    private boolean hasImage;
+    private List<String> ingredients;
+    private List<String> allergens;
+    private Long latestReportId;
+    private String summary;
+
+    public static RecipeListItemResponse from(RecipeSummary summary, String userName) {
+        return new RecipeListItemResponse(
+                summary.getRecipeId(),
+                summary.getRecipeName(),
+                summary.getDescription(),
+                summary.getStatus(),
+                summary.getOpenYn(),
+                summary.getUserId(),
+                userName,
+                summary.getCreatedAt(),
+                summary.isHasImage(),
+                summary.getIngredients() == null ? List.of() : summary.getIngredients(),
+                summary.getAllergens() == null ? List.of() : summary.getAllergens(),
+                summary.getLatestReportId(),
+                summary.getLatestReportSummary()
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.aivle0102.bigproject.dto;
+
+import com.aivle0102.bigproject.domain.ReportJob;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ReportJobResponse {
+    private Long jobId;
+    private Long recipeId;
+    private String status;
+    private String stage;
+    private Long reportId;
+    private Integer attempts;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static ReportJobResponse from(ReportJob job) {
+        return new ReportJobResponse(
+                job.getId(),
+                job.getRecipeId(),
+                job.getStatus(),
+                job.getStage(),
+                job.getReportId(),
+                job.getAttempts(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -1,35 +1,20 @@
 package com.aivle0102.bigproject.dto;
 
-import com.aivle0102.bigproject.domain.MarketReport;
-import com.aivle0102.bigproject.domain.Recipe;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+// 리포트 목록 항목(JPQL 생성자 표현식으로 조회). 리포트 본문과 레시피 이미지는 싣지 않는다
 @Getter
 @AllArgsConstructor
 public class ReportListItemResponse {
     private Long reportId;
     private Long recipeId;
     private String recipeTitle;
-    private String recipeImageBase64;
+    private boolean recipeHasImage;
     private String summary;
     private String reportType;
     private String reportOpenYn;
     private LocalDateTime createdAt;
-
-    public static ReportListItemResponse from(MarketReport report) {
-        Recipe recipe = report == null ? null : report.getRecipe();
-        return new ReportListItemResponse(
-                report == null ? null : report.getId(),
-                recipe == null ? null : recipe.getId(),
-                recipe == null ? null : recipe.getRecipeName(),
-                recipe == null ? null : recipe.getImageBase64(),
-                report == null ? null : report.getSummary(),
-                report == null ? null : report.getReportType(),
-                report == null ? null : report.getOpenYn(),
-                report == null ? null : report.getCreatedAt()
-        );
-    }
 }
@@ -0,0 +1,16 @@
+package com.aivle0102.bigproject.repository;
+
+import com.aivle0102.bigproject.domain.HaccpSearchCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface HaccpSearchCacheRepository extends JpaRepository<HaccpSearchCacheEntry, String> {
+    @Modifying
+    @Transactional
+    @Query("delete from HaccpSearchCacheEntry e where e.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
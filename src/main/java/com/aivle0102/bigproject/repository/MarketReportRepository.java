@@ -1,9 +1,15 @@
 package com.aivle0102.bigproject.repository;
 
 import com.aivle0102.bigproject.domain.MarketReport;
+import com.aivle0102.bigproject.dto.ReportListItem;
+import com.aivle0102.bigproject.dto.ReportListItemResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +20,56 @@ public interface MarketReportRepository extends JpaRepository<MarketReport, Long
     Optional<MarketReport> findTopByRecipe_IdAndReportTypeOrderByCreatedAtDesc(Long recipeId, String reportType);
     List<MarketReport> findByRecipe_IdAndReportTypeOrderByCreatedAtDesc(Long recipeId, String reportType);
     List<MarketReport> findByRecipe_IdOrderByCreatedAtDesc(Long recipeId);
-    List<MarketReport> findByRecipe_IdAndOpenYnOrderByCreatedAtDesc(Long recipeId, String openYn);
+
+    // 레시피 상세의 리포트 목록(요약 컬럼만)
+    @Query("""
+            select new com.aivle0102.bigproject.dto.ReportListItem(r.id, r.reportType, r.summary, r.openYn, r.createdAt)
+            from MarketReport r
+            where r.recipe.id = :recipeId and upper(r.reportType) = upper(:reportType)
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReportListItem> findListItemsByRecipeId(@Param("recipeId") Long recipeId, @Param("reportType") String reportType);
+
+    @Query("""
+            select new com.aivle0102.bigproject.dto.ReportListItem(r.id, r.reportType, r.summary, r.openYn, r.createdAt)
+            from MarketReport r
+            where r.recipe.id = :recipeId and upper(r.reportType) = upper(:reportType) and r.openYn = :openYn
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReportListItem> findListItemsByRecipeIdAndOpenYn(
+            @Param("recipeId") Long recipeId,
+            @Param("reportType") String reportType,
+            @Param("openYn") String openYn
+    );
     boolean existsByRecipe_IdAndOpenYn(Long recipeId, String openYn);
     boolean existsByRecipe_IdAndReportTypeAndOpenYn(Long recipeId, String reportType, String openYn);
-    List<MarketReport> findAllByOrderByCreatedAtDesc();
-    List<MarketReport> findByRecipe_CompanyIdOrderByCreatedAtDesc(Long companyId);
+
+    // 리포트 목록 키셋 페이지((created_at, report_id) 내림차순). 목록 컬럼만 선택해 본문/이미지는 읽지 않는다
+    @Query("""
+            select new com.aivle0102.bigproject.dto.ReportListItemResponse(
+                r.id, rc.id, rc.recipeName,
+                case when rc.imageBase64 is not null and rc.imageBase64 <> '' then true else false end,
+                r.summary, r.reportType, r.openYn, r.createdAt)
+            from MarketReport r join r.recipe rc
+            where (r.createdAt, r.id) < (:createdAt, :id)
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReportListItemResponse> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            select new com.aivle0102.bigproject.dto.ReportListItemResponse(
+                r.id, rc.id, rc.recipeName,
+                case when rc.imageBase64 is not null and rc.imageBase64 <> '' then true else false end,
+                r.summary, r.reportType, r.openYn, r.createdAt)
+            from MarketReport r join r.recipe rc
+            where rc.companyId = :companyId
+              and (r.createdAt, r.id) < (:createdAt, :id)
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReportListItemResponse> findPageByCompanyId(
+            @Param("companyId") Long companyId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
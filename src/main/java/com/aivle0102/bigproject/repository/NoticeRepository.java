@@ -1,11 +1,34 @@
 package com.aivle0102.bigproject.repository;
 
 import com.aivle0102.bigproject.domain.Notice;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
-    List<Notice> findAllByOrderByCreatedAtDesc();
-    List<Notice> findByCompanyIdOrCompanyIdIsNullOrderByCreatedAtDesc(Long companyId);
+    // 공지 목록 키셋 페이지((created_at, notice_id) 내림차순)
+    @Query("""
+            select n from Notice n
+            where (n.createdAt, n.id) < (:createdAt, :id)
+            order by n.createdAt desc, n.id desc
+            """)
+    List<Notice> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // 회사 공지 + 전체 공지(company_id 없음)
+    @Query("""
+            select n from Notice n
+            where (n.companyId = :companyId or n.companyId is null)
+              and (n.createdAt, n.id) < (:createdAt, :id)
+            order by n.createdAt desc, n.id desc
+            """)
+    List<Notice> findPageByCompanyId(
+            @Param("companyId") Long companyId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
@@ -2,15 +2,20 @@ package com.aivle0102.bigproject.repository;
 
 import com.aivle0102.bigproject.domain.Recipe;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
-    List<Recipe> findAllByOrderByCreatedAtDesc();
     List<Recipe> findByStatusOrderByCreatedAtDesc(String status);
     List<Recipe> findByStatusAndCompanyIdOrderByCreatedAtDesc(String status, Long companyId);
-    List<Recipe> findByCompanyIdOrderByCreatedAtDesc(Long companyId);
 
-    List<Recipe> findByUserIdOrderByCreatedAtDesc(String userId);
     List<Recipe> findByUserIdAndStatusOrderByCreatedAtDesc(String userId, String status);
+
+    @Query("select r.id from Recipe r order by r.id")
+    List<Long> findAllIds();
+
+    // recipe_summary 행이 없는 레시피(배포 직후 빈 요약 테이블, 누락 복구용)
+    @Query("select r.id from Recipe r where not exists (select 1 from RecipeSummary s where s.recipeId = r.id) order by r.id")
+    List<Long> findIdsWithoutSummary();
 }
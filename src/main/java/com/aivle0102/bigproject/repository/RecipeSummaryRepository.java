@@ -0,0 +1,76 @@
+package com.aivle0102.bigproject.repository;
+
+import com.aivle0102.bigproject.domain.RecipeSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RecipeSummaryRepository extends JpaRepository<RecipeSummary, Long> {
+
+    // 허브 목록 키셋 페이지((created_at, recipe_id) 내림차순, 부분 인덱스 ix_recipe_summary_hub)
+    @Query("""
+            select s from RecipeSummary s
+            where s.hubVisible = true
+              and (s.createdAt, s.recipeId) < (:createdAt, :id)
+            order by s.createdAt desc, s.recipeId desc
+            """)
+    List<RecipeSummary> findHubPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            select s from RecipeSummary s
+            where s.hubVisible = true and s.companyId = :companyId
+              and (s.createdAt, s.recipeId) < (:createdAt, :id)
+            order by s.createdAt desc, s.recipeId desc
+            """)
+    List<RecipeSummary> findHubPageByCompanyId(
+            @Param("companyId") Long companyId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    List<RecipeSummary> findByUserIdOrderByCreatedAtDescRecipeIdDesc(String userId);
+
+    // 허브 검색(PostgreSQL 전용): 전문 검색 일치 또는 trigram 단어 유사/부분 일치, 순위(ts_rank + word_similarity) 내림차순
+    @Query(value = """
+            SELECT s.* FROM recipe_summary s, plainto_tsquery('simple', :query) q
+            WHERE s.hub_visible
+              AND (s.search_vector @@ q OR :query <% s.search_text OR s.search_text ILIKE :pattern ESCAPE '\\')
+            ORDER BY ts_rank(s.search_vector, q) + word_similarity(:query, s.search_text) DESC,
+                     s.created_at DESC, s.recipe_id DESC
+            OFFSET :offset LIMIT :limit
+            """, nativeQuery = true)
+    List<RecipeSummary> searchHub(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT s.* FROM recipe_summary s, plainto_tsquery('simple', :query) q
+            WHERE s.hub_visible
+              AND s.company_id = :companyId
+              AND (s.search_vector @@ q OR :query <% s.search_text OR s.search_text ILIKE :pattern ESCAPE '\\')
+            ORDER BY ts_rank(s.search_vector, q) + word_similarity(:query, s.search_text) DESC,
+                     s.created_at DESC, s.recipe_id DESC
+            OFFSET :offset LIMIT :limit
+            """, nativeQuery = true)
+    List<RecipeSummary> searchHubByCompanyId(
+            @Param("companyId") Long companyId,
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    // 재구성 시 원본 레시피가 없어진 요약 행 정리
+    @Modifying
+    @Query("delete from RecipeSummary s where not exists (select 1 from Recipe r where r.id = s.recipeId)")
+    int deleteOrphans();
+}
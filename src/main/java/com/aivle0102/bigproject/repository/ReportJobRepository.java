@@ -0,0 +1,74 @@
+package com.aivle0102.bigproject.repository;
+
+import com.aivle0102.bigproject.domain.ReportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    // 대기 중이거나 임대가 만료된(워커가 죽은) 작업을 잠그고 가져온다. 다른 인스턴스가 잠근 행은 건너뛴다
+    @Query(value = """
+            SELECT * FROM report_job
+            WHERE (status = 'QUEUED' AND run_after <= :now)
+               OR (status = 'RUNNING' AND locked_until < :now)
+            ORDER BY job_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ReportJob> lockClaimable(LocalDateTime now, int limit);
+
+    // 아래 갱신은 모두 locked_by로 소유권을 확인한다(임대를 잃은 워커의 늦은 쓰기 방지)
+    @Modifying
+    @Query("""
+            update ReportJob j set j.stage = 'PERSIST', j.reportJson = :reportJson, j.summary = :summary,
+                j.allergenJson = :allergenJson, j.consumersJson = :consumersJson, j.updatedAt = :now
+            where j.id = :id and j.lockedBy = :worker and j.status = 'RUNNING'
+            """)
+    int checkpointGenerated(Long id, String worker, String reportJson, String summary,
+                            String allergenJson, String consumersJson, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update ReportJob j set j.status = 'SUCCEEDED', j.stage = 'DONE', j.reportId = :reportId, j.errorMessage = null,
+                j.lockedBy = null, j.lockedUntil = null, j.updatedAt = :now, j.finishedAt = :now
+            where j.id = :id and j.lockedBy = :worker and j.status = 'RUNNING'
+            """)
+    int markSucceeded(Long id, String worker, Long reportId, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update ReportJob j set j.status = 'FAILED', j.errorMessage = :error,
+                j.lockedBy = null, j.lockedUntil = null, j.updatedAt = :now, j.finishedAt = :now
+            where j.id = :id and j.lockedBy = :worker and j.status = 'RUNNING'
+            """)
+    int markFailed(Long id, String worker, String error, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update ReportJob j set j.status = 'QUEUED', j.errorMessage = :error, j.runAfter = :runAfter,
+                j.lockedBy = null, j.lockedUntil = null, j.updatedAt = :now
+            where j.id = :id and j.lockedBy = :worker and j.status = 'RUNNING'
+            """)
+    int requeue(Long id, String worker, String error, LocalDateTime runAfter, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update ReportJob j set j.lockedUntil = :lockedUntil
+            where j.id in :ids and j.lockedBy = :worker and j.status = 'RUNNING'
+            """)
+    int extendLeases(Collection<Long> ids, String worker, LocalDateTime lockedUntil);
+
+    // 종료 시 끝내지 못한 작업을 즉시 다른 인스턴스가 가져가도록 돌려놓는다(체크포인트 유지)
+    @Modifying
+    @Query("""
+            update ReportJob j set j.status = 'QUEUED', j.runAfter = :now, j.lockedBy = null, j.lockedUntil = null,
+                j.attempts = j.attempts - 1, j.updatedAt = :now
+            where j.lockedBy = :worker and j.status = 'RUNNING'
+            """)
+    int releaseAll(String worker, LocalDateTime now);
+}
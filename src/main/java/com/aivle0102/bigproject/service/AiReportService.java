@@ -1,13 +1,24 @@
 package com.aivle0102.bigproject.service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.aivle0102.bigproject.client.LlmResponseCache;
 import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.config.ExecutorConfig;
 import com.aivle0102.bigproject.dto.ReportRequest;
+import com.aivle0102.bigproject.util.JsonSectionStreamParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -17,10 +28,21 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AiReportService {
 
+    private static final String SYSTEM_PROMPT = "당신은 글로벌 식품/레시피 비즈니스 분석가입니다. 한국어로만 답변하세요.";
+
     @Value("${openai.model}")
     private String model;
     private final OpenAiClient openAiClient;
+    private final LlmResponseCache llmResponseCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // single: 한 번의 호출로 전체 섹션 생성 / sections: 섹션마다 작은 호출을 동시에 보내고 병합
+    @Value("${report.generation.mode:single}")
+    private String generationMode;
+
+    // sections 모드에서 섹션 호출을 동시에 보낼 풀(null이면 호출한 스레드에서 순차 처리)
+    @Qualifier(ExecutorConfig.REPORT_SECTION_EXECUTOR)
+    private final ExecutorService sectionExecutor;
     private static final List<String> REPORT_SECTION_ORDER = List.of(
             "executiveSummary",
             "marketSnapshot",
@@ -32,20 +54,116 @@ public class AiReportService {
     );
 
     public Map<String, Object> generateReport(ReportRequest req) {
+        if (isSectionMode()) {
+            return generateReportBySections(req, null);
+        }
+        String content = openAiClient.chatCompletion("report", buildReportBody(req));
+        return parseJson(content);
+    }
+
+    // 스트리밍 생성: 최상위 섹션(executiveSummary, marketSnapshot, ...)이 완성될 때마다 onSection으로 전달
+    // 반환값은 generateReport와 같은 전체 리포트(완성본을 다시 파싱)
+    public Map<String, Object> generateReportStreaming(ReportRequest req, BiConsumer<String, Object> onSection) {
+        if (isSectionMode()) {
+            return generateReportBySections(req, onSection);
+        }
+        JsonSectionStreamParser parser = new JsonSectionStreamParser((section, rawValue) -> {
+            Object value;
+            try {
+                value = objectMapper.readValue(rawValue, Object.class);
+            } catch (Exception e) {
+                // 섹션 단위 해석 실패는 건너뛰고 최종 파싱 결과를 기준으로 한다
+                return;
+            }
+            onSection.accept(section, value);
+        });
+        String content = openAiClient.chatCompletionStream("report-stream", buildReportBody(req), parser::feed);
+        return parseJson(content);
+    }
+
+    // 섹션별 생성: 요청 섹션마다 작은 호출을 동시에 보내고, 단일 호출과 같은 형태(섹션 순서 유지)로 병합
+    // onSection이 있으면 섹션이 끝나는 순서대로 호출 스레드에서 전달한다
+    Map<String, Object> generateReportBySections(ReportRequest req, BiConsumer<String, Object> onSection) {
+        List<String> sections = requestedSections(req.getSections());
+        String sharedContext = buildSharedContext(req);
+
+        BlockingQueue<String> finished = new LinkedBlockingQueue<>();
+        Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+        for (String section : sections) {
+            CompletableFuture<Object> future = sectionExecutor == null
+                    ? completedOrFailed(section, sharedContext)
+                    : CompletableFuture.supplyAsync(() -> generateSection(section, sharedContext), sectionExecutor);
+            future.whenComplete((value, error) -> finished.add(section));
+            futures.put(section, future);
+        }
+
+        Map<String, Object> merged = new LinkedHashMap<>();
+        try {
+            if (onSection != null) {
+                for (int i = 0; i < sections.size(); i++) {
+                    String section = finished.take();
+                    onSection.accept(section, futures.get(section).join());
+                }
+            }
+            for (Map.Entry<String, CompletableFuture<Object>> entry : futures.entrySet()) {
+                merged.put(entry.getKey(), entry.getValue().join());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(f -> f.cancel(true));
+            throw new IllegalStateException("리포트 섹션 생성 대기 중 인터럽트되었습니다.", e);
+        } catch (CompletionException e) {
+            futures.values().forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+        return merged;
+    }
+
+    private CompletableFuture<Object> completedOrFailed(String section, String sharedContext) {
+        try {
+            return CompletableFuture.completedFuture(generateSection(section, sharedContext));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Object generateSection(String section, String sharedContext) {
+        String content = openAiClient.chatCompletion("report-section", buildSectionBody(section, sharedContext));
+        Map<String, Object> parsed = parseJson(content);
+        if (!parsed.containsKey(section)) {
+            throw new IllegalStateException("AI가 반환한 리포트 섹션이 없습니다: " + section);
+        }
+        return parsed.get(section);
+    }
+
+    Map<String, Object> buildSectionBody(String section, String sharedContext) {
+        // 출력 규칙, 요청 섹션 전체 스키마, 레시피 컨텍스트를 모든 섹션 호출에서 같은 앞부분으로 두고 마지막 메시지만 섹션 이름으로 바꾼다.
+        // OpenAI 프롬프트 캐시는 앞부분이 1024토큰 이상일 때만 적용된다. 고정 부분(시스템 + 규칙 + 7개 섹션 스키마)은 약 550토큰이라
+        // 레시피 정보가 약 500토큰(한글 약 600자)을 넘을 때만 캐시가 적용되고, 짧은 레시피는 섹션마다 앞부분 전체가 과금된다.
+        // 실제 적중량은 openai.client.tokens{type=cached}로 확인한다.
+        return Map.of(
+                "model", model,
+                "messages", List.of(
+                        Map.of("role", "system", "content", SYSTEM_PROMPT),
+                        Map.of("role", "user", "content", sharedContext),
+                        Map.of("role", "user", "content", buildSectionPrompt(section))
+                ),
+                "temperature", 0.4
+        );
+    }
+
+    private Map<String, Object> buildReportBody(ReportRequest req) {
         String prompt = buildPrompt(req);
 
-        Map<String, Object> body = Map.of(
+        return Map.of(
                 "model", model,
                 "messages", List.of(
-                        Map.of("role", "system", "content",
-                                "당신은 글로벌 식품/레시피 비즈니스 분석가입니다. 한국어로만 답변하세요."),
+                        Map.of("role", "system", "content", SYSTEM_PROMPT),
                         Map.of("role", "user", "content", prompt)
                 ),
                 "temperature", 0.4
         );
-
-        String content = openAiClient.chatCompletion(body);
-        return parseJson(content);
     }
 
     public String generateSummary(String fullReport) {
@@ -54,14 +172,14 @@ public class AiReportService {
         Map<String, Object> body = Map.of(
                 "model", model,
                 "messages", List.of(
-                        Map.of("role", "system", "content",
-                                "당신은 글로벌 식품/레시피 비즈니스 분석가입니다. 한국어로만 답변하세요."),
+                        Map.of("role", "system", "content", SYSTEM_PROMPT),
                         Map.of("role", "user", "content", prompt)
                 ),
                 "temperature", 0.4
         );
 
-        return openAiClient.chatCompletion(body);
+        // 같은 리포트면 같은 요약으로 취급(레시피를 다시 저장할 때 재호출하지 않음)
+        return llmResponseCache.get("report-summary", body, () -> openAiClient.chatCompletion("report-summary", body));
     }
 
     public String generateFinalEvaluation(List<Map<String, Object>> reportInputs) {
@@ -69,13 +187,12 @@ public class AiReportService {
         Map<String, Object> body = Map.of(
                 "model", model,
                 "messages", List.of(
-                        Map.of("role", "system", "content",
-                                "당신은 글로벌 식품/레시피 비즈니스 분석가입니다. 한국어로만 답변하세요."),
+                        Map.of("role", "system", "content", SYSTEM_PROMPT),
                         Map.of("role", "user", "content", prompt)
                 ),
                 "temperature", 0.2
         );
-        return openAiClient.chatCompletion(body);
+        return openAiClient.chatCompletion("final-evaluation", body);
     }
 
     private Map<String, Object> parseJson(String content) {
@@ -128,6 +245,13 @@ public class AiReportService {
     }
 
     private String buildSchema(List<String> sections) {
+        return requestedSections(sections).stream()
+                .map(this::schemaForSection)
+                .filter(v -> v != null && !v.isBlank())
+                .collect(java.util.stream.Collectors.joining(",\n"));
+    }
+
+    private List<String> requestedSections(List<String> sections) {
         List<String> requested = sections == null || sections.isEmpty()
                 ? REPORT_SECTION_ORDER
                 : sections.stream()
@@ -135,13 +259,44 @@ public class AiReportService {
                     .filter(s -> !s.isBlank())
                     .filter(REPORT_SECTION_ORDER::contains)
                     .toList();
-        if (requested.isEmpty()) {
-            requested = REPORT_SECTION_ORDER;
+        return requested.isEmpty() ? REPORT_SECTION_ORDER : requested;
+    }
+
+    private String buildSharedContext(ReportRequest r) {
+        return """
+        아래 레시피를 기반으로 시장/소비자 분석 리포트를 섹션별로 나눠 작성하고 있어.
+        요청마다 지정한 섹션 하나만, 아래 스키마에서 그 섹션 키 하나만 가진 JSON으로 작성해줘.
+        응답은 오직 JSON으로만 작성해줘.
+        마크다운, 코드펜스, 설명 문장은 포함하지 마.
+
+        JSON 스키마(키/형식 유지, 값은 실제 내용으로 채워서 작성):
+        {
+%s
         }
-        return requested.stream()
-                .map(this::schemaForSection)
-                .filter(v -> v != null && !v.isBlank())
-                .collect(java.util.stream.Collectors.joining(",\n"));
+
+        레시피 정보:
+        %s
+
+        타겟 정보:
+        - targetCountry: %s
+        - targetPersona: %s
+        - priceRange: %s
+        """
+        .formatted(
+                buildSchema(r.getSections()),
+                r.getRecipe(),
+                r.getTargetCountry(),
+                r.getTargetPersona(),
+                r.getPriceRange()
+        );
+    }
+
+    private String buildSectionPrompt(String section) {
+        return "이번에는 \"%s\" 섹션만 작성해줘.".formatted(section);
+    }
+
+    private boolean isSectionMode() {
+        return "sections".equalsIgnoreCase(generationMode);
     }
 
     private String schemaForSection(String key) {
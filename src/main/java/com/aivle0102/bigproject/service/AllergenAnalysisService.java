@@ -3,6 +3,7 @@
 package com.aivle0102.bigproject.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -11,18 +12,20 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Logger;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.aivle0102.bigproject.client.HaccpCertImgClient;
+import com.aivle0102.bigproject.client.LlmResponseCache;
+import com.aivle0102.bigproject.client.OpenAiClient;
 import com.aivle0102.bigproject.config.AllergenCatalogLoader;
+import com.aivle0102.bigproject.config.ExecutorConfig;
 import com.aivle0102.bigproject.config.ProcessedFoodsCatalogLoader;
 import com.aivle0102.bigproject.config.RawProduceCatalogLoader;
 import com.aivle0102.bigproject.dto.AllergenAnalysisResponse;
@@ -33,24 +36,7 @@ import com.aivle0102.bigproject.util.RecipeIngredientExtractor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.logging.Logger;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -68,13 +54,16 @@ public class AllergenAnalysisService {
     private final HaccpCertImgClient haccpClient;
     private final ProcessedFoodsCatalogLoader processedFoodsCatalogLoader;
     private final RawProduceCatalogLoader rawProduceCatalogLoader;
-
-    @Value("${openai.api-key}")
-    private String openAiApiKey;
+    private final OpenAiClient openAiClient;
+    private final LlmResponseCache llmResponseCache;
 
     @Value("${openai.model:gpt-4.1-mini}")
     private String openAiModel;
 
+    // HACCP 단계에서 재료를 동시에 탐색할 풀(null이면 호출한 스레드에서 순차 처리)
+    @Qualifier(ExecutorConfig.ALLERGEN_INGREDIENT_EXECUTOR)
+    private final ExecutorService ingredientExecutor;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
     private String normalizeCountryCode(String raw) {
         if (raw == null || raw.isBlank()) return "";
@@ -111,134 +100,305 @@ public class AllergenAnalysisService {
         }
     }
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
     public AllergenAnalysisResponse analyze(ReportRequest request) {
-        // 입력 레시피에서 재료를 추출하고 국가별 의무 알레르기 목록 로드
-        String recipe = request.getRecipe();
-        String targetCountry = normalizeCountryCode(request.getTargetCountry());
+        return analyze(request, null);
+    }
 
-        List<String> obligation = allergenCatalogLoader.getCountryToAllergens().getOrDefault(targetCountry, List.of());
-        List<String> ingredients = RecipeIngredientExtractor.extractIngredients(recipe);
+    public AllergenAnalysisResponse analyze(ReportRequest request, IngredientResolutionCache sharedResolutions) {
+        // 단일 국가 분석은 국가 집합 분석의 특수한 경우
+        // sharedResolutions가 있으면 재료 단위 HACCP 탐색 결과를 다른 레시피와 공유
+        List<String> countries = new ArrayList<>();
+        countries.add(request.getTargetCountry());
+        return analyzeRecipeForCountries(request.getRecipe(), countries, sharedResolutions)
+                .values()
+                .iterator()
+                .next();
+    }
+
+    public AllergenAnalysisResponse analyzeIngredients(List<String> ingredients, String targetCountry) {
+        return analyzeIngredients(ingredients, targetCountry, null);
+    }
 
-        Map<String, String> directMatched = new LinkedHashMap<>();
-        List<String> remaining = new ArrayList<>();
-        List<IngredientEvidence> skippedEvidences = new ArrayList<>();
+    public AllergenAnalysisResponse analyzeIngredients(
+            List<String> ingredients,
+            String targetCountry,
+            IngredientResolutionCache sharedResolutions
+    ) {
+        ReportRequest req = new ReportRequest();
+        req.setRecipe(joinIngredients(ingredients));
+        req.setTargetCountry(targetCountry);
+        return analyze(req, sharedResolutions);
+    }
+
+    public Map<String, AllergenAnalysisResponse> analyzeForCountries(List<String> ingredients, Set<String> targetCountries) {
+        // 한 레시피를 여러 국가 기준으로 분석(국가 코드 -> 결과, 입력 순서 유지)
+        // 재료 분류와 HACCP/AI 탐색은 국가와 무관하게 한 번만 수행하고 국가별 의무 목록으로 투영만 반복한다
+        if (targetCountries == null || targetCountries.isEmpty()) return Map.of();
+        return analyzeRecipeForCountries(joinIngredients(ingredients), targetCountries, null);
+    }
+
+    private Map<String, AllergenAnalysisResponse> analyzeRecipeForCountries(
+            String recipe,
+            Collection<String> targetCountries,
+            IngredientResolutionCache sharedResolutions
+    ) {
+        Map<String, List<String>> obligations = new LinkedHashMap<>();
+        for (String raw : targetCountries) {
+            String code = normalizeCountryCode(raw);
+            obligations.putIfAbsent(code, allergenCatalogLoader.getCountryToAllergens().getOrDefault(code, List.of()));
+        }
 
+        // 1) 재료별 국가 무관 분류(다중/수산물/원재료성/직접 매핑/가공식품 카탈로그)
+        List<String> ingredients = RecipeIngredientExtractor.extractIngredients(recipe);
+        List<IngredientProfile> profiles = new ArrayList<>();
         for (String ing : ingredients) {
-            // 0) 다중 알레르기 성분이 명확한 재료는 우선 확정
-            Set<String> multiCanonicals = allergenMatcher.directMultiMatchIngredientToCanonical(ing);
-            if (!multiCanonicals.isEmpty()) {
-                for (String canonical : multiCanonicals) {
-                    addDirectIfObligated(canonical, ing, obligation, directMatched);
-                }
-                continue;
+            profiles.add(profileIngredient(ing));
+        }
+
+        // 2) 국가별 직접 매칭 투영, HACCP 탐색이 필요한 재료는 어느 국가에서 필요한지와 함께 모은다
+        Map<String, CountryDraft> drafts = new LinkedHashMap<>();
+        Map<String, List<List<String>>> toResolve = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : obligations.entrySet()) {
+            CountryDraft draft = new CountryDraft();
+            for (IngredientProfile profile : profiles) {
+                projectDirect(profile, entry.getValue(), draft);
             }
+            for (String ing : draft.remaining) {
+                toResolve.computeIfAbsent(ing, k -> new ArrayList<>()).add(entry.getValue());
+            }
+            drafts.put(entry.getKey(), draft);
+        }
 
-            // 0-1) 수산물 원재료 카탈로그 분류(생선/갑각류/연체/해조 등)
-            RawProduceCatalogLoader.SeafoodCategory seafoodCategory =
-                    rawProduceCatalogLoader.matchSeafoodCategory(ing).orElse(null);
-            if (seafoodCategory != null) {
-                LOGGER.info(() -> "RAW_PRODUCE_SEAFOOD 판단: ingredient=" + ing + " category=" + seafoodCategory);
-                if (addSeafoodDirectMatches(seafoodCategory, ing, obligation, directMatched)) {
-                    continue;
-                }
-                skippedEvidences.add(IngredientEvidence.builder()
-                        .ingredient(ing)
-                        .searchStrategy("RAW_PRODUCE_SEAFOOD_NON_ALLERGEN:" + seafoodCategory)
-                        .evidences(List.of())
-                        .matchedAllergensForTargetCountry(List.of())
-                        .status("SKIPPED_RAW_PRODUCE_NON_ALLERGEN")
-                        .build());
-                continue;
+        // 3) HACCP 기반 근거 탐색(재료당 한 번, 병렬)
+        Map<String, IngredientCandidates> resolved = resolveRemainingIngredients(toResolve, sharedResolutions);
+
+        Map<String, AllergenAnalysisResponse> out = new LinkedHashMap<>();
+        for (Map.Entry<String, CountryDraft> entry : drafts.entrySet()) {
+            String targetCountry = entry.getKey();
+            List<String> obligation = obligations.get(targetCountry);
+            CountryDraft draft = entry.getValue();
+
+            List<IngredientEvidence> evidences = new ArrayList<>(draft.skipped);
+            Set<String> finalAllergens = new LinkedHashSet<>(draft.directMatched.keySet());
+            for (String ing : draft.remaining) {
+                IngredientEvidence ev = projectCandidates(ing, resolved.get(ing), obligation);
+                evidences.add(ev);
+                finalAllergens.addAll(ev.getMatchedAllergensForTargetCountry());
             }
 
-            // 1) 원재료성 식품 여부를 먼저 판단
-            boolean isRawProduce = rawProduceCatalogLoader.isRawProduce(ing);
-            if (isRawProduce) {
-                LOGGER.info(() -> "RAW_PRODUCE 판단: ingredient=" + ing);
-                // 글루텐 함유 곡물 처리(국가별 의무 항목 대응)
-                Optional<String> glutenCanonical = allergenMatcher.matchGlutenCerealCanonical(ing);
-                if (glutenCanonical.isPresent()) {
-                    boolean matched = addDirectIfObligated("Cereals containing gluten", ing, obligation, directMatched);
-                    if (addDirectIfObligated(glutenCanonical.get(), ing, obligation, directMatched)) {
-                        matched = true;
-                    }
-                    if (matched) {
-                        continue;
-                    }
-                }
-                // 원재료성 식품 중 알레르기 원재료만 통과
-                Optional<String> canonicalOpt = allergenMatcher.directMatchIngredientToCanonical(ing);
-                if (canonicalOpt.isPresent()) {
-                    String canonical = canonicalOpt.get();
-                    if (addDirectIfObligated(canonical, ing, obligation, directMatched)) {
-                        continue;
-                    }
-                }
-                skippedEvidences.add(IngredientEvidence.builder()
-                        .ingredient(ing)
-                        .searchStrategy("RAW_PRODUCE_CATALOG_NON_ALLERGEN")
-                        .evidences(List.of())
-                        .matchedAllergensForTargetCountry(List.of())
-                        .status("SKIPPED_RAW_PRODUCE_NON_ALLERGEN")
-                        .build());
-                continue;
+            out.put(targetCountry, AllergenAnalysisResponse.builder()
+                    .targetCountry(targetCountry)
+                    .extractedIngredients(ingredients)
+                    .directMatchedAllergens(draft.directMatched)
+                    .haccpSearchEvidences(evidences)
+                    .finalMatchedAllergens(new ArrayList<>(finalAllergens))
+                    .note(buildAllergenNote(targetCountry, draft.directMatched, evidences))
+                    .build());
+        }
+        return out;
+    }
+
+    private static String joinIngredients(List<String> ingredients) {
+        return (ingredients == null || ingredients.isEmpty()) ? "" : String.join(", ", ingredients);
+    }
+
+    // 재료 하나의 국가 무관 분류 결과(앞 단계에서 확정되면 뒤 필드는 비어 있음)
+    private record IngredientProfile(
+            String ingredient,
+            Set<String> multiCanonicals,
+            RawProduceCatalogLoader.SeafoodCategory seafoodCategory,
+            boolean rawProduce,
+            Optional<String> glutenCanonical,
+            Optional<String> canonical
+    ) {
+    }
+
+    // 국가 하나에 대한 직접 매칭 중간 결과
+    private static final class CountryDraft {
+        private final Map<String, String> directMatched = new LinkedHashMap<>();
+        private final List<IngredientEvidence> skipped = new ArrayList<>();
+        private final List<String> remaining = new ArrayList<>();
+    }
+
+    private IngredientProfile profileIngredient(String ing) {
+        // 0) 다중 알레르기 성분이 명확한 재료는 우선 확정
+        Set<String> multiCanonicals = allergenMatcher.directMultiMatchIngredientToCanonical(ing);
+        if (!multiCanonicals.isEmpty()) {
+            return new IngredientProfile(ing, multiCanonicals, null, false, Optional.empty(), Optional.empty());
+        }
+
+        // 0-1) 수산물 원재료 카탈로그 분류(생선/갑각류/연체/해조 등)
+        RawProduceCatalogLoader.SeafoodCategory seafoodCategory =
+                rawProduceCatalogLoader.matchSeafoodCategory(ing).orElse(null);
+        if (seafoodCategory != null) {
+            LOGGER.info(() -> "RAW_PRODUCE_SEAFOOD 판단: ingredient=" + ing + " category=" + seafoodCategory);
+            return new IngredientProfile(ing, Set.of(), seafoodCategory, false, Optional.empty(), Optional.empty());
+        }
+
+        // 1) 원재료성 식품이면 글루텐 곡물/직접 매핑만 후보로 사용
+        if (rawProduceCatalogLoader.isRawProduce(ing)) {
+            LOGGER.info(() -> "RAW_PRODUCE 판단: ingredient=" + ing);
+            return new IngredientProfile(
+                    ing,
+                    Set.of(),
+                    null,
+                    true,
+                    allergenMatcher.matchGlutenCerealCanonical(ing),
+                    allergenMatcher.directMatchIngredientToCanonical(ing)
+            );
+        }
+
+        // 2) 원재료성 식품이 아니라면 직접 매핑 -> 가공식품 카탈로그 매칭
+        Optional<String> canonicalOpt = allergenMatcher.directMatchIngredientToCanonical(ing);
+        if (canonicalOpt.isEmpty()) {
+            canonicalOpt = processedFoodsCatalogLoader.matchDirectFromCatalog(ing);
+        }
+        return new IngredientProfile(ing, Set.of(), null, false, Optional.empty(), canonicalOpt);
+    }
+
+    private void projectDirect(IngredientProfile profile, List<String> obligation, CountryDraft draft) {
+        // 분류 결과를 국가 의무 목록에 투영(직접 확정/건너뜀/HACCP 탐색 대상)
+        String ing = profile.ingredient();
+        Map<String, String> directMatched = draft.directMatched;
+
+        if (!profile.multiCanonicals().isEmpty()) {
+            for (String canonical : profile.multiCanonicals()) {
+                addDirectIfObligated(canonical, ing, obligation, directMatched);
             }
+            return;
+        }
 
-            // 2) 원재료성 식품이 아니라면 직접 매핑/가공식품 카탈로그 매칭 시도
-            Optional<String> canonicalOpt = allergenMatcher.directMatchIngredientToCanonical(ing);
-            if (canonicalOpt.isEmpty()) {
-                canonicalOpt = processedFoodsCatalogLoader.matchDirectFromCatalog(ing);
+        if (profile.seafoodCategory() != null) {
+            if (addSeafoodDirectMatches(profile.seafoodCategory(), ing, obligation, directMatched)) {
+                return;
             }
-            if (canonicalOpt.isPresent()) {
-                String canonical = canonicalOpt.get();
-                if (!addDirectIfObligated(canonical, ing, obligation, directMatched)) {
-                    remaining.add(ing);
+            draft.skipped.add(IngredientEvidence.builder()
+                    .ingredient(ing)
+                    .searchStrategy("RAW_PRODUCE_SEAFOOD_NON_ALLERGEN:" + profile.seafoodCategory())
+                    .evidences(List.of())
+                    .matchedAllergensForTargetCountry(List.of())
+                    .status("SKIPPED_RAW_PRODUCE_NON_ALLERGEN")
+                    .build());
+            return;
+        }
+
+        if (profile.rawProduce()) {
+            // 글루텐 함유 곡물 처리(국가별 의무 항목 대응)
+            if (profile.glutenCanonical().isPresent()) {
+                boolean matched = addDirectIfObligated("Cereals containing gluten", ing, obligation, directMatched);
+                if (addDirectIfObligated(profile.glutenCanonical().get(), ing, obligation, directMatched)) {
+                    matched = true;
                 }
-            } else {
-                remaining.add(ing);
+                if (matched) {
+                    return;
+                }
+            }
+            // 원재료성 식품 중 알레르기 원재료만 통과
+            if (profile.canonical().isPresent()
+                    && addDirectIfObligated(profile.canonical().get(), ing, obligation, directMatched)) {
+                return;
             }
+            draft.skipped.add(IngredientEvidence.builder()
+                    .ingredient(ing)
+                    .searchStrategy("RAW_PRODUCE_CATALOG_NON_ALLERGEN")
+                    .evidences(List.of())
+                    .matchedAllergensForTargetCountry(List.of())
+                    .status("SKIPPED_RAW_PRODUCE_NON_ALLERGEN")
+                    .build());
+            return;
         }
 
-        List<IngredientEvidence> evidences = new ArrayList<>(skippedEvidences);
-        Set<String> finalAllergens = new LinkedHashSet<>(directMatched.keySet());
+        if (profile.canonical().isPresent()
+                && addDirectIfObligated(profile.canonical().get(), ing, obligation, directMatched)) {
+            return;
+        }
+        draft.remaining.add(ing);
+    }
 
-        for (String ing : remaining) {
-            // 3) HACCP 기반 근거 매칭
-            IngredientEvidence ev = analyzeIngredientViaHaccp(ing, obligation);
-            if (ev.getMatchedAllergensForTargetCountry() == null || ev.getMatchedAllergensForTargetCountry().isEmpty()) {
-                IngredientEvidence fallback = analyzeIngredientViaCatalogFallback(ing, obligation);
-                if ((fallback.getMatchedAllergensForTargetCountry() != null && !fallback.getMatchedAllergensForTargetCountry().isEmpty())
-                        || (fallback.getEvidences() != null && !fallback.getEvidences().isEmpty())) {
-                    ev = fallback;
-                }
+    private Map<String, IngredientCandidates> resolveRemainingIngredients(
+            Map<String, List<List<String>>> remaining,
+            IngredientResolutionCache sharedResolutions
+    ) {
+        // 재료별 탐색을 제한된 풀에서 동시에 수행(재료 -> 국가 무관 후보)
+        Map<String, IngredientCandidates> out = new LinkedHashMap<>();
+        if (sharedResolutions == null && (ingredientExecutor == null || remaining.size() <= 1)) {
+            for (Map.Entry<String, List<List<String>>> entry : remaining.entrySet()) {
+                out.put(entry.getKey(), resolveIngredient(entry.getKey(), entry.getValue()));
             }
-            evidences.add(ev);
-            if (ev.getMatchedAllergensForTargetCountry() != null) {
-                finalAllergens.addAll(ev.getMatchedAllergensForTargetCountry());
+            return out;
+        }
+
+        Map<String, CompletableFuture<IngredientCandidates>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, List<List<String>>> entry : remaining.entrySet()) {
+            String ing = entry.getKey();
+            List<List<String>> obligations = entry.getValue();
+            futures.put(ing, sharedResolutions == null
+                    ? startIngredientResolution(ing, obligations)
+                    : sharedResolutions.resolve(ing, () -> startIngredientResolution(ing, obligations)));
+        }
+        try {
+            for (Map.Entry<String, CompletableFuture<IngredientCandidates>> entry : futures.entrySet()) {
+                out.put(entry.getKey(), entry.getValue().join());
             }
+        } catch (CompletionException e) {
+            // 공유 중인 탐색은 다른 레시피가 기다릴 수 있으므로 취소하지 않는다
+            if (sharedResolutions == null) futures.values().forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
         }
+        return out;
+    }
 
-        return AllergenAnalysisResponse.builder()
-                .targetCountry(targetCountry)
-                .extractedIngredients(ingredients)
-                .directMatchedAllergens(directMatched)
-                .haccpSearchEvidences(evidences)
-                .finalMatchedAllergens(new ArrayList<>(finalAllergens))
-                .note(buildAllergenNote(targetCountry, directMatched, evidences))
-                .build();
+    private CompletableFuture<IngredientCandidates> startIngredientResolution(String ing, List<List<String>> obligations) {
+        if (ingredientExecutor == null) {
+            try {
+                return CompletableFuture.completedFuture(resolveIngredient(ing, obligations));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> resolveIngredient(ing, obligations), ingredientExecutor);
     }
 
-    public AllergenAnalysisResponse analyzeIngredients(List<String> ingredients, String targetCountry) {
-        String recipe = (ingredients == null || ingredients.isEmpty()) ? "" : String.join(", ", ingredients);
-        ReportRequest req = new ReportRequest();
-        req.setRecipe(recipe);
-        req.setTargetCountry(targetCountry);
-        return analyze(req);
+    private IngredientCandidates resolveIngredient(String ing, List<List<String>> obligations) {
+        // HACCP prdkind 탐색 -> 요청 국가 중 하나라도 매칭이 비면 카탈로그/AI 폴백까지 같은 작업에서 수행
+        IngredientCandidates candidates = new IngredientCandidates(
+                analyzeIngredientViaHaccp(ing),
+                () -> analyzeIngredientViaCatalogFallback(ing)
+        );
+        for (List<String> obligation : obligations) {
+            if (allergenMatcher.filterByCountryObligation(candidates.primary().canonicals(), obligation).isEmpty()) {
+                candidates.fallback();
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private IngredientEvidence projectCandidates(String ing, IngredientCandidates candidates, List<String> obligation) {
+        // 1차 후보가 해당 국가 기준으로 비면 폴백 결과(근거가 있을 때만)로 대체
+        List<String> matched = allergenMatcher.filterByCountryObligation(candidates.primary().canonicals(), obligation);
+        if (!matched.isEmpty()) {
+            return toIngredientEvidence(ing, candidates.primary(), matched);
+        }
+        IngredientCandidates.Evidence fallback = candidates.fallback();
+        List<String> fallbackMatched = allergenMatcher.filterByCountryObligation(fallback.canonicals(), obligation);
+        if (!fallbackMatched.isEmpty() || !fallback.products().isEmpty()) {
+            return toIngredientEvidence(ing, fallback, fallbackMatched);
+        }
+        return toIngredientEvidence(ing, candidates.primary(), matched);
     }
 
-    private IngredientEvidence analyzeIngredientViaHaccp(String ingredient, List<String> obligation) {
+    private IngredientEvidence toIngredientEvidence(String ing, IngredientCandidates.Evidence evidence, List<String> matched) {
+        return IngredientEvidence.builder()
+                .ingredient(ing)
+                .searchStrategy(evidence.searchStrategy())
+                .evidences(evidence.products())
+                .matchedAllergensForTargetCountry(matched)
+                .status(evidence.products().isEmpty() ? "NOT_FOUND" : "FOUND")
+                .build();
+    }
+    private IngredientCandidates.Evidence analyzeIngredientViaHaccp(String ingredient) {
         // prdkind 기본 검색 -> 실패 시 동의어 확장
         List<JsonNode> items = searchItemsByQueries(List.of(ingredient));
         boolean expanded = false;
@@ -251,15 +411,14 @@ public class AllergenAnalysisService {
             }
         }
 
-        return buildEvidenceFromItems(
+        return buildCandidatesFromItems(
                 ingredient,
                 items,
-                obligation,
                 expanded ? "HACCP_PRDKIND_QUERY_EXPANDED" : "HACCP_PRDKIND_EXPLORATORY"
         );
     }
 
-    private IngredientEvidence analyzeIngredientViaCatalogFallback(String ingredient, List<String> obligation) {
+    private IngredientCandidates.Evidence analyzeIngredientViaCatalogFallback(String ingredient) {
         // prdlstNm 정확 일치 -> catalog 후보 -> AI 후보 순으로 탐색
         List<JsonNode> items = searchItemsByPrdlstNmQueries(List.of(ingredient));
         items = filterExactPrdlstNmMatches(items, List.of(ingredient), true);
@@ -300,19 +459,13 @@ public class AllergenAnalysisService {
             }
         }
 
-        return buildEvidenceFromItems(ingredient, items, obligation, strategy);
+        return buildCandidatesFromItems(ingredient, items, strategy);
     }
 
-    private IngredientEvidence buildEvidenceFromItems(String ingredient, List<JsonNode> items, List<String> obligation, String strategy) {
-        // HACCP 결과: 알레르기/원재료 기반 매칭
+    private IngredientCandidates.Evidence buildCandidatesFromItems(String ingredient, List<JsonNode> items, String strategy) {
+        // HACCP 결과: 알레르기/원재료 기반 후보 추출(국가 의무 목록 필터링은 투영 단계에서)
         if (items == null || items.isEmpty()) {
-            return IngredientEvidence.builder()
-                    .ingredient(ingredient)
-                    .searchStrategy(strategy)
-                    .evidences(List.of())
-                    .matchedAllergensForTargetCountry(List.of())
-                    .status("NOT_FOUND")
-                    .build();
+            return new IngredientCandidates.Evidence(strategy, List.of(), Set.of());
         }
 
         List<HaccpProductEvidence> productEvidences = new ArrayList<>();
@@ -356,20 +509,12 @@ public class AllergenAnalysisService {
             count++;
         }
 
-        List<String> matched = allergenMatcher.filterByCountryObligation(canonicalCandidates, obligation);
-
         String finalStrategy = strategy;
         if (aiAgentUsed && finalStrategy != null && !finalStrategy.contains("AI_AGENT_USED")) {
             finalStrategy = finalStrategy + "|AI_AGENT_USED";
         }
 
-        return IngredientEvidence.builder()
-                .ingredient(ingredient)
-                .searchStrategy(finalStrategy)
-                .evidences(productEvidences)
-                .matchedAllergensForTargetCountry(matched)
-                .status("FOUND")
-                .build();
+        return new IngredientCandidates.Evidence(finalStrategy, productEvidences, canonicalCandidates);
     }
 
     private List<JsonNode> searchItemsByQueries(List<String> queries) {
@@ -544,7 +689,7 @@ public class AllergenAnalysisService {
                 + "- HACCP, 인증, 기준, 관리, 적용, 제품, 식품, 안전 같은 단어 포함 금지\n"
                 + "- 결과는 JSON 배열만 반환";
 
-        return callOpenAiForJsonArray(prompt);
+        return callOpenAiForJsonArray("allergen-prdlstnm-candidates", prompt);
     }
 
     private List<String> extractRelatedRawmtrlTokens(String ingredient, String rawmtrlRaw) {
@@ -560,15 +705,11 @@ public class AllergenAnalysisService {
                 + "- 복합 제품이면 재료(예: 고추장) 구성 성분만 선택\n"
                 + "결과는 JSON 배열만 반환";
 
-        return callOpenAiForJsonArray(prompt);
+        return callOpenAiForJsonArray("allergen-rawmtrl-tokens", prompt);
     }
 
-    private List<String> callOpenAiForJsonArray(String prompt) {
-        // OpenAI 호출 후 JSON 배열 형태로 파싱
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openAiApiKey);
-
+    private List<String> callOpenAiForJsonArray(String callSite, String prompt) {
+        // OpenAI 호출(공용 게이트웨이의 입장 제어/429 재시도 적용, 같은 프롬프트는 응답 캐시) 후 JSON 배열 형태로 파싱
         Map<String, Object> body = Map.of(
                 "model", openAiModel,
                 "temperature", 0.2,
@@ -580,27 +721,10 @@ public class AllergenAnalysisService {
                 )
         );
 
-        HttpEntity<Map<String, Object>> req = new HttpEntity<>(body, headers);
-        ResponseEntity<String> resp = restTemplate.postForEntity(
-                "https://api.openai.com/v1/chat/completions",
-                req,
-                String.class
-        );
-
-        String content = extractContent(resp.getBody());
+        String content = llmResponseCache.get(callSite, body, () -> openAiClient.chatCompletion(callSite, body));
         return postProcessCandidates(parseJsonArray(content));
     }
 
-    private String extractContent(String body) {
-        if (body == null || body.isBlank()) return "[]";
-        try {
-            JsonNode root = objectMapper.readTree(body);
-            return root.path("choices").path(0).path("message").path("content").asText("[]");
-        } catch (Exception e) {
-            return "[]";
-        }
-    }
-
     private List<String> parseJsonArray(String content) {
         if (content == null || content.isBlank()) return List.of();
         try {
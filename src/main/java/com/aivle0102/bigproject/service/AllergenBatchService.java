@@ -0,0 +1,121 @@
+// 여러 레시피의 알레르기 분석을 한 번에 처리하는 배치 서비스.
+// 작업은 입력 스트림에서 하나씩 읽고, 완료되는 순서대로 NDJSON 한 줄씩 내보낸다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.dto.AllergenAnalysisResponse;
+import com.aivle0102.bigproject.dto.AllergenBatchJob;
+import com.aivle0102.bigproject.dto.AllergenBatchResult;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+@Service
+@RequiredArgsConstructor
+public class AllergenBatchService {
+
+    private static final Logger LOGGER = Logger.getLogger(AllergenBatchService.class.getName());
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final AllergenAnalysisService allergenAnalysisService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 동시에 분석하는 레시피 수(읽어 둔 작업 수도 이 값으로 제한)
+    @Value("${allergen.batch.parallelism:4}")
+    private int batchParallelism;
+
+    @Qualifier(ExecutorConfig.ALLERGEN_BATCH_EXECUTOR)
+    private final ExecutorService batchExecutor;
+
+    // 레시피 간 공유하는 재료별 탐색 결과 최대 개수
+    @Value("${allergen.batch.max-shared-ingredients:2000}")
+    private int maxSharedIngredients;
+
+    public void analyzeBatch(InputStream jobs, OutputStream out) throws IOException {
+        // 작업을 하나씩 읽어 서비스 풀에 넘기고, 끝나는 대로 결과를 스트림에 기록
+        // 요청마다 동시에 올려 두는 작업 수는 세마포어로 제한(풀은 배치 요청끼리 공유)
+        int parallelism = Math.max(1, batchParallelism);
+        Semaphore inFlight = new Semaphore(parallelism);
+        IngredientResolutionCache shared = new IngredientResolutionCache(maxSharedIngredients);
+        AtomicReference<IOException> writeFailure = new AtomicReference<>();
+        AtomicBoolean aborted = new AtomicBoolean();
+        AtomicInteger submitted = new AtomicInteger();
+
+        try (MappingIterator<AllergenBatchJob> it = objectMapper.readerFor(AllergenBatchJob.class).readValues(jobs)) {
+            while (writeFailure.get() == null && it.hasNextValue()) {
+                AllergenBatchJob job = it.nextValue();
+                inFlight.acquireUninterruptibly();
+                submitted.incrementAndGet();
+                try {
+                    batchExecutor.execute(() -> {
+                        try {
+                            if (!aborted.get()) writeLine(out, runJob(job, shared));
+                        } catch (IOException e) {
+                            // 클라이언트 연결이 끊기면 남은 작업은 읽지 않는다
+                            writeFailure.compareAndSet(null, e);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 입력을 읽다 실패하면 아직 시작하지 않은 작업은 건너뛴다
+            aborted.set(true);
+            throw e;
+        } finally {
+            // 응답 스트림이 닫히기 전에 이미 시작한 작업이 끝나기를 기다린다
+            inFlight.acquireUninterruptibly(parallelism);
+        }
+
+        LOGGER.info(() -> "ALLERGEN_BATCH 완료: jobs=" + submitted.get()
+                + " sharedHits=" + shared.getHits()
+                + " sharedMisses=" + shared.getMisses());
+        if (writeFailure.get() != null) throw writeFailure.get();
+    }
+
+    private AllergenBatchResult runJob(AllergenBatchJob job, IngredientResolutionCache shared) {
+        try {
+            AllergenAnalysisResponse result = allergenAnalysisService.analyzeIngredients(
+                    job.getIngredients(),
+                    job.getTargetCountry(),
+                    shared
+            );
+            return AllergenBatchResult.builder()
+                    .recipeId(job.getRecipeId())
+                    .result(result)
+                    .build();
+        } catch (RuntimeException e) {
+            LOGGER.warning(() -> "ALLERGEN_BATCH 작업 실패: recipeId=" + job.getRecipeId() + " error=" + e.getMessage());
+            return AllergenBatchResult.builder()
+                    .recipeId(job.getRecipeId())
+                    .error(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage())
+                    .build();
+        }
+    }
+
+    private void writeLine(OutputStream out, AllergenBatchResult result) throws IOException {
+        byte[] line = objectMapper.writeValueAsBytes(result);
+        synchronized (out) {
+            out.write(line);
+            out.write(NEWLINE);
+            out.flush();
+        }
+    }
+}
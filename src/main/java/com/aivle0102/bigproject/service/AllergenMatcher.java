@@ -2,6 +2,8 @@
 // HACCP 텍스트, 재료명, AI 토큰에서 알레르기 후보를 추출한다.
 package com.aivle0102.bigproject.service;
 
+import com.aivle0102.bigproject.util.AhoCorasickAutomaton;
+import com.aivle0102.bigproject.util.TextNormalizer;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -13,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class AllergenMatcher {
@@ -31,7 +34,7 @@ public class AllergenMatcher {
     );
 
     // 재료명 -> 알레르기 canonical 직접 매핑(1차 확정)
-    private static final Map<String, String> INGREDIENT_TO_CANONICAL = Map.ofEntries(
+    static final Map<String, String> INGREDIENT_TO_CANONICAL = Map.ofEntries(
             Map.entry("우유", "Milk"),
             Map.entry("유청", "Milk"),
             Map.entry("유크림", "Milk"),
@@ -109,7 +112,7 @@ public class AllergenMatcher {
     );
 
     // 복수 알레르기 성분이 명확한 원재료 예외 매핑.
-    private static final Map<String, Set<String>> MULTI_INGREDIENT_TO_CANONICAL = Map.ofEntries(
+    static final Map<String, Set<String>> MULTI_INGREDIENT_TO_CANONICAL = Map.ofEntries(
             Map.entry("간장", Set.of("Soybean", "Wheat")),
             Map.entry("된장", Set.of("Soybean")),
             Map.entry("새우", Set.of("Crustaceans", "Shrimp")),
@@ -117,7 +120,7 @@ public class AllergenMatcher {
     );
 
     // HACCP allergy/rawmtrl 토큰 → 알레르기 canonical 매핑.
-    private static final Map<String, String> HACCP_KO_TO_CANONICAL = Map.ofEntries(
+    static final Map<String, String> HACCP_KO_TO_CANONICAL = Map.ofEntries(
             Map.entry("우유", "Milk"),
             Map.entry("유청", "Milk"),
             Map.entry("유크림", "Milk"),
@@ -182,6 +185,13 @@ public class AllergenMatcher {
             Map.entry("흑임자", "Sesame")
     );
 
+    // HACCP/재료/복수 매핑 사전을 합쳐 한 번만 컴파일한 부분 일치 오토마톤
+    private static final AhoCorasickAutomaton CONTAINS_AUTOMATON = AhoCorasickAutomaton.compile(
+            asSingletonSets(HACCP_KO_TO_CANONICAL),
+            asSingletonSets(INGREDIENT_TO_CANONICAL),
+            MULTI_INGREDIENT_TO_CANONICAL
+    );
+
     public List<String> buildPrdkindQueries(String ingredientName) {
         // 재료명에서 쿼리 토큰/동의어를 뽑아 prdkind 검색 후보 생성
         if (ingredientName == null) return List.of();
@@ -191,7 +201,7 @@ public class AllergenMatcher {
         Set<String> queries = new LinkedHashSet<>();
         queries.add(normalized);
 
-        List<String> tokens = tokenize(normalized);
+        List<String> tokens = TextNormalizer.letterWordList(normalized);
         for (String token : tokens) {
             queries.add(token);
             List<String> synonyms = QUERY_SYNONYMS.get(token);
@@ -287,9 +297,7 @@ public class AllergenMatcher {
             direct = INGREDIENT_TO_CANONICAL.get(token);
             if (direct != null) out.add(direct);
 
-            out.addAll(matchByContains(token, HACCP_KO_TO_CANONICAL));
-            out.addAll(matchByContains(token, INGREDIENT_TO_CANONICAL));
-            out.addAll(matchByContainsMulti(token, MULTI_INGREDIENT_TO_CANONICAL));
+            CONTAINS_AUTOMATON.collect(token, out);
         }
         return out;
     }
@@ -309,9 +317,7 @@ public class AllergenMatcher {
             direct = INGREDIENT_TO_CANONICAL.get(token);
             if (direct != null) out.add(direct);
 
-            out.addAll(matchByContains(token, HACCP_KO_TO_CANONICAL));
-            out.addAll(matchByContains(token, INGREDIENT_TO_CANONICAL));
-            out.addAll(matchByContainsMulti(token, MULTI_INGREDIENT_TO_CANONICAL));
+            CONTAINS_AUTOMATON.collect(token, out);
         }
         return out;
     }
@@ -338,10 +344,7 @@ public class AllergenMatcher {
     
     private String normalizeIngredientForQuery(String raw) {
         // 괄호/수치 제거 후 의미 있는 단어만 남김
-        String noParen = raw.replaceAll("\\([^)]*\\)", " ");
-        String noNumbers = noParen.replaceAll("\\d+(?:\\.\\d+)?", " ");
-        String cleaned = noNumbers.replaceAll("[^\\p{L}\\s]", " ").trim();
-        List<String> tokens = tokenize(cleaned);
+        List<String> tokens = TextNormalizer.letterWordList(raw);
         if (tokens.isEmpty()) return "";
 
         List<String> filtered = new ArrayList<>();
@@ -353,36 +356,8 @@ public class AllergenMatcher {
     }
 
     private String normalizeToken(String token) {
-        // 단일 토큰 정규화
-        String noParen = token.replaceAll("\\([^)]*\\)", " ");
-        String noNumbers = noParen.replaceAll("\\d+(?:\\.\\d+)?", " ");
-        String cleaned = noNumbers.replaceAll("[^\\p{L}\\s]", " ").trim();
-        List<String> tokens = tokenize(cleaned);
-        if (tokens.isEmpty()) return "";
-        return String.join(" ", tokens).trim();
-    }
-
-    private List<String> tokenize(String text) {
-        // 공백 기준 토큰 분리
-        if (text == null || text.isBlank()) return List.of();
-        String[] parts = text.trim().split("\\s+");
-        List<String> out = new ArrayList<>();
-        for (String p : parts) {
-            if (!p.isBlank()) out.add(p);
-        }
-        return out;
-    }
-
-    private Set<String> matchByContainsMulti(String token, Map<String, Set<String>> mapping) {
-        // 부분 일치 키워드에 대한 복수 canonical 매핑
-        if (token == null || token.isBlank()) return Set.of();
-        Set<String> out = new LinkedHashSet<>();
-        for (Map.Entry<String, Set<String>> entry : mapping.entrySet()) {
-            if (token.contains(entry.getKey())) {
-                out.addAll(entry.getValue());
-            }
-        }
-        return out;
+        // 단일 토큰 정규화(괄호 묶음 제거 후 문자 구간만 공백 하나로 연결)
+        return TextNormalizer.letterWords(token);
     }
 
     private boolean isStopword(String token) {
@@ -396,14 +371,9 @@ public class AllergenMatcher {
         };
     }
 
-    private Set<String> matchByContains(String token, Map<String, String> map) {
-        // 포함 여부 기반 매칭(부분 문자열)
-        Set<String> out = new LinkedHashSet<>();
-        for (Map.Entry<String, String> entry : map.entrySet()) {
-            String key = entry.getKey();
-            if (key == null || key.isBlank()) continue;
-            if (token.contains(key)) out.add(entry.getValue());
-        }
-        return out;
+    private static Map<String, Set<String>> asSingletonSets(Map<String, String> map) {
+        // 단일 canonical 사전을 오토마톤 입력 형태로 변환
+        return map.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> Set.of(e.getValue())));
     }
 }
\ No newline at end of file
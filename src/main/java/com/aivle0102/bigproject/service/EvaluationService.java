@@ -1,15 +1,19 @@
 package com.aivle0102.bigproject.service;
 
 import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.config.ExecutorConfig;
 import com.aivle0102.bigproject.domain.ConsumerFeedback;
 import com.aivle0102.bigproject.domain.MarketReport;
 import com.aivle0102.bigproject.domain.VirtualConsumer;
 import com.aivle0102.bigproject.repository.ConsumerFeedbackRepository;
 import tools.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 @Service
 @RequiredArgsConstructor
@@ -19,24 +23,16 @@ public class EvaluationService {
     private final ObjectMapper objectMapper;
     private final ConsumerFeedbackRepository consumerFeedbackRepository;
 
+    // 페르소나 평가를 동시에 진행할 풀(null이면 호출한 스레드에서 순차 처리)
+    @Qualifier(ExecutorConfig.PERSONA_EVALUATION_EXECUTOR)
+    private final ExecutorService personaExecutor;
+
     // 각 AI 심사위원에게 생성한 보고서를 토대로 평가 진행
     public List<ConsumerFeedback> evaluate(List<VirtualConsumer> personas, String report) {
-
-        List<ConsumerFeedback> results = new ArrayList<>();
-
-        for (VirtualConsumer persona : personas) {
-            try {
-                ConsumerFeedback evaluation = evaluateOnePersona(persona, report);
-                evaluation.setConsumer(persona);
-
-                results.add(evaluation);
-
-            } catch (Exception e) {
-                System.err.println("[평가 실패] " + persona.getCountry() + " / " + persona.getPersonaName());
-            }
+        if (personas == null || personas.isEmpty()) {
+            return new ArrayList<>();
         }
-
-        return results;
+        return evaluateAll(personas, report, "[평가 실패] ");
     }
 
     // 심사의원 평가 저장
@@ -44,16 +40,27 @@ public class EvaluationService {
         if (report == null || report.getId() == null || personas == null || personas.isEmpty()) {
             return List.of();
         }
-        List<ConsumerFeedback> results = new ArrayList<>();
+        List<CompletableFuture<ConsumerFeedback>> evaluations = new ArrayList<>(personas.size());
         for (VirtualConsumer persona : personas) {
-            try {
-                ConsumerFeedback evaluation = evaluateOnePersona(persona, reportText);
-                evaluation.setReport(report);
-                evaluation.setConsumer(persona);
-                results.add(evaluation);
-            } catch (Exception e) {
-                System.err.println("[에러발생] " + persona.getCountry() + " / " + persona.getPersonaName());
-            }
+            evaluations.add(evaluateAsync(persona, reportText));
+        }
+        return saveEvaluations(report, evaluations);
+    }
+
+    // 페르소나 1명의 평가를 풀에서 시작(실패 시 null로 완료)
+    public CompletableFuture<ConsumerFeedback> evaluateAsync(VirtualConsumer persona, String reportText) {
+        return startEvaluation(persona, reportText, "[에러발생] ");
+    }
+
+    // 진행 중인 평가를 입력 순서대로 모아 한 번에 저장
+    // LLM 호출만 병렬로, 엔티티 연결과 저장은 호출 스레드(트랜잭션)에서
+    public List<ConsumerFeedback> saveEvaluations(MarketReport report, List<CompletableFuture<ConsumerFeedback>> evaluations) {
+        if (report == null || report.getId() == null || evaluations == null || evaluations.isEmpty()) {
+            return List.of();
+        }
+        List<ConsumerFeedback> results = collect(evaluations);
+        for (ConsumerFeedback evaluation : results) {
+            evaluation.setReport(report);
         }
         if (!results.isEmpty()) {
             consumerFeedbackRepository.saveAll(results);
@@ -61,6 +68,48 @@ public class EvaluationService {
         return results;
     }
 
+    // 페르소나별 평가를 제한된 풀에서 동시에 수행(실패한 페르소나는 건너뛰고 입력 순서 유지)
+    private List<ConsumerFeedback> evaluateAll(List<VirtualConsumer> personas, String report, String failureLabel) {
+        List<CompletableFuture<ConsumerFeedback>> evaluations = new ArrayList<>(personas.size());
+        for (VirtualConsumer persona : personas) {
+            evaluations.add(startEvaluation(persona, report, failureLabel));
+        }
+        return collect(evaluations);
+    }
+
+    private CompletableFuture<ConsumerFeedback> startEvaluation(VirtualConsumer persona, String report, String failureLabel) {
+        if (personaExecutor == null) {
+            return CompletableFuture.completedFuture(evaluateOrNull(persona, report, failureLabel));
+        }
+        return CompletableFuture.supplyAsync(() -> evaluateOrNull(persona, report, failureLabel), personaExecutor);
+    }
+
+    // 하나라도 예외로 끝나면 남은 평가를 취소한 뒤 다시 던진다(대기 중인 작업은 풀에서 실행되지 않음)
+    private static List<ConsumerFeedback> collect(List<CompletableFuture<ConsumerFeedback>> evaluations) {
+        List<ConsumerFeedback> results = new ArrayList<>();
+        try {
+            for (CompletableFuture<ConsumerFeedback> evaluation : evaluations) {
+                ConsumerFeedback feedback = evaluation.join();
+                if (feedback != null) results.add(feedback);
+            }
+        } catch (RuntimeException | Error e) {
+            evaluations.forEach(evaluation -> evaluation.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    private ConsumerFeedback evaluateOrNull(VirtualConsumer persona, String report, String failureLabel) {
+        try {
+            ConsumerFeedback evaluation = evaluateOnePersona(persona, report);
+            evaluation.setConsumer(persona);
+            return evaluation;
+        } catch (Exception e) {
+            System.err.println(failureLabel + persona.getCountry() + " / " + persona.getPersonaName());
+            return null;
+        }
+    }
+
     // 한명의 심사의원 평가 prompt
     private ConsumerFeedback evaluateOnePersona(VirtualConsumer persona, String report) throws Exception {
 
@@ -74,7 +123,7 @@ public class EvaluationService {
                 "temperature", 0.2
         );
 
-        String raw = openAiClient.chatCompletion(body);
+        String raw = openAiClient.chatCompletion("persona-evaluation", body);
         String json = extractJson(raw);
 
         return objectMapper.readValue(json, ConsumerFeedback.class);
@@ -166,7 +166,7 @@ public class InfluencerDiscoveryService {
         );
 
         // ✅ 여기만 핵심 변경: WebClient 직접 호출 제거
-        String json = openAiClient.chatCompletion(body);
+        String json = openAiClient.chatCompletion("influencer-selection", body);
         String cleaned = sanitizeJson(json);
 
         try {
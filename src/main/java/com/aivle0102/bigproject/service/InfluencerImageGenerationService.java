@@ -1,11 +1,13 @@
 package com.aivle0102.bigproject.service;
 
+import com.aivle0102.bigproject.client.OpenAiMetrics;
 import com.aivle0102.bigproject.dto.ImageGenerateRequest;
 import com.aivle0102.bigproject.dto.ImageGenerateResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -23,20 +25,25 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Service
 public class InfluencerImageGenerationService {
 
     private static final Logger log = LoggerFactory.getLogger(InfluencerImageGenerationService.class);
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT = new ParameterizedTypeReference<>() {};
 
     private final WebClient openAiImageWebClient;
+    private final OpenAiMetrics openAiMetrics;
 
     @Value("${openai.image-model}")
     private String imageModel;
 
     public InfluencerImageGenerationService(
-            @Qualifier("openAiImageWebClient") WebClient openAiImageWebClient) {
+            @Qualifier("openAiImageWebClient") WebClient openAiImageWebClient,
+            OpenAiMetrics openAiMetrics) {
         this.openAiImageWebClient = openAiImageWebClient;
+        this.openAiMetrics = openAiMetrics;
     }
 
     public ImageGenerateResponse generate(ImageGenerateRequest req) {
@@ -88,13 +95,13 @@ public class InfluencerImageGenerationService {
             form.add("output_format", "png");
         }
 
-        Map<String, Object> res = openAiImageWebClient.post()
+        Map<String, Object> res = measured("images.edits", () -> openAiImageWebClient.post()
                 .uri("/images/edits")
                 .contentType(MediaType.MULTIPART_FORM_DATA)
                 .body(BodyInserters.fromMultipartData(form))
                 .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+                .bodyToMono(JSON_OBJECT)
+                .block());
 
         // OpenAI Images 응답: { data: [ { b64_json: "..." } ], ... }
         String b64 = extractB64(res);
@@ -117,13 +124,13 @@ public class InfluencerImageGenerationService {
 
         Map<String, Object> res;
         try {
-            res = openAiImageWebClient.post()
+            res = measured("images.generations", () -> openAiImageWebClient.post()
                     .uri("/images/generations")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(body)
                     .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
+                    .bodyToMono(JSON_OBJECT)
+                    .block());
         } catch (WebClientResponseException e) {
             String bodyText = e.getResponseBodyAsString();
             return new ImageGenerateResponse(
@@ -149,6 +156,22 @@ public class InfluencerImageGenerationService {
         return new ImageGenerateResponse(b64, note);
     }
 
+    private Map<String, Object> measured(String operation, Supplier<Map<String, Object>> call) {
+        // 이미지 API 지연/오류/토큰(usage.input_tokens, output_tokens) 계측
+        OpenAiMetrics.Call measured = openAiMetrics.start(operation, imageModel, "influencer-image");
+        try {
+            Map<String, Object> res = call.get();
+            Map<?, ?> usage = res != null && res.get("usage") instanceof Map<?, ?> m ? m : Map.of();
+            measured.success(
+                    usage.get("input_tokens") instanceof Number n ? n.longValue() : 0,
+                    usage.get("output_tokens") instanceof Number n ? n.longValue() : 0);
+            return res;
+        } catch (RuntimeException e) {
+            measured.failure(e);
+            throw e;
+        }
+    }
+
     private String extractB64(Map<String, Object> res) {
         if (res == null)
             throw new RuntimeException("OpenAI 응답이 null입니다.");
@@ -0,0 +1,36 @@
+// 재료 하나에 대해 국가와 무관하게 구한 HACCP 근거와 알레르기 후보.
+// 국가 의무 목록으로의 필터링은 호출 측에서 하고, 폴백 탐색은 처음 필요해질 때 한 번만 수행한다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.dto.HaccpProductEvidence;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+final class IngredientCandidates {
+
+    record Evidence(String searchStrategy, List<HaccpProductEvidence> products, Set<String> canonicals) {
+    }
+
+    private final Evidence primary;
+    private final Supplier<Evidence> fallbackLoader;
+    private Evidence fallback;
+
+    IngredientCandidates(Evidence primary, Supplier<Evidence> fallbackLoader) {
+        this.primary = primary;
+        this.fallbackLoader = fallbackLoader;
+    }
+
+    Evidence primary() {
+        return primary;
+    }
+
+    synchronized Evidence fallback() {
+        // 실패하면 저장하지 않으므로 다음 호출에서 다시 시도
+        if (fallback == null) {
+            fallback = fallbackLoader.get();
+        }
+        return fallback;
+    }
+}
@@ -1,5 +1,6 @@
 package com.aivle0102.bigproject.service;
 
+import com.aivle0102.bigproject.client.LlmResponseCache;
 import com.aivle0102.bigproject.client.OpenAiClient;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,6 +20,7 @@ import java.util.Set;
 public class IngredientExtractionService {
 
     private final OpenAiClient openAiClient;
+    private final LlmResponseCache llmResponseCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${openai.model:gpt-4.1-mini}")
@@ -42,7 +44,7 @@ public class IngredientExtractionService {
                 "temperature", 0.2
         );
 
-        String content = openAiClient.chatCompletion(body);
+        String content = llmResponseCache.get("ingredient-extraction", body, () -> openAiClient.chatCompletion("ingredient-extraction", body));
         return postProcess(parseJsonArray(content));
     }
 
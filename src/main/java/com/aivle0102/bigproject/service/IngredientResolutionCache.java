@@ -0,0 +1,68 @@
+// 배치 분석에서 레시피 간 동일 재료의 HACCP 탐색 결과를 공유하기 위한 캐시.
+// 탐색 결과는 국가와 무관하므로 재료 단위로 진행 중/완료된 탐색을 보관하며, 최대 개수를 넘으면 오래된 항목부터 버린다.
+package com.aivle0102.bigproject.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public class IngredientResolutionCache {
+
+    private final Map<String, CompletableFuture<IngredientCandidates>> resolutions;
+    private long hits;
+    private long misses;
+
+    public IngredientResolutionCache(int maxEntries) {
+        int cap = Math.max(1, maxEntries);
+        this.resolutions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<IngredientCandidates>> eldest) {
+                return size() > cap;
+            }
+        };
+    }
+
+    CompletableFuture<IngredientCandidates> resolve(String key, Supplier<CompletableFuture<IngredientCandidates>> starter) {
+        // 같은 키의 탐색이 진행 중이거나 끝났으면 그 결과를 공유, 없으면 새로 시작
+        CompletableFuture<IngredientCandidates> future;
+        synchronized (this) {
+            future = resolutions.get(key);
+            if (future != null) {
+                hits++;
+                return future;
+            }
+            misses++;
+            future = new CompletableFuture<>();
+            resolutions.put(key, future);
+        }
+
+        CompletableFuture<IngredientCandidates> target = future;
+        CompletableFuture<IngredientCandidates> started;
+        try {
+            started = starter.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((ev, error) -> {
+            if (error != null) {
+                // 실패한 탐색은 공유하지 않고 다음 요청에서 다시 시도
+                synchronized (this) {
+                    resolutions.remove(key, target);
+                }
+                target.completeExceptionally(error);
+            } else {
+                target.complete(ev);
+            }
+        });
+        return target;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
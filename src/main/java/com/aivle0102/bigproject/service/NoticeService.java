@@ -1,8 +1,10 @@
 package com.aivle0102.bigproject.service;
 
+import com.aivle0102.bigproject.config.PaginationProperties;
 import com.aivle0102.bigproject.domain.Notice;
 import com.aivle0102.bigproject.domain.NoticeComment;
 import com.aivle0102.bigproject.domain.UserInfo;
+import com.aivle0102.bigproject.dto.KeysetPage;
 import com.aivle0102.bigproject.dto.NoticeCommentRequest;
 import com.aivle0102.bigproject.dto.NoticeCommentResponse;
 import com.aivle0102.bigproject.dto.NoticeRequest;
@@ -11,12 +13,16 @@ import com.aivle0102.bigproject.exception.CustomException;
 import com.aivle0102.bigproject.repository.NoticeCommentRepository;
 import com.aivle0102.bigproject.repository.NoticeRepository;
 import com.aivle0102.bigproject.repository.UserInfoRepository;
+import com.aivle0102.bigproject.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,20 +31,18 @@ public class NoticeService {
     private final NoticeRepository noticeRepository;
     private final NoticeCommentRepository noticeCommentRepository;
     private final UserInfoRepository userInfoRepository;
+    private final PaginationProperties paginationProperties;
 
     @Transactional(readOnly = true)
-    public List<NoticeResponse> getNotices(String userId) {
+    public KeysetPage<NoticeResponse> getNotices(String userId, String cursor, Integer size) {
         Long companyId = userId == null ? null : resolveCompanyId(userId);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolveSize(size);
+        Limit limit = Limit.of(pageSize + 1);
         List<Notice> notices = companyId == null
-                ? noticeRepository.findAllByOrderByCreatedAtDesc()
-                : noticeRepository.findByCompanyIdOrCompanyIdIsNullOrderByCreatedAtDesc(companyId);
-        return notices
-                .stream()
-                .map(notice -> {
-                    notice.setAuthorName(resolveUserName(notice.getAuthorId()));
-                    return NoticeResponse.from(notice);
-                })
-                .toList();
+                ? noticeRepository.findPage(after.createdAt(), after.id(), limit)
+                : noticeRepository.findPageByCompanyId(companyId, after.createdAt(), after.id(), limit);
+        return KeysetPage.of(notices, pageSize, notice -> new KeysetCursor(notice.getCreatedAt(), notice.getId()), this::toResponses);
     }
 
     @Transactional(readOnly = true)
@@ -141,6 +145,20 @@ public class NoticeService {
         }
     }
 
+    private List<NoticeResponse> toResponses(List<Notice> notices) {
+        // 작성자 이름은 페이지 단위로 한 번에 조회
+        List<String> authorIds = notices.stream().map(Notice::getAuthorId).distinct().toList();
+        Map<String, String> names = authorIds.isEmpty() ? Map.of() : userInfoRepository.findByUserIdIn(authorIds)
+                .stream()
+                .collect(Collectors.toMap(UserInfo::getUserId, UserInfo::getUserName, (a, b) -> a));
+        return notices.stream()
+                .map(notice -> {
+                    notice.setAuthorName(names.getOrDefault(notice.getAuthorId(), notice.getAuthorId()));
+                    return NoticeResponse.from(notice);
+                })
+                .toList();
+    }
+
     private String resolveUserName(String userId) {
         return userInfoRepository.findByUserId(userId)
                 .map(UserInfo::getUserName)
@@ -1,16 +1,22 @@
 package com.aivle0102.bigproject.service;
 
 import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.config.ExecutorConfig;
 import com.aivle0102.bigproject.dto.AgeGroupResult;
 import com.aivle0102.bigproject.domain.VirtualConsumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 
 @Service
@@ -20,6 +26,12 @@ public class PersonaService {
     private final OpenAiClient openAiClient;
     private final ObjectMapper objectMapper;
 
+    // 페르소나 생성을 동시에 진행할 풀(null이면 호출한 스레드에서 순차 처리) / 생성 호출 1건의 제한 시간
+    @Qualifier(ExecutorConfig.PERSONA_GENERATION_EXECUTOR)
+    private final ExecutorService generationExecutor;
+
+    @Value("${persona.generation-timeout-seconds:60}")
+    private long generationTimeoutSeconds;
 
     //1. 레시피에 맞는 국가별 연령대 Top1 뽑기
     public List<AgeGroupResult> selectTopAgeGroups(String recipe, List<String> countries) {
@@ -33,7 +45,7 @@ public class PersonaService {
                 "temperature", 0.2
         );
 
-        String response = openAiClient.chatCompletion(body);
+        String response = openAiClient.chatCompletion("age-group-selection", body);
 
         System.out.println("파싱이 이상하다 뭐지..." + response);
 
@@ -47,20 +59,46 @@ public class PersonaService {
         List<VirtualConsumer> personas = new ArrayList<>();
         if (targets == null || targets.isEmpty()) return personas;
 
-        for (AgeGroupResult t : targets) {
-            try {
-                VirtualConsumer persona = generatePersonaOne(recipeSummary, t.getCountry(), t.getAgeGroup());
-                personas.add(persona);
-
-            } catch (Exception e) {
-                // 한 국가 실패해도 전체 중단하지 않기
-                System.err.println("[페르소나 생성 실패] country=" + t.getCountry() + " / " + e.getMessage());
+        List<CompletableFuture<VirtualConsumer>> generations = generatePersonasAsync(recipeSummary, targets);
+        try {
+            for (CompletableFuture<VirtualConsumer> generation : generations) {
+                VirtualConsumer persona = generation.join();
+                if (persona != null) personas.add(persona);
             }
+        } catch (RuntimeException | Error e) {
+            // 남은 생성을 취소한 뒤 다시 던진다(대기 중인 작업은 풀에서 실행되지 않음)
+            generations.forEach(generation -> generation.cancel(true));
+            throw e;
         }
 
         return personas;
     }
 
+    // 국가별 생성을 제한된 풀에서 시작하고 대상 순서대로 future 반환
+    // (실패/시간 초과한 국가는 null로 완료되므로 호출 측에서 국가별로 후속 작업을 바로 이어 붙일 수 있다)
+    public List<CompletableFuture<VirtualConsumer>> generatePersonasAsync(String recipeSummary, List<AgeGroupResult> targets) {
+        List<CompletableFuture<VirtualConsumer>> generations = new ArrayList<>();
+        if (targets == null) return generations;
+        for (AgeGroupResult t : targets) {
+            if (generationExecutor == null) {
+                generations.add(CompletableFuture.completedFuture(generateOrNull(recipeSummary, t)));
+            } else {
+                generations.add(CompletableFuture.supplyAsync(() -> generateOrNull(recipeSummary, t), generationExecutor));
+            }
+        }
+        return generations;
+    }
+
+    private VirtualConsumer generateOrNull(String recipeSummary, AgeGroupResult t) {
+        try {
+            return generatePersonaOne(recipeSummary, t.getCountry(), t.getAgeGroup());
+        } catch (Exception e) {
+            // 한 국가 실패해도 전체 중단하지 않기
+            System.err.println("[페르소나 생성 실패] country=" + t.getCountry() + " / " + e.getMessage());
+            return null;
+        }
+    }
+
 
     // 단일 국가 1명 생성
     private VirtualConsumer generatePersonaOne(String recipeSummary, String country, String ageGroup) throws Exception {
@@ -75,7 +113,7 @@ public class PersonaService {
                 "temperature", 0.2
         );
 
-        String content = openAiClient.chatCompletion(body);
+        String content = openAiClient.chatCompletion("persona-generation", body, Duration.ofSeconds(generationTimeoutSeconds));
 
         // JSON 파싱
         return objectMapper.readValue(content, VirtualConsumer.class);
@@ -8,6 +8,7 @@ import com.aivle0102.bigproject.dto.RecipeCaseResponse;
 import com.aivle0102.bigproject.dto.RegulatoryCase;
 import com.aivle0102.bigproject.repository.RecipeNonconformingCaseRepository;
 import com.aivle0102.bigproject.util.RecipeIngredientExtractor;
+import com.aivle0102.bigproject.util.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
@@ -233,17 +234,8 @@ public class RecipeCaseServiceImpl implements RecipeCaseService {
     }
 
     private List<String> tokenize(String text) {
-        String normalized = text.replaceAll("[^\\p{IsAlphabetic}\\p{IsDigit}]+", " ").trim();
-        if (normalized.isBlank()) return List.of();
-
-        String[] parts = normalized.split("\\s+");
-        List<String> tokens = new ArrayList<>();
-        for (String p : parts) {
-            String t = p.trim();
-            if (t.isEmpty()) continue;
-            tokens.add(t);
-        }
-        return tokens;
+        // 알파벳/숫자 연속 구간 단위로 분리
+        return TextNormalizer.alnumTokens(text);
     }
 
     private boolean hasExactTokenMatch(String keyword, String ingredient) {
@@ -1,10 +1,13 @@
 package com.aivle0102.bigproject.service;
 
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.config.PaginationProperties;
 import com.aivle0102.bigproject.domain.Influencer;
 import com.aivle0102.bigproject.domain.MarketReport;
 import com.aivle0102.bigproject.domain.Recipe;
 import com.aivle0102.bigproject.domain.RecipeAllergen;
 import com.aivle0102.bigproject.domain.RecipeIngredient;
+import com.aivle0102.bigproject.domain.RecipeSummary;
 import com.aivle0102.bigproject.domain.UserInfo;
 import com.aivle0102.bigproject.domain.ConsumerFeedback;
 import com.aivle0102.bigproject.dto.*;
@@ -21,14 +24,22 @@ import com.aivle0102.bigproject.repository.MarketReportRepository;
 import com.aivle0102.bigproject.repository.RecipeAllergenRepository;
 import com.aivle0102.bigproject.repository.RecipeIngredientRepository;
 import com.aivle0102.bigproject.repository.RecipeRepository;
+import com.aivle0102.bigproject.repository.RecipeSummaryRepository;
 import com.aivle0102.bigproject.repository.UserInfoRepository;
 import com.aivle0102.bigproject.repository.ConsumerFeedbackRepository;
 import com.aivle0102.bigproject.repository.VirtualConsumerRepository;
+import com.aivle0102.bigproject.util.KeysetCursor;
+import com.aivle0102.bigproject.util.SearchCursor;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -40,6 +51,16 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,6 +72,7 @@ public class RecipeService {
     private static final String OPEN_YN_Y = "Y";
     private static final String OPEN_YN_N = "N";
     private static final String REPORT_TYPE_AI = "AI";
+    private static final int SEARCH_QUERY_MAX_LENGTH = 100;
     private static final String ANALYSIS_REF_DIRECT = "DIRECT_MATCH";
     private static final List<String> VIRTUAL_CONSUMER_COUNTRIES = List.of(
             "미국", "한국", "일본", "중국", "영국", "프랑스", "독일", "캐나다", "호주", "인도"
@@ -78,6 +100,9 @@ public class RecipeService {
     private final RecipeAllergenRepository recipeAllergenRepository;
     private final InfluencerRepository influencerRepository;
     private final UserInfoRepository userInfoRepository;
+    private final PaginationProperties paginationProperties;
+    private final RecipeSummaryRepository recipeSummaryRepository;
+    private final RecipeSummaryService recipeSummaryService;
     private final AiReportService aiReportService;
     private final AllergenAnalysisService allergenAnalysisService;
     private final PersonaService personaService;
@@ -85,10 +110,21 @@ public class RecipeService {
     private final ConsumerFeedbackRepository consumerFeedbackRepository;
     private final EvaluationService evaluationService;
     private final RecipeCaseService recipeCaseService;
+    private final MeterRegistry meterRegistry;
+    // 외부 호출(LLM/HACCP)이 끝난 뒤 저장만 짧은 트랜잭션으로 묶는다(호출 동안 커넥션을 잡지 않음)
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Transactional
+    // create 파이프라인에서 서로 독립적인 외부 호출 단계(알레르기 분석, 연령대 선정)를 동시에 돌릴 풀(null이면 순차)
+    @Qualifier(ExecutorConfig.RECIPE_PIPELINE_EXECUTOR)
+    private final ExecutorService pipelineExecutor;
+
     public RecipeResponse create(String authorId, RecipeCreateRequest request) {
+        return create(authorId, request, true);
+    }
+
+    // generateReport가 false면 reportSections와 관계없이 레시피/재료만 저장한다(보고서는 report_job이 따로 생성)
+    public RecipeResponse create(String authorId, RecipeCreateRequest request, boolean generateReport) {
         String authorName = resolveUserName(authorId);
         Long companyId = resolveCompanyId(authorId);
         String rawTargetCountry = defaultIfBlank(request.getTargetCountry(), "US");
@@ -96,9 +132,9 @@ public class RecipeService {
 
         List<String> reportSections = normalizeReportSections(request.getReportSections());
         boolean hasSelection = request.getReportSections() != null;
-        boolean includeReportJson = hasSelection
+        boolean includeReportJson = generateReport && (hasSelection
                 ? hasAnyReportJsonSection(reportSections)
-                : true;
+                : true);
         boolean includeSummary = hasSelection
                 ? reportSections.contains(SECTION_SUMMARY)
                 : true;
@@ -114,10 +150,16 @@ public class RecipeService {
             includeEvaluation = false;
         }
 
+        // 단계 의존 관계: 알레르기 분석은 리포트와 무관하게 바로 시작, 연령대 선정은 리포트 이후 요약과 동시에 진행
+        // (리포트 -> 요약 -> 페르소나 생성/평가 순서와 결과는 순차 실행과 같다)
         ReportRequest reportRequest = null;
         String reportJson = null;
         String summary = null;
         AllergenAnalysisResponse allergenResponse = null;
+        CompletableFuture<List<AgeGroupResult>> ageGroupStage = null;
+        CompletableFuture<AllergenAnalysisResponse> allergenStage = includeAllergen
+                ? runStage("allergen", () -> allergenAnalysisService.analyzeIngredients(request.getIngredients(), normalizedTargetCountry))
+                : CompletableFuture.completedFuture(null);
         if (includeReportJson) {
             reportRequest = buildReportRequest(
                     request,
@@ -126,103 +168,108 @@ public class RecipeService {
                     rawTargetCountry
             );
             reportRequest.setSections(filterReportSectionsForPrompt(reportSections));
+            ReportRequest promptRequest = reportRequest;
             try {
-                var report = aiReportService.generateReport(reportRequest);
+                var report = timeStage("report", () -> aiReportService.generateReport(promptRequest));
                 Map<String, Object> filtered = filterReportContent(report, reportSections);
                 reportJson = writeJsonMap(filtered);
-                if (includeSummary) {
-                    summary = aiReportService.generateSummary(reportJson);
+                String recipeText = promptRequest.getRecipe();
+                if (includeEvaluation && recipeText != null && !recipeText.isBlank()) {
+                    ageGroupStage = runStage("age-groups",
+                            () -> personaService.selectTopAgeGroups(recipeText, VIRTUAL_CONSUMER_COUNTRIES));
                 }
-                if (includeAllergen) {
-                    allergenResponse = allergenAnalysisService.analyzeIngredients(request.getIngredients(), normalizedTargetCountry);
+                if (includeSummary) {
+                    String fullReport = reportJson;
+                    summary = timeStage("summary", () -> aiReportService.generateSummary(fullReport));
                 }
+                allergenResponse = awaitStage(allergenStage);
             } catch (Exception e) {
+                // 먼저 시작해 둔 단계의 LLM/HACCP 호출을 중단한다(결과는 쓰지 않음)
+                allergenStage.cancel(true);
+                if (ageGroupStage != null) ageGroupStage.cancel(true);
                 throw new IllegalStateException("레시피 보고서 생성에 실패했습니다.", e);
             }
         } else if (includeAllergen) {
-            allergenResponse = allergenAnalysisService.analyzeIngredients(request.getIngredients(), normalizedTargetCountry);
-        }
-
-        String openYn = normalizeOpenYn(request.getOpenYn());
-        if (openYn == null) {
-            openYn = OPEN_YN_N;
-        }
-
-        Recipe recipe = Recipe.builder()
-                .recipeName(request.getTitle())
-                .description(request.getDescription())
-                .imageBase64(request.getImageBase64())
-                .steps(joinSteps(request.getSteps()))
-                .status(request.isDraft() ? STATUS_DRAFT : STATUS_PUBLISHED)
-                .openYn(openYn)
-                .userId(authorId)
-                .companyId(companyId)
-                .targetCountry(rawTargetCountry)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        Recipe saved = recipeRepository.save(recipe);
-
-        List<RecipeIngredient> ingredients = saveIngredients(saved, request.getIngredients());
-        MarketReport marketReport = null;
-        if (includeReportJson) {
-            marketReport = marketReportRepository.save(MarketReport.builder()
-                    .recipe(saved)
-                    .reportType(REPORT_TYPE_AI)
-                    .content(reportJson)
-                    .summary(summary)
-                    .openYn(OPEN_YN_N)
-                    .build());
-        }
+            allergenResponse = awaitStage(allergenStage);
+        }
+
+        ConsumerEvaluations consumers = ConsumerEvaluations.NONE;
+        if (includeEvaluation && includeReportJson && reportRequest != null) {
+            String recipeText = reportRequest.getRecipe();
+            String personaSummary = summary;
+            String evaluationJson = reportJson;
+            CompletableFuture<List<AgeGroupResult>> targets = ageGroupStage;
+            consumers = timeStage("consumers", () -> prepareConsumerEvaluations(
+                    recipeText, personaSummary, evaluationJson, targets));
+        }
+
+        // 외부 호출이 모두 끝난 뒤 짧은 쓰기 트랜잭션에서 저장
+        String normalizedOpenYn = normalizeOpenYn(request.getOpenYn());
+        String openYn = normalizedOpenYn == null ? OPEN_YN_N : normalizedOpenYn;
+        boolean saveReport = includeReportJson;
+        boolean saveEvaluation = includeEvaluation && includeReportJson;
+        String reportContent = reportJson;
+        String reportSummary = summary;
+        AllergenAnalysisResponse allergens = includeAllergen ? allergenResponse : null;
+        ConsumerEvaluations evaluations = consumers;
+
+        return transactionTemplate.execute(status -> {
+            Recipe recipe = Recipe.builder()
+                    .recipeName(request.getTitle())
+                    .description(request.getDescription())
+                    .imageBase64(request.getImageBase64())
+                    .steps(joinSteps(request.getSteps()))
+                    .status(request.isDraft() ? STATUS_DRAFT : STATUS_PUBLISHED)
+                    .openYn(openYn)
+                    .userId(authorId)
+                    .companyId(companyId)
+                    .targetCountry(rawTargetCountry)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+
+            Recipe saved = recipeRepository.save(recipe);
+
+            List<RecipeIngredient> ingredients = saveIngredients(saved, request.getIngredients());
+            MarketReport marketReport = null;
+            if (saveReport) {
+                marketReport = marketReportRepository.save(MarketReport.builder()
+                        .recipe(saved)
+                        .reportType(REPORT_TYPE_AI)
+                        .content(reportContent)
+                        .summary(reportSummary)
+                        .openYn(OPEN_YN_N)
+                        .build());
+            }
 
-        if (includeAllergen && allergenResponse != null) {
-            saveAllergens(saved, ingredients, allergenResponse);
-        }
-        if (includeEvaluation && includeReportJson && marketReport != null && reportRequest != null) {
-            List<VirtualConsumer> consumers = saveVirtualConsumers(marketReport, reportRequest.getRecipe(), summary, reportJson);
-            evaluationService.evaluateAndSave(marketReport, consumers, reportJson);
-        }
+            if (allergens != null) {
+                saveAllergens(saved, ingredients, allergens);
+            }
+            if (saveEvaluation && marketReport != null) {
+                saveConsumerEvaluations(marketReport, evaluations);
+            }
+            recipeSummaryService.refresh(saved);
 
-        return toResponse(saved, ingredients, marketReport, authorName);
+            return toResponse(saved, ingredients, marketReport, authorName);
+        });
     }
 
-    @Transactional
     public RecipeResponse update(Long id, String authorId, RecipeCreateRequest request) {
-        Recipe recipe = recipeRepository.findById(id)
+        // 읽기 -> 외부 호출(보고서/페르소나/알레르기) -> 쓰기 트랜잭션 순서로 진행
+        Recipe current = recipeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
-        if (!recipe.getUserId().equals(authorId)) {
+        if (!current.getUserId().equals(authorId)) {
             throw new IllegalArgumentException("레시피를 찾을 수 없습니다.");
         }
 
         boolean ingredientsChanged = request.getIngredients() != null;
-
-        recipe.setRecipeName(request.getTitle());
-        recipe.setDescription(request.getDescription());
-        recipe.setImageBase64(request.getImageBase64());
-        recipe.setSteps(joinSteps(request.getSteps()));
-        String rawTargetCountry = defaultIfBlank(request.getTargetCountry(), recipe.getTargetCountry());
+        String rawTargetCountry = defaultIfBlank(request.getTargetCountry(), current.getTargetCountry());
         String normalizedTargetCountry = normalizeCountryCode(rawTargetCountry);
-        recipe.setTargetCountry(rawTargetCountry);
-        String openYn = normalizeOpenYn(request.getOpenYn());
-        if (openYn != null) {
-            recipe.setOpenYn(openYn);
-        }
-        recipe.setUpdatedAt(LocalDateTime.now());
-
-        Recipe saved = recipeRepository.save(recipe);
-
-        List<RecipeIngredient> ingredients;
-        List<String> ingredientsForAnalysis;
-        if (ingredientsChanged) {
-            // 레퍼가 끊기지 않도록 재료 삭제 전에 알레르겐 행을 먼저 삭제
-            recipeAllergenRepository.deleteByRecipe_Id(saved.getId());
-            ingredients = replaceIngredients(saved, request.getIngredients());
-            ingredientsForAnalysis = request.getIngredients();
-        } else {
-            ingredients = recipeIngredientRepository.findByRecipe_IdOrderByIdAsc(saved.getId());
-            ingredientsForAnalysis = ingredients.stream().map(RecipeIngredient::getIngredientName).toList();
-        }
+        List<String> ingredientsForAnalysis = ingredientsChanged
+                ? request.getIngredients()
+                : recipeIngredientRepository.findByRecipe_IdOrderByIdAsc(id).stream()
+                        .map(RecipeIngredient::getIngredientName)
+                        .toList();
         String targetCountry = rawTargetCountry;
 
         List<String> reportSections = normalizeReportSections(request.getReportSections());
@@ -244,18 +291,12 @@ public class RecipeService {
             includeEvaluation = false;
         }
 
-        if (hasSelection && !includeReportJson) {
-            List<MarketReport> reports = marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(saved.getId());
-            for (MarketReport report : reports) {
-                if (report.getId() != null) {
-                    influencerRepository.deleteByReport_Id(report.getId());
-                    consumerFeedbackRepository.deleteByReport_Id(report.getId());
-                    virtualConsumerRepository.deleteByReport_Id(report.getId());
-                }
-            }
-            marketReportRepository.deleteAll(reports);
-        } else if (includeReportJson && request.isRegenerateReport()) {
-            List<String> stepsForAnalysis = request.getSteps() != null ? request.getSteps() : splitSteps(recipe.getSteps());
+        boolean regenerate = includeReportJson && request.isRegenerateReport();
+        String reportJson = null;
+        String summary = null;
+        ConsumerEvaluations consumers = ConsumerEvaluations.NONE;
+        if (regenerate) {
+            List<String> stepsForAnalysis = request.getSteps() != null ? request.getSteps() : splitSteps(current.getSteps());
             ReportRequest reportRequest = buildReportRequest(
                     request,
                     ingredientsForAnalysis,
@@ -263,8 +304,6 @@ public class RecipeService {
                     targetCountry
             );
             reportRequest.setSections(filterReportSectionsForPrompt(reportSections));
-            String reportJson;
-            String summary = null;
             try {
                 var report = aiReportService.generateReport(reportRequest);
                 Map<String, Object> filtered = filterReportContent(report, reportSections);
@@ -275,74 +314,165 @@ public class RecipeService {
             } catch (Exception e) {
                 throw new IllegalStateException("레시피 보고서 생성에 실패했습니다.", e);
             }
-
-            MarketReport marketReport = marketReportRepository.findTopByRecipe_IdOrderByCreatedAtDesc(saved.getId())
-                    .orElseGet(() -> MarketReport.builder().recipe(saved).reportType(REPORT_TYPE_AI).build());
-            marketReport.setContent(reportJson);
-            marketReport.setSummary(summary);
-            if (marketReport.getOpenYn() == null || marketReport.getOpenYn().isBlank()) {
-                marketReport.setOpenYn(OPEN_YN_N);
+            if (includeEvaluation) {
+                consumers = prepareConsumerEvaluations(reportRequest.getRecipe(), summary, reportJson);
             }
-            marketReportRepository.save(marketReport);
-            if (marketReport.getId() != null) {
-                influencerRepository.deleteByReport_Id(marketReport.getId());
-                consumerFeedbackRepository.deleteByReport_Id(marketReport.getId());
-                virtualConsumerRepository.deleteByReport_Id(marketReport.getId());
+        }
+
+        AllergenAnalysisResponse allergenResponse = null;
+        if (includeAllergen
+                && (ingredientsChanged || recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(id).isEmpty())) {
+            allergenResponse = allergenAnalysisService.analyzeIngredients(
+                    ingredientsForAnalysis,
+                    normalizedTargetCountry
+            );
+        }
+
+        boolean dropReports = hasSelection && !includeReportJson;
+        boolean dropEvaluations = hasSelection && includeReportJson && !includeEvaluation;
+        boolean saveEvaluation = includeEvaluation;
+        boolean dropAllergens = hasSelection && !includeAllergen;
+        String reportContent = reportJson;
+        String reportSummary = summary;
+        ConsumerEvaluations evaluations = consumers;
+        AllergenAnalysisResponse allergens = allergenResponse;
+
+        return transactionTemplate.execute(status -> {
+            Recipe recipe = recipeRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
+            recipe.setRecipeName(request.getTitle());
+            recipe.setDescription(request.getDescription());
+            recipe.setImageBase64(request.getImageBase64());
+            recipe.setSteps(joinSteps(request.getSteps()));
+            recipe.setTargetCountry(rawTargetCountry);
+            String openYn = normalizeOpenYn(request.getOpenYn());
+            if (openYn != null) {
+                recipe.setOpenYn(openYn);
             }
-            if (includeEvaluation) {
-                List<VirtualConsumer> consumers = saveVirtualConsumers(marketReport, reportRequest.getRecipe(), summary, reportJson);
-                evaluationService.evaluateAndSave(marketReport, consumers, reportJson);
+            recipe.setUpdatedAt(LocalDateTime.now());
+
+            Recipe saved = recipeRepository.save(recipe);
+
+            List<RecipeIngredient> ingredients;
+            if (ingredientsChanged) {
+                // 레퍼가 끊기지 않도록 재료 삭제 전에 알레르겐 행을 먼저 삭제
+                recipeAllergenRepository.deleteByRecipe_Id(saved.getId());
+                ingredients = replaceIngredients(saved, request.getIngredients());
+            } else {
+                ingredients = recipeIngredientRepository.findByRecipe_IdOrderByIdAsc(saved.getId());
             }
-        } else if (hasSelection && includeReportJson && !includeEvaluation) {
-            MarketReport latestReport = marketReportRepository.findTopByRecipe_IdOrderByCreatedAtDesc(saved.getId()).orElse(null);
-            if (latestReport != null && latestReport.getId() != null) {
-                consumerFeedbackRepository.deleteByReport_Id(latestReport.getId());
-                virtualConsumerRepository.deleteByReport_Id(latestReport.getId());
+
+            if (dropReports) {
+                List<MarketReport> reports = marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(saved.getId());
+                for (MarketReport report : reports) {
+                    if (report.getId() != null) {
+                        influencerRepository.deleteByReport_Id(report.getId());
+                        consumerFeedbackRepository.deleteByReport_Id(report.getId());
+                        virtualConsumerRepository.deleteByReport_Id(report.getId());
+                    }
+                }
+                marketReportRepository.deleteAll(reports);
+            } else if (regenerate) {
+                MarketReport marketReport = marketReportRepository.findTopByRecipe_IdOrderByCreatedAtDesc(saved.getId())
+                        .orElseGet(() -> MarketReport.builder().recipe(saved).reportType(REPORT_TYPE_AI).build());
+                marketReport.setContent(reportContent);
+                marketReport.setSummary(reportSummary);
+                if (marketReport.getOpenYn() == null || marketReport.getOpenYn().isBlank()) {
+                    marketReport.setOpenYn(OPEN_YN_N);
+                }
+                marketReportRepository.save(marketReport);
+                if (marketReport.getId() != null) {
+                    influencerRepository.deleteByReport_Id(marketReport.getId());
+                    consumerFeedbackRepository.deleteByReport_Id(marketReport.getId());
+                    virtualConsumerRepository.deleteByReport_Id(marketReport.getId());
+                }
+                if (saveEvaluation) {
+                    saveConsumerEvaluations(marketReport, evaluations);
+                }
+            } else if (dropEvaluations) {
+                MarketReport latestReport = marketReportRepository.findTopByRecipe_IdOrderByCreatedAtDesc(saved.getId()).orElse(null);
+                if (latestReport != null && latestReport.getId() != null) {
+                    consumerFeedbackRepository.deleteByReport_Id(latestReport.getId());
+                    virtualConsumerRepository.deleteByReport_Id(latestReport.getId());
+                }
             }
-        }
 
-        if (hasSelection && !includeAllergen) {
-            recipeAllergenRepository.deleteByRecipe_Id(saved.getId());
-        } else if (includeAllergen) {
-            boolean hasExistingAllergens =
-                    !recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(saved.getId()).isEmpty();
-            if (ingredientsChanged || !hasExistingAllergens) {
-                AllergenAnalysisResponse allergenResponse = allergenAnalysisService.analyzeIngredients(
-                        ingredientsForAnalysis,
-                        normalizedTargetCountry
-                );
-                saveAllergens(saved, ingredients, allergenResponse);
+            if (dropAllergens) {
+                recipeAllergenRepository.deleteByRecipe_Id(saved.getId());
+            } else if (allergens != null) {
+                saveAllergens(saved, ingredients, allergens);
             }
-        }
+            recipeSummaryService.refresh(saved);
 
-        String authorName = resolveUserName(authorId);
-        MarketReport latestReport = marketReportRepository.findTopByRecipe_IdOrderByCreatedAtDesc(saved.getId()).orElse(null);
-        return toResponse(saved, ingredients, latestReport, authorName);
+            String authorName = resolveUserName(authorId);
+            MarketReport latestReport = marketReportRepository.findTopByRecipe_IdOrderByCreatedAtDesc(saved.getId()).orElse(null);
+            return toResponse(saved, ingredients, latestReport, authorName);
+        });
     }
 
 
     @Transactional(readOnly = true)
-    public List<RecipeResponse> getAll(String requesterId) {
+    public KeysetPage<RecipeListItemResponse> getAll(String requesterId, String cursor, Integer size) {
+        // 공개된 AI 리포트가 있는 레시피만 recipe_summary에서 (created_at, recipe_id) 키셋으로 한 페이지씩 조회
         Long companyId = requesterId == null ? null : resolveCompanyId(requesterId);
-        List<Recipe> recipes = companyId == null
-                ? recipeRepository.findAllByOrderByCreatedAtDesc()
-                : recipeRepository.findByCompanyIdOrderByCreatedAtDesc(companyId);
-        return recipes.stream()
-                .filter(this::isRecipeVisibleForHub)
-                .map(this::toResponse)
-                .toList();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolveSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<RecipeSummary> summaries = companyId == null
+                ? recipeSummaryRepository.findHubPage(after.createdAt(), after.id(), limit)
+                : recipeSummaryRepository.findHubPageByCompanyId(companyId, after.createdAt(), after.id(), limit);
+        return KeysetPage.of(
+                summaries,
+                pageSize,
+                summary -> new KeysetCursor(summary.getCreatedAt(), summary.getRecipeId()),
+                this::toListItems
+        );
     }
 
+    // 허브 검색: 제목/설명/재료/공개 리포트 요약을 순위순으로. 검색어가 없으면 일반 허브 목록과 같다
     @Transactional(readOnly = true)
-    public List<RecipeResponse> getByAuthor(String authorId) {
-        return recipeRepository.findByUserIdOrderByCreatedAtDesc(authorId)
-                .stream()
-                .map(this::toResponse)
-                .toList();
+    public KeysetPage<RecipeListItemResponse> search(String requesterId, String query, String cursor, Integer size) {
+        String normalized = query == null ? "" : query.strip();
+        if (normalized.isEmpty()) {
+            return getAll(requesterId, cursor, size);
+        }
+        if (normalized.length() > SEARCH_QUERY_MAX_LENGTH) {
+            normalized = normalized.substring(0, SEARCH_QUERY_MAX_LENGTH);
+        }
+        Long companyId = requesterId == null ? null : resolveCompanyId(requesterId);
+        int offset = SearchCursor.decode(cursor).offset();
+        int pageSize = paginationProperties.resolveSize(size);
+        String pattern = "%" + escapeLikePattern(normalized) + "%";
+        List<RecipeSummary> rows = companyId == null
+                ? recipeSummaryRepository.searchHub(normalized, pattern, offset, pageSize + 1)
+                : recipeSummaryRepository.searchHubByCompanyId(companyId, normalized, pattern, offset, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<RecipeListItemResponse> items = toListItems(hasNext ? rows.subList(0, pageSize) : rows);
+        return new KeysetPage<>(items, hasNext ? new SearchCursor(offset + pageSize).encode() : null);
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecipeListItemResponse> getByAuthor(String authorId) {
+        return toListItems(recipeSummaryRepository.findByUserIdOrderByCreatedAtDescRecipeIdDesc(authorId));
     }
 
     @Transactional(readOnly = true)
     public RecipeResponse getOne(Long id, String requesterId) {
+        return toResponse(findReadableRecipe(id, requesterId));
+    }
+
+    // 목록에서 뺀 레시피 이미지를 따로 내려준다(상세와 같은 열람 조건)
+    @Transactional(readOnly = true)
+    public Optional<String> getImage(Long id, String requesterId) {
+        return Optional.ofNullable(findReadableRecipe(id, requesterId).getImageBase64())
+                .filter(image -> !image.isBlank());
+    }
+
+    private Recipe findReadableRecipe(Long id, String requesterId) {
         Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
         boolean isOwner = requesterId != null && requesterId.equals(recipe.getUserId());
@@ -352,7 +482,7 @@ public class RecipeService {
         if (!isOwner && !isRecipeVisibleForHub(recipe)) {
             throw new IllegalArgumentException("레시피를 찾을 수 없습니다.");
         }
-        return toResponse(recipe);
+        return recipe;
     }
 
     @Transactional(readOnly = true)
@@ -363,11 +493,11 @@ public class RecipeService {
         if (!isOwner && !isRecipeVisibleForHub(recipe)) {
             throw new IllegalArgumentException("레시피를 찾을 수 없습니다.");
         }
-        List<MarketReport> reports = isOwner
-                ? marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(recipeId)
-                : marketReportRepository.findByRecipe_IdAndOpenYnOrderByCreatedAtDesc(recipeId, OPEN_YN_Y);
+        // 리포트 본문(content)은 읽지 않고 목록 컬럼만 조회
+        List<ReportListItem> reports = isOwner
+                ? marketReportRepository.findListItemsByRecipeId(recipeId, REPORT_TYPE_AI)
+                : marketReportRepository.findListItemsByRecipeIdAndOpenYn(recipeId, REPORT_TYPE_AI, OPEN_YN_Y);
         return reports.stream()
-                .filter(report -> REPORT_TYPE_AI.equalsIgnoreCase(defaultIfBlank(report.getReportType(), "")))
                 .map(report -> new ReportListItem(
                         report.getId(),
                         report.getReportType(),
@@ -378,7 +508,7 @@ public class RecipeService {
                 .toList();
     }
 
-    @Transactional
+    // 평가 생성(LLM)은 트랜잭션 밖에서, 저장만 보고서별 쓰기 트랜잭션에서
     public void ensureEvaluationForReports(List<MarketReport> reports) {
         if (reports == null || reports.isEmpty()) {
             return;
@@ -412,20 +542,61 @@ public class RecipeService {
                 ? List.of()
                 : ingredients.stream().map(RecipeIngredient::getIngredientName).toList();
         String recipeText = buildReportRecipeFromRecipe(recipe, ingredientNames, splitSteps(recipe.getSteps()));
-        List<VirtualConsumer> consumers = saveVirtualConsumers(
-                evalReport,
+        ConsumerEvaluations consumers = prepareConsumerEvaluations(
                 recipeText,
                 evalReport.getSummary(),
                 evalReport.getContent()
         );
-        if (consumers == null || consumers.isEmpty()) {
-            return;
-        }
-        evaluationService.evaluateAndSave(evalReport, consumers, evalReport.getContent());
+        transactionTemplate.executeWithoutResult(status -> saveConsumerEvaluations(evalReport, consumers));
     }
 
-    @Transactional
     public ReportDetailResponse createReport(Long recipeId, String requesterId, ReportCreateRequest request) {
+        return createReport(recipeId, requesterId, request, null);
+    }
+
+    // sectionListener가 있으면 리포트를 스트리밍으로 생성하고, 완성된 최상위 섹션을 바로 전달한다(저장은 동일)
+    public ReportDetailResponse createReport(
+            Long recipeId,
+            String requesterId,
+            ReportCreateRequest request,
+            BiConsumer<String, Object> sectionListener
+    ) {
+        ReportPlan plan = planReport(recipeId, requesterId, request);
+        GeneratedReport generated = generateReportContent(plan, sectionListener);
+        return saveReport(plan, request, generated, prepareReport(plan, request, generated), null);
+    }
+
+    // 보고서 작업(report_job) 1단계: 리포트/요약 생성, 알레르기 분석, 가상 소비자 평가 등 외부 호출을 모두 끝내고
+    // 결과를 체크포인트(JSON)로 돌려준다. DB에는 쓰지 않는다
+    public GeneratedReport generateReportContent(Long recipeId, String requesterId, ReportCreateRequest request) {
+        ReportPlan plan = planReport(recipeId, requesterId, request);
+        GeneratedReport generated = generateReportContent(plan, null);
+        PreparedReport prepared = prepareReport(plan, request, generated);
+        return new GeneratedReport(
+                generated.reportJson(),
+                generated.summary(),
+                prepared.allergens() == null ? null : writeJsonMap(prepared.allergens()),
+                writeJsonMap(toConsumerCheckpoints(prepared.consumers()))
+        );
+    }
+
+    // 보고서 작업(report_job) 2단계: 1단계 체크포인트로 보고서/알레르기/가상 소비자 평가를 저장한다(외부 호출 없음)
+    // onSaved는 저장과 같은 트랜잭션에서 보고서 ID로 호출된다(예외를 던지면 저장도 롤백)
+    public ReportDetailResponse saveGeneratedReport(
+            Long recipeId,
+            String requesterId,
+            ReportCreateRequest request,
+            GeneratedReport generated,
+            LongConsumer onSaved
+    ) {
+        PreparedReport prepared = new PreparedReport(
+                readCheckpoint(generated.allergenJson(), new TypeReference<AllergenAnalysisResponse>() {}),
+                fromConsumerCheckpoints(readCheckpoint(generated.consumersJson(), new TypeReference<List<ConsumerCheckpoint>>() {}))
+        );
+        return saveReport(planReport(recipeId, requesterId, request), request, generated, prepared, onSaved);
+    }
+
+    private ReportPlan planReport(Long recipeId, String requesterId, ReportCreateRequest request) {
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
         if (!recipe.getUserId().equals(requesterId)) {
@@ -450,71 +621,133 @@ public class RecipeService {
         }
 
         ReportRequest reportRequest = null;
-        String reportJson = null;
-        String summary = null;
         if (includeReportJson) {
             reportRequest = buildReportRequestFromRecipe(recipe, ingredientNames, steps, request);
             reportRequest.setSections(filterReportSectionsForPrompt(reportSections));
-            try {
-                var report = aiReportService.generateReport(reportRequest);
-                Map<String, Object> filtered = filterReportContent(report, reportSections);
-                reportJson = writeJsonMap(filtered);
-                if (includeSummary) {
-                    summary = aiReportService.generateSummary(reportJson);
-                }
-            } catch (Exception e) {
-                throw new IllegalStateException("레시피 보고서 생성에 실패했습니다.", e);
-            }
         }
+        return new ReportPlan(recipe, ingredients, ingredientNames, reportSections,
+                includeReportJson, includeSummary, includeAllergen, includeEvaluation, reportRequest);
+    }
 
-        String openYn = normalizeOpenYn(request == null ? null : request.getOpenYn());
-        if (openYn == null) {
-            openYn = OPEN_YN_N;
+    private GeneratedReport generateReportContent(ReportPlan plan, BiConsumer<String, Object> sectionListener) {
+        if (!plan.includeReportJson()) {
+            return new GeneratedReport(null, null, null, null);
         }
+        List<String> reportSections = plan.reportSections();
+        List<String> promptSections = plan.reportRequest().getSections();
+        try {
+            var report = sectionListener == null
+                    ? aiReportService.generateReport(plan.reportRequest())
+                    : aiReportService.generateReportStreaming(plan.reportRequest(), (section, value) -> {
+                        if (reportSections.isEmpty() || promptSections.contains(section)) {
+                            sectionListener.accept(section, value);
+                        }
+                    });
+            Map<String, Object> filtered = filterReportContent(report, reportSections);
+            String reportJson = writeJsonMap(filtered);
+            String summary = plan.includeSummary() ? aiReportService.generateSummary(reportJson) : null;
+            return new GeneratedReport(reportJson, summary, null, null);
+        } catch (Exception e) {
+            throw new IllegalStateException("레시피 보고서 생성에 실패했습니다.", e);
+        }
+    }
 
-        MarketReport marketReport = null;
-        if (includeReportJson) {
-            marketReport = marketReportRepository.save(MarketReport.builder()
+    // 외부 호출(알레르기 분석, 페르소나 생성/평가)만 수행하고 DB에는 쓰지 않는다(트랜잭션 밖에서 호출)
+    private PreparedReport prepareReport(ReportPlan plan, ReportCreateRequest request, GeneratedReport generated) {
+        if (!plan.includeReportJson()) {
+            return new PreparedReport(null, ConsumerEvaluations.NONE);
+        }
+        Recipe recipe = plan.recipe();
+        AllergenAnalysisResponse allergens = null;
+        if (plan.includeAllergen() && recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId()).isEmpty()) {
+            String targetCountry = defaultIfBlank(
+                    request == null ? null : request.getTargetCountry(),
+                    recipe.getTargetCountry()
+            );
+            allergens = allergenAnalysisService.analyzeIngredients(
+                    plan.ingredientNames(),
+                    normalizeCountryCode(targetCountry)
+            );
+        }
+        ConsumerEvaluations consumers = plan.includeEvaluation() && plan.reportRequest() != null
+                ? prepareConsumerEvaluations(plan.reportRequest().getRecipe(), generated.summary(), generated.reportJson())
+                : ConsumerEvaluations.NONE;
+        return new PreparedReport(allergens, consumers);
+    }
+
+    private ReportDetailResponse saveReport(
+            ReportPlan plan,
+            ReportCreateRequest request,
+            GeneratedReport generated,
+            PreparedReport prepared,
+            LongConsumer onSaved
+    ) {
+        if (!plan.includeReportJson()) {
+            throw new IllegalStateException("보고서가 생성되지 않았습니다.");
+        }
+        Recipe recipe = plan.recipe();
+        String reportJson = generated.reportJson();
+        String summary = generated.summary();
+        AllergenAnalysisResponse allergens = prepared.allergens();
+        ConsumerEvaluations consumers = prepared.consumers();
+
+        String normalizedOpenYn = normalizeOpenYn(request == null ? null : request.getOpenYn());
+        String openYn = normalizedOpenYn == null ? OPEN_YN_N : normalizedOpenYn;
+
+        return transactionTemplate.execute(status -> {
+            MarketReport marketReport = marketReportRepository.save(MarketReport.builder()
                     .recipe(recipe)
                     .reportType(REPORT_TYPE_AI)
                     .content(reportJson)
                     .summary(summary)
                     .openYn(openYn)
                     .build());
-        }
 
-        if (includeAllergen) {
-            boolean hasExistingAllergens =
-                    !recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId()).isEmpty();
-            if (!hasExistingAllergens) {
-                String targetCountry = defaultIfBlank(
-                        request == null ? null : request.getTargetCountry(),
-                        recipe.getTargetCountry()
-                );
-                String normalizedTargetCountry = normalizeCountryCode(targetCountry);
-                AllergenAnalysisResponse allergenResponse = allergenAnalysisService.analyzeIngredients(
-                        ingredientNames,
-                        normalizedTargetCountry
-                );
-                saveAllergens(recipe, ingredients, allergenResponse);
+            // 분석하는 동안 다른 요청이 먼저 저장했으면 덮어쓰지 않는다
+            if (allergens != null && recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId()).isEmpty()) {
+                saveAllergens(recipe, plan.ingredients(), allergens);
             }
-        }
 
-        if (includeEvaluation && includeReportJson && marketReport != null && reportRequest != null) {
-            List<VirtualConsumer> consumers = saveVirtualConsumers(marketReport, reportRequest.getRecipe(), summary, reportJson);
-            evaluationService.evaluateAndSave(marketReport, consumers, reportJson);
-        }
+            if (plan.includeEvaluation()) {
+                saveConsumerEvaluations(marketReport, consumers);
+            }
 
-        if (OPEN_YN_Y.equalsIgnoreCase(openYn) && !OPEN_YN_Y.equalsIgnoreCase(resolveRecipeOpenYn(recipe))) {
-            recipe.setOpenYn(OPEN_YN_Y);
-            recipe.setUpdatedAt(LocalDateTime.now());
-            recipeRepository.save(recipe);
-        }
+            if (OPEN_YN_Y.equalsIgnoreCase(openYn) && !OPEN_YN_Y.equalsIgnoreCase(resolveRecipeOpenYn(recipe))) {
+                recipe.setOpenYn(OPEN_YN_Y);
+                recipe.setUpdatedAt(LocalDateTime.now());
+                recipeRepository.save(recipe);
+            }
+            recipeSummaryService.refresh(recipe);
 
-        if (marketReport == null) {
-            throw new IllegalStateException("보고서가 생성되지 않았습니다.");
-        }
-        return toReportDetailResponse(recipe, marketReport);
+            if (onSaved != null) {
+                onSaved.accept(marketReport.getId());
+            }
+            return toReportDetailResponse(recipe, marketReport);
+        });
+    }
+
+    // 보고서 생성 결과(리포트 JSON, 요약, 알레르기 분석/가상 소비자 평가 JSON). 보고서 작업에서는 단계 사이 체크포인트로 저장된다
+    public record GeneratedReport(String reportJson, String summary, String allergenJson, String consumersJson) {
+    }
+
+    private record PreparedReport(AllergenAnalysisResponse allergens, ConsumerEvaluations consumers) {
+    }
+
+    // 가상 소비자 평가 체크포인트(페르소나 1명과 그 평가, 평가 실패 시 feedback은 null)
+    private record ConsumerCheckpoint(VirtualConsumer consumer, ConsumerFeedback feedback) {
+    }
+
+    private record ReportPlan(
+            Recipe recipe,
+            List<RecipeIngredient> ingredients,
+            List<String> ingredientNames,
+            List<String> reportSections,
+            boolean includeReportJson,
+            boolean includeSummary,
+            boolean includeAllergen,
+            boolean includeEvaluation,
+            ReportRequest reportRequest
+    ) {
     }
 
     @Transactional(readOnly = true)
@@ -552,6 +785,7 @@ public class RecipeService {
             recipe.setUpdatedAt(LocalDateTime.now());
             recipeRepository.save(recipe);
         }
+        recipeSummaryService.refresh(recipe);
         return toReportDetailResponse(recipe, report);
     }
 
@@ -598,6 +832,7 @@ public class RecipeService {
         consumerFeedbackRepository.deleteByReport_Id(reportId);
         virtualConsumerRepository.deleteByReport_Id(reportId);
         marketReportRepository.delete(report);
+        recipeSummaryService.refresh(recipe);
     }
 
     @Transactional
@@ -620,6 +855,7 @@ public class RecipeService {
             recipe.setOpenYn(openYn);
             recipe.setUpdatedAt(LocalDateTime.now());
             recipe = recipeRepository.save(recipe);
+            recipeSummaryService.refresh(recipe);
         }
         return toResponse(recipe);
     }
@@ -659,6 +895,7 @@ public class RecipeService {
         recipe.setStatus(STATUS_PUBLISHED);
         recipe.setUpdatedAt(LocalDateTime.now());
         Recipe saved = recipeRepository.save(recipe);
+        recipeSummaryService.refresh(saved);
         return toResponse(saved);
     }
 
@@ -716,6 +953,7 @@ public class RecipeService {
             }
         }
         marketReportRepository.deleteAll(reports);
+        recipeSummaryService.remove(id);
         recipeRepository.delete(recipe);
     }
 
@@ -757,9 +995,12 @@ public class RecipeService {
         }
 
 // 🔹 3. 기본 데이터 읽기
-        Map<String, Object> allergenMap = buildAllergenResponse(recipe);
-        List<Map<String, Object>> influencers = readInfluencers(report);
-        String influencerImage = influencers.isEmpty() ? null : readInfluencerImage(report);
+        Map<String, Object> allergenMap = buildAllergenResponse(recipe,
+                recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId()));
+        List<Influencer> influencerRows = report == null ? List.of()
+                : influencerRepository.findByReport_IdOrderByIdAsc(report.getId());
+        List<Map<String, Object>> influencers = readInfluencers(influencerRows);
+        String influencerImage = influencers.isEmpty() ? null : readInfluencerImage(influencerRows);
 
 // 🔹 4. Draft 상태에서 섹션 기준 필터링
         if (STATUS_DRAFT.equalsIgnoreCase(recipe.getStatus())) {
@@ -811,9 +1052,12 @@ public class RecipeService {
         RecipeCaseResponse exportRisks = recipeCaseService.findCases(req);
         reportMap.put("exportRisks", exportRisks);
 
-        Map<String, Object> allergenMap = buildAllergenResponse(recipe);
-        List<Map<String, Object>> influencers = readInfluencers(report);
-        String influencerImage = influencers.isEmpty() ? null : readInfluencerImage(report);
+        Map<String, Object> allergenMap = buildAllergenResponse(recipe,
+                recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId()));
+        List<Influencer> influencerRows = report == null ? List.of()
+                : influencerRepository.findByReport_IdOrderByIdAsc(report.getId());
+        List<Map<String, Object>> influencers = readInfluencers(influencerRows);
+        String influencerImage = influencers.isEmpty() ? null : readInfluencerImage(influencerRows);
         List<String> sections = reportMap.get("_sections") instanceof List<?> list
                 ? list.stream().filter(String.class::isInstance).map(String.class::cast).toList()
                 : List.of();
@@ -848,20 +1092,16 @@ public class RecipeService {
         );
     }
 
-    private String readInfluencerImage(MarketReport report) {
-        if (report == null) return null;
-        return influencerRepository.findByReport_IdOrderByIdAsc(report.getId())
-                .stream()
+    private String readInfluencerImage(List<Influencer> influencers) {
+        return influencers.stream()
                 .map(Influencer::getInfluencerImage)
                 .filter(v -> v != null && !v.isBlank())
                 .findFirst()
                 .orElse(null);
     }
 
-    private List<Map<String, Object>> readInfluencers(MarketReport report) {
-        if (report == null) return List.of();
-        return influencerRepository.findByReport_IdOrderByIdAsc(report.getId())
-                .stream()
+    private List<Map<String, Object>> readInfluencers(List<Influencer> influencers) {
+        return influencers.stream()
                 .map(Influencer::getInfluencerInfo)
                 .filter(v -> v != null && !v.isBlank())
                 .map(this::readJsonMap)
@@ -880,13 +1120,17 @@ public class RecipeService {
                 .orElse(null);
     }
 
-    private Map<String, Object> buildAllergenResponse(Recipe recipe) {
+    private Map<String, Object> buildAllergenResponse(Recipe recipe, List<RecipeAllergen> recipeAllergens) {
+        // 대상 국가 기준 결과가 있으면 그것만, 없으면 레시피의 전체 결과
         String targetCountry = normalizeCountryCode(recipe.getTargetCountry());
-        List<RecipeAllergen> items = (targetCountry == null || targetCountry.isBlank())
-                ? recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId())
-                : recipeAllergenRepository.findByRecipe_IdAndTargetCountryOrderByIdAsc(recipe.getId(), targetCountry);
-        if ((items == null || items.isEmpty()) && targetCountry != null && !targetCountry.isBlank()) {
-            items = recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId());
+        List<RecipeAllergen> items = recipeAllergens;
+        if (targetCountry != null && !targetCountry.isBlank()) {
+            List<RecipeAllergen> forCountry = recipeAllergens.stream()
+                    .filter(item -> targetCountry.equals(item.getTargetCountry()))
+                    .toList();
+            if (!forCountry.isEmpty()) {
+                items = forCountry;
+            }
         }
         if (items == null || items.isEmpty()) {
             return Collections.emptyMap();
@@ -1005,60 +1249,201 @@ public class RecipeService {
         return saveIngredients(recipe, ingredients);
     }
 
-    private List<VirtualConsumer> saveVirtualConsumers(MarketReport report, String recipeText, String summary, String reportJson) {
-        if (report == null || report.getId() == null) {
-            return List.of();
-        }
-        // 유니크 제약(report_id, personaName, country, ageGroup)이 충돌하지 않도록
-        virtualConsumerRepository.deleteByReport_Id(report.getId());
+    private ConsumerEvaluations prepareConsumerEvaluations(String recipeText, String summary, String reportJson) {
+        return prepareConsumerEvaluations(recipeText, summary, reportJson, null);
+    }
+
+    // 페르소나 생성과 평가(LLM)만 수행하고 DB에는 쓰지 않는다(트랜잭션 밖에서 호출)
+    // ageGroupStage: 미리 시작해 둔 연령대 선정 결과(없으면 여기서 호출)
+    private ConsumerEvaluations prepareConsumerEvaluations(
+            String recipeText,
+            String summary,
+            String reportJson,
+            CompletableFuture<List<AgeGroupResult>> ageGroupStage
+    ) {
         if (recipeText == null || recipeText.isBlank()) {
-            return List.of();
+            return ConsumerEvaluations.NONE;
         }
         String personaSource = (summary != null && !summary.isBlank()) ? summary : reportJson;
         if (personaSource == null || personaSource.isBlank()) {
-            return List.of();
+            return ConsumerEvaluations.NONE;
         }
+        List<CompletableFuture<VirtualConsumer>> generations = new ArrayList<>();
+        List<CompletableFuture<ConsumerFeedback>> evaluations = new ArrayList<>();
+        List<CompletableFuture<ConsumerFeedback>> startedEvaluations = new CopyOnWriteArrayList<>();
+        AtomicBoolean aborted = new AtomicBoolean();
         try {
-            List<AgeGroupResult> targets = personaService.selectTopAgeGroups(recipeText, VIRTUAL_CONSUMER_COUNTRIES);
+            List<AgeGroupResult> targets = ageGroupStage == null
+                    ? personaService.selectTopAgeGroups(recipeText, VIRTUAL_CONSUMER_COUNTRIES)
+                    : awaitStage(ageGroupStage);
             if (targets == null || targets.isEmpty()) {
-                return List.of();
-            }
-            List<VirtualConsumer> personas = personaService.generatePersonas(personaSource, targets);
-            if (personas == null || personas.isEmpty()) {
-                return List.of();
+                return ConsumerEvaluations.NONE;
             }
             Map<String, String> reasonByKey = new HashMap<>();
             for (AgeGroupResult target : targets) {
                 String key = personaKey(target.getCountry(), target.getAgeGroup());
                 reasonByKey.putIfAbsent(key, target.getReason());
             }
+            // 국가별로 페르소나가 생성되는 즉시 평가를 시작(생성 전체를 기다리지 않음)
+            List<CompletableFuture<VirtualConsumer>> pendingRows = new ArrayList<>();
+            generations.addAll(personaService.generatePersonasAsync(personaSource, targets));
+            for (CompletableFuture<VirtualConsumer> generation : generations) {
+                CompletableFuture<VirtualConsumer> row = generation.thenApply(persona ->
+                        persona == null ? null : toVirtualConsumerRow(persona, reasonByKey));
+                pendingRows.add(row);
+                evaluations.add(row.thenCompose(consumer -> {
+                    if (consumer == null || aborted.get()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    CompletableFuture<ConsumerFeedback> evaluation = evaluationService.evaluateAsync(consumer, reportJson);
+                    startedEvaluations.add(evaluation);
+                    // 중단과 경합해 늦게 시작된 평가도 취소
+                    if (aborted.get()) evaluation.cancel(true);
+                    return evaluation;
+                }));
+            }
             List<VirtualConsumer> rows = new ArrayList<>();
-            for (VirtualConsumer persona : personas) {
-                if (persona == null) {
-                    continue;
-                }
-                String key = personaKey(persona.getCountry(), persona.getAgeGroup());
-                String reason = reasonByKey.getOrDefault(key, "");
-                rows.add(VirtualConsumer.builder()
-                        .report(report)
-                        .personaName(defaultIfBlank(persona.getPersonaName(), ""))
-                        .country(defaultIfBlank(persona.getCountry(), ""))
-                        .ageGroup(defaultIfBlank(persona.getAgeGroup(), ""))
-                        .reason(defaultIfBlank(reason, ""))
-                        .lifestyle(persona.getLifestyle())
-                        .foodPreference(defaultIfBlank(persona.getFoodPreference(), ""))
-                        .purchaseCriteria(persona.getPurchaseCriteria())
-                        .attitudeToKFood(persona.getAttitudeToKFood())
-                        .evaluationPerspective(persona.getEvaluationPerspective())
-                        .build());
+            for (CompletableFuture<VirtualConsumer> row : pendingRows) {
+                VirtualConsumer consumer = row.join();
+                if (consumer != null) rows.add(consumer);
             }
-            if (!rows.isEmpty()) {
-                return virtualConsumerRepository.saveAll(rows);
+            if (rows.isEmpty()) {
+                return ConsumerEvaluations.NONE;
             }
+            // 평가 호출까지 끝난 뒤에 반환(저장 트랜잭션 안에서 기다리지 않도록)
+            CompletableFuture.allOf(evaluations.toArray(new CompletableFuture[0])).join();
+            return new ConsumerEvaluations(rows, evaluations);
         } catch (Exception e) {
-            System.err.println("보고서 가상 소비자 저장에 실패했습니다: " + report.getId() + " - " + e.getMessage());
+            // 남은 생성/평가를 취소해 풀에서 LLM 호출이 계속 이어지지 않도록 한다(이미 실행 중인 호출은 끝까지 간다)
+            aborted.set(true);
+            generations.forEach(generation -> generation.cancel(true));
+            startedEvaluations.forEach(evaluation -> evaluation.cancel(true));
+            evaluations.forEach(evaluation -> evaluation.cancel(true));
+            System.err.println("보고서 가상 소비자 생성에 실패했습니다: " + e.getMessage());
+            return ConsumerEvaluations.NONE;
+        }
+    }
+
+    // 준비된 페르소나/평가를 보고서에 연결해 저장(쓰기 트랜잭션 안에서 호출)
+    private List<ConsumerFeedback> saveConsumerEvaluations(MarketReport report, ConsumerEvaluations prepared) {
+        if (report == null || report.getId() == null) {
+            return List.of();
+        }
+        // 유니크 제약(report_id, personaName, country, ageGroup)이 충돌하지 않도록
+        virtualConsumerRepository.deleteByReport_Id(report.getId());
+        if (prepared.rows().isEmpty()) {
+            return List.of();
+        }
+        for (VirtualConsumer row : prepared.rows()) {
+            row.setReport(report);
+        }
+        virtualConsumerRepository.saveAll(prepared.rows());
+        return evaluationService.saveEvaluations(report, prepared.evaluations());
+    }
+
+    private record ConsumerEvaluations(
+            List<VirtualConsumer> rows,
+            List<CompletableFuture<ConsumerFeedback>> evaluations
+    ) {
+        static final ConsumerEvaluations NONE = new ConsumerEvaluations(List.of(), List.of());
+    }
+
+    private List<ConsumerCheckpoint> toConsumerCheckpoints(ConsumerEvaluations prepared) {
+        Map<VirtualConsumer, ConsumerFeedback> feedbackByConsumer = new IdentityHashMap<>();
+        for (CompletableFuture<ConsumerFeedback> evaluation : prepared.evaluations()) {
+            ConsumerFeedback feedback = evaluation.getNow(null);
+            if (feedback != null && feedback.getConsumer() != null) {
+                feedbackByConsumer.put(feedback.getConsumer(), feedback);
+            }
+        }
+        List<ConsumerCheckpoint> checkpoints = new ArrayList<>(prepared.rows().size());
+        for (VirtualConsumer row : prepared.rows()) {
+            checkpoints.add(new ConsumerCheckpoint(row, feedbackByConsumer.get(row)));
+        }
+        return checkpoints;
+    }
+
+    private ConsumerEvaluations fromConsumerCheckpoints(List<ConsumerCheckpoint> checkpoints) {
+        if (checkpoints == null || checkpoints.isEmpty()) {
+            return ConsumerEvaluations.NONE;
+        }
+        List<VirtualConsumer> rows = new ArrayList<>(checkpoints.size());
+        List<CompletableFuture<ConsumerFeedback>> evaluations = new ArrayList<>(checkpoints.size());
+        for (ConsumerCheckpoint checkpoint : checkpoints) {
+            rows.add(checkpoint.consumer());
+            if (checkpoint.feedback() != null) {
+                checkpoint.feedback().setConsumer(checkpoint.consumer());
+            }
+            evaluations.add(CompletableFuture.completedFuture(checkpoint.feedback()));
+        }
+        return new ConsumerEvaluations(rows, evaluations);
+    }
+
+    private VirtualConsumer toVirtualConsumerRow(VirtualConsumer persona, Map<String, String> reasonByKey) {
+        String key = personaKey(persona.getCountry(), persona.getAgeGroup());
+        String reason = reasonByKey.getOrDefault(key, "");
+        return VirtualConsumer.builder()
+                .personaName(defaultIfBlank(persona.getPersonaName(), ""))
+                .country(defaultIfBlank(persona.getCountry(), ""))
+                .ageGroup(defaultIfBlank(persona.getAgeGroup(), ""))
+                .reason(defaultIfBlank(reason, ""))
+                .lifestyle(persona.getLifestyle())
+                .foodPreference(defaultIfBlank(persona.getFoodPreference(), ""))
+                .purchaseCriteria(persona.getPurchaseCriteria())
+                .attitudeToKFood(persona.getAttitudeToKFood())
+                .evaluationPerspective(persona.getEvaluationPerspective())
+                .build();
+    }
+
+    private <T> CompletableFuture<T> runStage(String stage, Supplier<T> work) {
+        // 파이프라인 단계를 풀에서 시작(풀이 없으면 호출 스레드에서 바로 실행)
+        if (pipelineExecutor == null) {
+            try {
+                return CompletableFuture.completedFuture(timeStage(stage, work));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        // 반환한 future를 취소하면 작업 스레드도 인터럽트해 진행 중인 블로킹 호출(Mono.block 등)을 끊는다
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = pipelineExecutor.submit(() -> {
+            try {
+                result.complete(timeStage(stage, work));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) task.cancel(true);
+        });
+        return result;
+    }
+
+    private <T> T timeStage(String stage, Supplier<T> work) {
+        // 단계별 소요 시간(recipe.pipeline.stage{stage, outcome})
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = work.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("recipe.pipeline.stage")
+                    .description("레시피 생성 파이프라인 단계별 소요 시간")
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static <T> T awaitStage(CompletableFuture<T> stage) {
+        // 단계에서 난 예외는 순차 실행과 같은 타입으로 다시 던진다
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
         }
-        return List.of();
     }
 
     private String personaKey(String country, String ageGroup) {
@@ -1088,6 +1473,10 @@ public class RecipeService {
                 }
             }
         }
+        return summarizeFeedbacks(feedbacks);
+    }
+
+    private List<Map<String, Object>> summarizeFeedbacks(List<ConsumerFeedback> feedbacks) {
         if (feedbacks == null || feedbacks.isEmpty()) {
             return List.of();
         }
@@ -1292,6 +1681,17 @@ public class RecipeService {
         return out;
     }
 
+    private <T> T readCheckpoint(String value, TypeReference<T> type) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("보고서 작업 체크포인트를 읽을 수 없습니다.", e);
+        }
+    }
+
     private Map<String, Object> readJsonMap(String value) {
         if (value == null || value.isBlank()) {
             return new LinkedHashMap<>();
@@ -1383,6 +1783,27 @@ public class RecipeService {
                 .orElse(userId);
     }
 
+    // 작성자 이름은 읽을 때 userinfo에서 페이지 단위로 한 번에 가져온다(이름이 바뀌어도 목록에 바로 반영)
+    private List<RecipeListItemResponse> toListItems(List<RecipeSummary> summaries) {
+        Map<String, String> authorNames = resolveUserNames(summaries.stream().map(RecipeSummary::getUserId).toList());
+        return summaries.stream()
+                .map(summary -> RecipeListItemResponse.from(
+                        summary, authorNames.getOrDefault(summary.getUserId(), summary.getUserId())))
+                .toList();
+    }
+
+    private Map<String, String> resolveUserNames(List<String> authorIds) {
+        List<String> userIds = authorIds.stream()
+                .filter(userId -> userId != null)
+                .distinct()
+                .toList();
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return userInfoRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserInfo::getUserId, UserInfo::getUserName, (a, b) -> a));
+    }
+
     private Long resolveCompanyId(String userId) {
         return userInfoRepository.findByUserId(userId)
                 .map(UserInfo::getCompanyId)
@@ -0,0 +1,42 @@
+// recipe_summary 적재/재구성 명령.
+// 시작할 때마다 요약 행이 없는 레시피를 채운다(배포 직후 빈 테이블, 누락 복구). 요약 내용이 어긋났을 때는 전체 재구성을 한 번 켜서 실행한다.
+// 전체 재구성: java -jar app.jar --recipe-summary.rebuild-on-startup=true  (또는 RECIPE_SUMMARY_REBUILD=true)
+package com.aivle0102.bigproject.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.logging.Logger;
+
+@Component
+@RequiredArgsConstructor
+public class RecipeSummaryRebuildRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = Logger.getLogger(RecipeSummaryRebuildRunner.class.getName());
+
+    private final RecipeSummaryService recipeSummaryService;
+
+    @Value("${recipe-summary.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Value("${recipe-summary.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup) {
+            recipeSummaryService.rebuildAll();
+            return;
+        }
+        if (!backfillOnStartup) return;
+        try {
+            recipeSummaryService.backfillMissing();
+        } catch (RuntimeException e) {
+            // 여러 인스턴스가 동시에 시작해 같은 행을 채우다 충돌해도 기동은 계속한다(남은 행은 다음 시작 때 채움)
+            LOGGER.warning(() -> "recipe_summary 누락 행 적재 실패: " + e.getMessage());
+        }
+    }
+}
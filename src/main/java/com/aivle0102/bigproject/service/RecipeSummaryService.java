@@ -0,0 +1,128 @@
+// recipe_summary 읽기 모델 갱신.
+// refresh/remove는 호출한 쪽(RecipeService)의 쓰기 트랜잭션에 참여해 원본과 같은 커밋으로 반영된다.
+// rebuildAll/backfillMissing은 기존 데이터용 재구성(레시피 청크마다 별도 트랜잭션)이다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.Recipe;
+import com.aivle0102.bigproject.domain.RecipeAllergen;
+import com.aivle0102.bigproject.domain.RecipeIngredient;
+import com.aivle0102.bigproject.domain.RecipeSummary;
+import com.aivle0102.bigproject.dto.ReportListItem;
+import com.aivle0102.bigproject.repository.MarketReportRepository;
+import com.aivle0102.bigproject.repository.RecipeAllergenRepository;
+import com.aivle0102.bigproject.repository.RecipeIngredientRepository;
+import com.aivle0102.bigproject.repository.RecipeRepository;
+import com.aivle0102.bigproject.repository.RecipeSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class RecipeSummaryService {
+
+    private static final Logger LOGGER = Logger.getLogger(RecipeSummaryService.class.getName());
+    private static final String REPORT_TYPE_AI = "AI";
+    private static final String OPEN_YN_Y = "Y";
+    private static final int REBUILD_CHUNK_SIZE = 100;
+
+    private final RecipeSummaryRepository recipeSummaryRepository;
+    private final RecipeRepository recipeRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeAllergenRepository recipeAllergenRepository;
+    private final MarketReportRepository marketReportRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public RecipeSummary refresh(Recipe recipe) {
+        Long recipeId = recipe.getId();
+        List<String> ingredients = recipeIngredientRepository.findByRecipe_IdOrderByIdAsc(recipeId).stream()
+                .map(RecipeIngredient::getIngredientName)
+                .toList();
+        List<String> allergens = recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipeId).stream()
+                .map(RecipeAllergen::getMatchedAllergen)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        // 최신 AI 리포트는 목록 컬럼만 조회(본문 제외)
+        ReportListItem latestReport = marketReportRepository.findListItemsByRecipeId(recipeId, REPORT_TYPE_AI).stream()
+                .findFirst()
+                .orElse(null);
+        boolean hubVisible = marketReportRepository.existsByRecipe_IdAndReportTypeAndOpenYn(recipeId, REPORT_TYPE_AI, OPEN_YN_Y);
+        // 검색에는 공개된 AI 리포트 요약만 넣는다(비공개 리포트 내용이 검색으로 드러나지 않도록)
+        List<String> openReportSummaries = marketReportRepository
+                .findListItemsByRecipeIdAndOpenYn(recipeId, REPORT_TYPE_AI, OPEN_YN_Y).stream()
+                .map(ReportListItem::getSummary)
+                .filter(Objects::nonNull)
+                .toList();
+
+        RecipeSummary summary = recipeSummaryRepository.findById(recipeId)
+                .orElseGet(() -> RecipeSummary.builder().recipeId(recipeId).build());
+        summary.setRecipeName(recipe.getRecipeName());
+        summary.setDescription(recipe.getDescription());
+        summary.setUserId(recipe.getUserId());
+        summary.setCompanyId(recipe.getCompanyId());
+        summary.setStatus(recipe.getStatus());
+        summary.setOpenYn(recipe.getOpenYn());
+        summary.setHasImage(recipe.getImageBase64() != null && !recipe.getImageBase64().isBlank());
+        summary.setIngredients(ingredients);
+        summary.setAllergens(allergens);
+        summary.setLatestReportId(latestReport == null ? null : latestReport.getId());
+        summary.setLatestReportSummary(latestReport == null ? null : latestReport.getSummary());
+        summary.setSearchText(searchText(recipe, ingredients, allergens, openReportSummaries));
+        summary.setHubVisible(hubVisible);
+        summary.setCreatedAt(recipe.getCreatedAt());
+        summary.setUpdatedAt(recipe.getUpdatedAt());
+        return recipeSummaryRepository.save(summary);
+    }
+
+    private static String searchText(Recipe recipe, List<String> ingredients, List<String> allergens, List<String> reportSummaries) {
+        return Stream.of(
+                        Stream.of(recipe.getRecipeName(), recipe.getDescription()),
+                        ingredients.stream(),
+                        allergens.stream(),
+                        reportSummaries.stream())
+                .flatMap(Function.identity())
+                .filter(value -> value != null && !value.isBlank())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long recipeId) {
+        recipeSummaryRepository.findById(recipeId).ifPresent(recipeSummaryRepository::delete);
+    }
+
+    // 기존 레시피 전체로 요약 행을 다시 만든다(원본이 없는 행은 삭제). 처리한 레시피 수를 반환
+    public int rebuildAll() {
+        List<Long> recipeIds = recipeRepository.findAllIds();
+        refreshAll(recipeIds);
+        Integer orphans = transactionTemplate.execute(status -> recipeSummaryRepository.deleteOrphans());
+        LOGGER.info(() -> "recipe_summary 재구성 완료: recipes=" + recipeIds.size() + " removedOrphans=" + orphans);
+        return recipeIds.size();
+    }
+
+    // 요약 행이 없는 레시피만 채운다(배포 직후 빈 테이블 적재, 누락 복구). 채운 레시피 수를 반환
+    public int backfillMissing() {
+        List<Long> recipeIds = recipeRepository.findIdsWithoutSummary();
+        if (recipeIds.isEmpty()) return 0;
+        refreshAll(recipeIds);
+        LOGGER.info(() -> "recipe_summary 누락 행 적재 완료: recipes=" + recipeIds.size());
+        return recipeIds.size();
+    }
+
+    private void refreshAll(List<Long> recipeIds) {
+        for (int from = 0; from < recipeIds.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Long> chunk = recipeIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, recipeIds.size()));
+            transactionTemplate.executeWithoutResult(status -> recipeRepository.findAllById(chunk).forEach(this::refresh));
+        }
+    }
+}
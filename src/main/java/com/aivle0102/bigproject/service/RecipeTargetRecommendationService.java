@@ -1,5 +1,6 @@
 package com.aivle0102.bigproject.service;
 
+import com.aivle0102.bigproject.client.LlmResponseCache;
 import com.aivle0102.bigproject.client.OpenAiClient;
 import com.aivle0102.bigproject.dto.RecipeTargetRecommendRequest;
 import com.aivle0102.bigproject.dto.RecipeTargetRecommendResponse;
@@ -39,6 +40,7 @@ public class RecipeTargetRecommendationService {
     private static final String DEFAULT_PRICE = "USD 6~9";
 
     private final OpenAiClient openAiClient;
+    private final LlmResponseCache llmResponseCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${openai.model:gpt-4.1-mini}")
@@ -57,7 +59,7 @@ public class RecipeTargetRecommendationService {
                 "temperature", 0.2
         );
 
-        String content = openAiClient.chatCompletion(body);
+        String content = llmResponseCache.get("target-recommendation", body, () -> openAiClient.chatCompletion("target-recommendation", body));
         Map<String, Object> parsed = parseJson(content);
 
         String country = normalizeOption(parsed.get("targetCountry"), COUNTRY_OPTIONS, DEFAULT_COUNTRY);
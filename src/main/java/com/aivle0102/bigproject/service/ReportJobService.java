@@ -0,0 +1,164 @@
+// 비동기 보고서 생성 작업(report_job) 등록/조회와 워커의 상태 전이.
+// 작업은 GENERATE(LLM 생성/알레르기 분석/평가, 결과를 체크포인트로 저장) -> PERSIST(보고서/알레르기/평가 저장) 순서로 진행되며,
+// 인스턴스가 죽으면 임대(locked_until)가 만료된 뒤 다른 워커가 남은 단계부터 이어서 처리한다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.Recipe;
+import com.aivle0102.bigproject.domain.ReportJob;
+import com.aivle0102.bigproject.dto.RecipeCreateRequest;
+import com.aivle0102.bigproject.dto.RecipeResponse;
+import com.aivle0102.bigproject.dto.ReportCreateRequest;
+import com.aivle0102.bigproject.dto.ReportJobResponse;
+import com.aivle0102.bigproject.repository.RecipeRepository;
+import com.aivle0102.bigproject.repository.ReportJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    private final ReportJobRepository reportJobRepository;
+    private final RecipeRepository recipeRepository;
+    private final RecipeService recipeService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Transactional
+    public ReportJobResponse submit(Long recipeId, String requesterId, ReportCreateRequest request) {
+        Recipe recipe = recipeRepository.findById(recipeId)
+                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
+        if (!recipe.getUserId().equals(requesterId)) {
+            throw new IllegalArgumentException("레시피를 찾을 수 없습니다.");
+        }
+        return ReportJobResponse.from(enqueue(recipe.getId(), requesterId, request));
+    }
+
+    // 레시피는 바로 저장하고, 보고서/알레르기/평가 생성은 작업으로 넘긴다
+    @Transactional
+    public ReportJobResponse submitRecipeCreation(String authorId, RecipeCreateRequest request) {
+        List<String> reportSections = request.getReportSections();
+        if (reportSections != null && reportSections.isEmpty()) {
+            throw new IllegalArgumentException("생성할 보고서 항목이 없습니다.");
+        }
+        ReportCreateRequest reportRequest = new ReportCreateRequest();
+        reportRequest.setTargetCountry(request.getTargetCountry());
+        reportRequest.setTargetPersona(request.getTargetPersona());
+        reportRequest.setPriceRange(request.getPriceRange());
+        reportRequest.setReportSections(reportSections);
+
+        RecipeResponse recipe = recipeService.create(authorId, request, false);
+        return ReportJobResponse.from(enqueue(recipe.getId(), authorId, reportRequest));
+    }
+
+    @Transactional(readOnly = true)
+    public ReportJobResponse getJob(Long jobId, String requesterId) {
+        ReportJob job = reportJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다."));
+        if (!job.getRequesterId().equals(requesterId)) {
+            throw new IllegalArgumentException("작업을 찾을 수 없습니다.");
+        }
+        return ReportJobResponse.from(job);
+    }
+
+    // 처리 가능한 작업을 최대 limit개 선점한다(SKIP LOCKED로 인스턴스끼리 같은 작업을 잡지 않음)
+    @Transactional
+    public List<ReportJob> claim(String worker, int limit, long leaseSeconds, int maxAttempts) {
+        if (limit <= 0) return List.of();
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportJob> claimed = new ArrayList<>();
+        for (ReportJob job : reportJobRepository.lockClaimable(now, limit)) {
+            job.setUpdatedAt(now);
+            if (job.getAttempts() >= maxAttempts) {
+                // 실행 중에 인스턴스가 계속 죽은 작업
+                job.setStatus(ReportJob.STATUS_FAILED);
+                job.setErrorMessage("재시도 횟수를 초과했습니다.");
+                job.setLockedBy(null);
+                job.setLockedUntil(null);
+                job.setFinishedAt(now);
+                continue;
+            }
+            job.setStatus(ReportJob.STATUS_RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLockedBy(worker);
+            job.setLockedUntil(now.plusSeconds(leaseSeconds));
+            claimed.add(job);
+        }
+        return claimed;
+    }
+
+    // GENERATE 단계 결과 저장. false면 임대를 잃은 것(다른 워커가 처리 중)
+    @Transactional
+    public boolean checkpointGenerated(Long jobId, String worker, RecipeService.GeneratedReport generated) {
+        return reportJobRepository.checkpointGenerated(jobId, worker, generated.reportJson(), generated.summary(),
+                generated.allergenJson(), generated.consumersJson(), LocalDateTime.now()) == 1;
+    }
+
+    // PERSIST 단계: 보고서 저장과 작업 완료 표시를 한 트랜잭션으로 묶는다(중간에 죽으면 둘 다 롤백되고 이 단계부터 재시도)
+    // 알레르기 분석/평가 같은 외부 호출은 GENERATE 단계에서 끝나 체크포인트에 들어 있으므로 재시도해도 다시 부르지 않는다
+    public void complete(ReportJob job, String worker, RecipeService.GeneratedReport generated) {
+        recipeService.saveGeneratedReport(job.getRecipeId(), job.getRequesterId(), readRequest(job), generated, reportId -> {
+            if (reportJobRepository.markSucceeded(job.getId(), worker, reportId, LocalDateTime.now()) != 1) {
+                throw new IllegalStateException("보고서 작업 임대를 잃었습니다: jobId=" + job.getId());
+            }
+        });
+    }
+
+    @Transactional
+    public void fail(Long jobId, String worker, String error) {
+        reportJobRepository.markFailed(jobId, worker, error, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void retryLater(Long jobId, String worker, String error, LocalDateTime runAfter) {
+        reportJobRepository.requeue(jobId, worker, error, runAfter, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void extendLeases(Collection<Long> jobIds, String worker, long leaseSeconds) {
+        if (jobIds.isEmpty()) return;
+        reportJobRepository.extendLeases(jobIds, worker, LocalDateTime.now().plusSeconds(leaseSeconds));
+    }
+
+    @Transactional
+    public int releaseAll(String worker) {
+        return reportJobRepository.releaseAll(worker, LocalDateTime.now());
+    }
+
+    public ReportCreateRequest readRequest(ReportJob job) {
+        if (job.getRequestJson() == null || job.getRequestJson().isBlank()) return null;
+        try {
+            return objectMapper.readValue(job.getRequestJson(), ReportCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("보고서 작업 요청을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private ReportJob enqueue(Long recipeId, String requesterId, ReportCreateRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        String requestJson;
+        try {
+            requestJson = request == null ? null : objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("보고서 작업 요청을 저장할 수 없습니다.", e);
+        }
+        return reportJobRepository.save(ReportJob.builder()
+                .recipeId(recipeId)
+                .requesterId(requesterId)
+                .requestJson(requestJson)
+                .status(ReportJob.STATUS_QUEUED)
+                .stage(ReportJob.STAGE_GENERATE)
+                .attempts(0)
+                .runAfter(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+}
@@ -0,0 +1,155 @@
+// report_job 작업을 가져와 실행하는 워커.
+// 주기적으로 빈 슬롯만큼 작업을 선점(SKIP LOCKED)하고, 실행 중인 작업의 임대를 연장하며,
+// 종료 시에는 새 작업을 받지 않고 실행 중인 작업을 기다린 뒤 끝내지 못한 작업을 큐로 돌려놓는다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.domain.ReportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+@Component
+@RequiredArgsConstructor
+public class ReportJobWorker {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportJobWorker.class.getName());
+
+    private final ReportJobService reportJobService;
+    private final RecipeService recipeService;
+
+    // 작업 실행 풀(report.job.workers 크기)과 선점/임대 연장 스케줄러
+    @Qualifier(ExecutorConfig.REPORT_JOB_EXECUTOR)
+    private final ExecutorService jobExecutor;
+
+    @Qualifier(ExecutorConfig.REPORT_JOB_SCHEDULER)
+    private final ScheduledExecutorService scheduler;
+
+    @Value("${report.job.enabled:true}")
+    private boolean enabled;
+
+    // 인스턴스당 동시에 실행할 작업 수
+    @Value("${report.job.workers:2}")
+    private int workers;
+
+    @Value("${report.job.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    // 임대 시간(이 안에 연장되지 않으면 다른 인스턴스가 작업을 가져간다)
+    @Value("${report.job.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${report.job.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${report.job.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    // 종료 시 실행 중인 작업을 기다리는 최대 시간
+    @Value("${report.job.drain-timeout-seconds:30}")
+    private long drainTimeoutSeconds;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Long, ReportJob> inFlight = new ConcurrentHashMap<>();
+    private volatile boolean started;
+    private volatile boolean draining;
+
+    @jakarta.annotation.PostConstruct
+    void start() {
+        if (!enabled || workers <= 0) return;
+        started = true;
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        long heartbeatMs = Math.max(TimeUnit.SECONDS.toMillis(leaseSeconds) / 3, pollIntervalMs);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        LOGGER.info(() -> "보고서 작업 워커 시작: workerId=" + workerId + " workers=" + workers);
+    }
+
+    @jakarta.annotation.PreDestroy
+    void drain() {
+        // 풀 종료는 ExecutorConfig가 맡지만, 실행 중인 작업을 기다렸다 반환하는 드레인은 워커가 먼저 한다
+        if (!started) return;
+        draining = true;
+        scheduler.shutdownNow();
+        jobExecutor.shutdown();
+        try {
+            if (!jobExecutor.awaitTermination(drainTimeoutSeconds, TimeUnit.SECONDS)) {
+                // 먼저 소유권을 풀어 두면 중단된 스레드의 늦은 쓰기는 locked_by 확인에서 걸러진다
+                int released = reportJobService.releaseAll(workerId);
+                LOGGER.warning(() -> "보고서 작업 드레인 시간 초과, 작업 반환: " + released + "건");
+                jobExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            reportJobService.releaseAll(workerId);
+            jobExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void poll() {
+        if (draining) return;
+        try {
+            List<ReportJob> jobs = reportJobService.claim(workerId, workers - inFlight.size(), leaseSeconds, maxAttempts);
+            for (ReportJob job : jobs) {
+                inFlight.put(job.getId(), job);
+                jobExecutor.execute(() -> run(job));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warning(() -> "보고서 작업 선점 실패: " + e.getMessage());
+        }
+    }
+
+    void heartbeat() {
+        try {
+            reportJobService.extendLeases(List.copyOf(inFlight.keySet()), workerId, leaseSeconds);
+        } catch (RuntimeException e) {
+            LOGGER.warning(() -> "보고서 작업 임대 연장 실패: " + e.getMessage());
+        }
+    }
+
+    void run(ReportJob job) {
+        try {
+            RecipeService.GeneratedReport generated;
+            if (ReportJob.STAGE_GENERATE.equals(job.getStage())) {
+                generated = recipeService.generateReportContent(
+                        job.getRecipeId(), job.getRequesterId(), reportJobService.readRequest(job));
+                if (!reportJobService.checkpointGenerated(job.getId(), workerId, generated)) {
+                    LOGGER.warning(() -> "보고서 작업 임대를 잃어 중단: jobId=" + job.getId());
+                    return;
+                }
+            } else {
+                // 이전 실행이 GENERATE까지 마친 작업은 LLM을 다시 부르지 않는다
+                generated = new RecipeService.GeneratedReport(
+                        job.getReportJson(), job.getSummary(), job.getAllergenJson(), job.getConsumersJson());
+            }
+            reportJobService.complete(job, workerId, generated);
+        } catch (IllegalArgumentException e) {
+            // 레시피 삭제/권한 없음 등 재시도해도 같은 결과
+            reportJobService.fail(job.getId(), workerId, e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.warning(() -> "보고서 작업 실패: jobId=" + job.getId() + " attempt=" + job.getAttempts()
+                    + " error=" + e.getMessage());
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (job.getAttempts() >= maxAttempts) {
+                reportJobService.fail(job.getId(), workerId, message);
+            } else {
+                reportJobService.retryLater(job.getId(), workerId, message,
+                        LocalDateTime.now().plusSeconds(retryBackoffSeconds * job.getAttempts()));
+            }
+        } finally {
+            inFlight.remove(job.getId());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+// 레시피 보고서 생성을 SSE로 스트리밍한다.
+// 완성된 최상위 섹션마다 section 이벤트, 저장이 끝나면 complete 이벤트(ReportDetailResponse), 실패 시 error 이벤트를 보낸다.
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.dto.ReportCreateRequest;
+import com.aivle0102.bigproject.dto.ReportDetailResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+@Service
+@RequiredArgsConstructor
+public class ReportStreamingService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportStreamingService.class.getName());
+
+    private final RecipeService recipeService;
+
+    // 보고서를 스트리밍 생성하는 풀 / SSE 연결 제한 시간
+    @Qualifier(ExecutorConfig.REPORT_STREAM_EXECUTOR)
+    private final ExecutorService streamExecutor;
+
+    @Value("${report.stream.timeout-ms:300000}")
+    private long streamTimeoutMs;
+
+    public SseEmitter streamReport(Long recipeId, String requesterId, ReportCreateRequest request) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        // 클라이언트가 끊겨도 생성/저장은 끝까지 진행하고 전송만 멈춘다
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(e -> open.set(false));
+        try {
+            streamExecutor.execute(() -> generate(emitter, open, recipeId, requesterId, request));
+        } catch (RejectedExecutionException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private void generate(SseEmitter emitter, AtomicBoolean open, Long recipeId, String requesterId, ReportCreateRequest request) {
+        try {
+            ReportDetailResponse detail = recipeService.createReport(recipeId, requesterId, request, (section, value) -> {
+                Map<String, Object> payload = new LinkedHashMap<>();
+                payload.put("section", section);
+                payload.put("data", value);
+                send(emitter, open, "section", payload);
+            });
+            send(emitter, open, "complete", detail);
+            if (open.get()) emitter.complete();
+        } catch (RuntimeException e) {
+            LOGGER.warning(() -> "보고서 스트리밍 생성 실패: recipeId=" + recipeId + " error=" + e.getMessage());
+            String message = e instanceof IllegalArgumentException ? e.getMessage() : "레시피 보고서 생성에 실패했습니다.";
+            send(emitter, open, "error", Map.of("message", message == null ? "" : message));
+            if (open.get()) emitter.complete();
+        }
+    }
+
+    private static void send(SseEmitter emitter, AtomicBoolean open, String name, Object data) {
+        if (!open.get()) return;
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            open.set(false);
+        }
+    }
+}
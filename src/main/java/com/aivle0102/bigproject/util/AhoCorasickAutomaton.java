@@ -0,0 +1,114 @@
+// 여러 키워드를 한 번에 찾는 Aho-Corasick 오토마톤.
+// 사전을 한 번 컴파일해 두고 텍스트를 한 번만 훑어 포함된 키워드의 값을 모은다.
+package com.aivle0102.bigproject.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+public final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    // 노드별 전이(문자 -> 다음 노드). 한글 음절이 대부분이라 배열 대신 맵 사용
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    // 노드별 실패 링크
+    private final List<Integer> failures = new ArrayList<>();
+    // 노드별 출력값(실패 링크를 따라 내려오는 값까지 합쳐 둠)
+    private final List<Set<String>> outputs = new ArrayList<>();
+
+    private AhoCorasickAutomaton() {
+        newNode();
+    }
+
+    @SafeVarargs
+    public static AhoCorasickAutomaton compile(Map<String, ? extends Collection<String>>... dictionaries) {
+        // 키워드 -> 값 목록 사전들을 하나의 오토마톤으로 합쳐 컴파일
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton();
+        for (Map<String, ? extends Collection<String>> dictionary : dictionaries) {
+            for (Map.Entry<String, ? extends Collection<String>> entry : dictionary.entrySet()) {
+                automaton.insert(entry.getKey(), entry.getValue());
+            }
+        }
+        automaton.buildFailureLinks();
+        return automaton;
+    }
+
+    public Set<String> findAll(String text) {
+        // 텍스트에 부분 문자열로 포함된 모든 키워드의 값을 반환
+        Set<String> out = new LinkedHashSet<>();
+        collect(text, out);
+        return out;
+    }
+
+    public void collect(String text, Collection<String> out) {
+        // 텍스트를 한 번 순회하며 매칭된 값을 out에 누적
+        if (text == null || text.isEmpty()) return;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state != ROOT) {
+                state = failures.get(state);
+                next = transitions.get(state).get(c);
+            }
+            state = next == null ? ROOT : next;
+            Set<String> hit = outputs.get(state);
+            if (!hit.isEmpty()) out.addAll(hit);
+        }
+    }
+
+    private void insert(String keyword, Collection<String> values) {
+        if (keyword == null || keyword.isBlank() || values == null || values.isEmpty()) return;
+        int state = ROOT;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newNode();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.get(state).addAll(values);
+    }
+
+    private void buildFailureLinks() {
+        // BFS로 실패 링크를 채우고, 실패 대상의 출력값을 미리 합쳐 둔다
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(ROOT).values()) {
+            failures.set(child, ROOT);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                int fallback = failures.get(state);
+                Integer target = transitions.get(fallback).get(c);
+                while (target == null && fallback != ROOT) {
+                    fallback = failures.get(fallback);
+                    target = transitions.get(fallback).get(c);
+                }
+                int failure = target == null ? ROOT : target;
+                failures.set(child, failure);
+                outputs.get(child).addAll(outputs.get(failure));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        failures.add(ROOT);
+        outputs.add(new LinkedHashSet<>());
+        return transitions.size() - 1;
+    }
+}
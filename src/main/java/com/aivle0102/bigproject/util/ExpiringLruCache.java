@@ -0,0 +1,58 @@
+// 최대 개수와 항목별 만료 시각을 갖는 인메모리 LRU 캐시.
+// 외부 API 응답처럼 재사용 빈도가 높은 값을 힙에 제한적으로 보관할 때 사용한다.
+package com.aivle0102.bigproject.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class ExpiringLruCache<K, V> {
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public ExpiringLruCache(int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxEntries, Clock clock) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+        // accessOrder=true: 조회할 때마다 최근 사용으로 이동
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > ExpiringLruCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return Optional.empty();
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        if (key == null || value == null) return;
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,129 @@
+// 스트리밍으로 도착하는 JSON 객체를 조각 단위로 받아, 최상위 키의 값이 완성될 때마다 알려주는 파서.
+// 값 자체는 원문(JSON 텍스트) 그대로 넘기고, 해석은 호출 측에서 한다. 첫 '{' 이전의 코드펜스 등은 무시한다.
+package com.aivle0102.bigproject.util;
+
+import java.util.function.BiConsumer;
+
+public final class JsonSectionStreamParser {
+
+    private enum State { BEFORE_OBJECT, EXPECT_KEY, IN_KEY, EXPECT_COLON, IN_VALUE, AFTER_VALUE, DONE }
+
+    private final BiConsumer<String, String> onSection;
+
+    private State state = State.BEFORE_OBJECT;
+    private final StringBuilder key = new StringBuilder();
+    private final StringBuilder value = new StringBuilder();
+    // 값 내부의 중첩 깊이 / 문자열 안 여부 / 직전 문자가 역슬래시인지
+    private int valueDepth;
+    private boolean inString;
+    private boolean escaped;
+
+    public JsonSectionStreamParser(BiConsumer<String, String> onSection) {
+        this.onSection = onSection;
+    }
+
+    public void feed(CharSequence chunk) {
+        if (chunk == null) return;
+        for (int i = 0; i < chunk.length() && state != State.DONE; i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    public boolean isComplete() {
+        return state == State.DONE;
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case BEFORE_OBJECT -> {
+                if (c == '{') state = State.EXPECT_KEY;
+            }
+            case EXPECT_KEY -> {
+                if (c == '"') {
+                    key.setLength(0);
+                    escaped = false;
+                    state = State.IN_KEY;
+                } else if (c == '}') {
+                    state = State.DONE;
+                }
+            }
+            case IN_KEY -> {
+                if (escaped) {
+                    key.append(c);
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    state = State.EXPECT_COLON;
+                } else {
+                    key.append(c);
+                }
+            }
+            case EXPECT_COLON -> {
+                if (c == ':') {
+                    value.setLength(0);
+                    valueDepth = 0;
+                    inString = false;
+                    escaped = false;
+                    state = State.IN_VALUE;
+                }
+            }
+            case IN_VALUE -> acceptValue(c);
+            case AFTER_VALUE -> {
+                if (c == ',') state = State.EXPECT_KEY;
+                else if (c == '}') state = State.DONE;
+            }
+            case DONE -> {
+            }
+        }
+    }
+
+    private void acceptValue(char c) {
+        if (inString) {
+            value.append(c);
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+                if (valueDepth == 0) emit(State.AFTER_VALUE);
+            }
+            return;
+        }
+        if (value.length() == 0 && Character.isWhitespace(c)) return;
+        switch (c) {
+            case '"' -> {
+                value.append(c);
+                inString = true;
+            }
+            case '{', '[' -> {
+                value.append(c);
+                valueDepth++;
+            }
+            case '}', ']' -> {
+                if (valueDepth == 0) {
+                    // 숫자/true/false/null 값 뒤에서 최상위 객체가 닫힘
+                    emit(State.DONE);
+                    return;
+                }
+                value.append(c);
+                if (--valueDepth == 0) emit(State.AFTER_VALUE);
+            }
+            case ',' -> {
+                if (valueDepth == 0) {
+                    emit(State.EXPECT_KEY);
+                } else {
+                    value.append(c);
+                }
+            }
+            default -> value.append(c);
+        }
+    }
+
+    private void emit(State next) {
+        state = next;
+        String raw = value.toString().trim();
+        if (!raw.isEmpty()) onSection.accept(key.toString(), raw);
+    }
+}
@@ -0,0 +1,38 @@
+// (created_at, id) 기준 키셋 페이지네이션 커서.
+// 클라이언트에는 "createdAt|id"를 base64url로 감싼 불투명 문자열로 내려주고, 다음 요청에서 그대로 받는다.
+package com.aivle0102.bigproject.util;
+
+import com.aivle0102.bigproject.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record KeysetCursor(LocalDateTime createdAt, long id) {
+
+    // 첫 페이지: 모든 행보다 뒤에 있는 가상의 위치(쿼리를 하나로 유지하기 위함)
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            if (sep < 0) {
+                throw new IllegalArgumentException("구분자 없음");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException("잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,17 +6,18 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 public class RecipeIngredientExtractor {
 
     // 숫자/단위/괄호/수식어 제거 후 재료명만 남기기
-    private static final Pattern PAREN = Pattern.compile("\\([^)]*\\)");
-    private static final Pattern NUMBER = Pattern.compile("\\d+(?:[\\./]\\d+)?");
-    private static final Pattern UNITS = Pattern.compile(
-            "(?i)\\b(g|kg|mg|ml|l|tbsp|tsp|cup|cups)\\b|"
-                    + "(큰술|작은술|술|스푼|숟가락|티스푼|테이블스푼|컵|개|마리|모|쪽|줌|꼬집|팩|봉지|캔|포기|줄기|잎|알|통|덩이|조각|토막|한줌|적당량|약간)"
-    );
+    // 영문 단위는 단어 경계에서만(대소문자 무시), 한글 단위는 위치와 무관하게 제거(앞에 둔 것이 우선)
+    private static final String[] WHOLE_WORD_UNITS = {
+            "g", "kg", "mg", "ml", "l", "tbsp", "tsp", "cup", "cups"
+    };
+    private static final String[] ANYWHERE_UNITS = {
+            "큰술", "작은술", "술", "스푼", "숟가락", "티스푼", "테이블스푼", "컵", "개", "마리", "모", "쪽", "줌", "꼬집",
+            "팩", "봉지", "캔", "포기", "줄기", "잎", "알", "통", "덩이", "조각", "토막", "한줌", "적당량", "약간"
+    };
 
     public static List<String> extractIngredients(String recipeText) {
         // 쉼표 기준으로 토큰을 분리한 뒤 재료명만 추출
@@ -35,17 +36,6 @@ public class RecipeIngredientExtractor {
     private static String cleanIngredientToken(String token) {
         // 숫자/단위/수식어 제거 후 마지막 토큰을 재료명으로 사용
         if (token == null) return "";
-        String t = token.trim();
-        if (t.isEmpty()) return "";
-
-        t = PAREN.matcher(t).replaceAll(" ");
-        t = NUMBER.matcher(t).replaceAll(" ");
-        t = UNITS.matcher(t).replaceAll(" ");
-        t = t.replaceAll("[^\\p{L}\\s]", " ");
-        t = t.replaceAll("\\s+", " ").trim();
-        if (t.isEmpty()) return "";
-        String[] parts = t.split("\\s+");
-        if (parts.length == 0) return "";
-        return parts[parts.length - 1];
+        return TextNormalizer.lastWordWithoutUnits(token, WHOLE_WORD_UNITS, ANYWHERE_UNITS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+// 순위 정렬 검색 결과의 페이지 커서(다음 페이지 시작 위치).
+// 순위 값은 질의마다 다시 계산되므로 키셋 대신 위치를 쓰고, 목록 API와 같은 X-Next-Cursor 헤더로 불투명하게 내려준다.
+package com.aivle0102.bigproject.util;
+
+import com.aivle0102.bigproject.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record SearchCursor(int offset) {
+
+    private static final String PREFIX = "search|";
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new SearchCursor(0);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("검색 커서 아님");
+            }
+            int offset = Integer.parseInt(raw.substring(PREFIX.length()));
+            if (offset < 0) {
+                throw new IllegalArgumentException("음수 위치");
+            }
+            return new SearchCursor(offset);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,373 @@
+// 재료명/제품명/카탈로그 키 정규화에 공통으로 쓰는 문자 단위 정규화기.
+// 정규식 replaceAll 체인 대신 문자열을 한 번(또는 두 번) 훑으며, 중간 버퍼는 스레드별로 재사용한다.
+// 각 메서드는 기존 정규식 구현과 같은 결과를 내도록 맞춰 두었다(TextNormalizerTest 참고).
+package com.aivle0102.bigproject.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class TextNormalizer {
+
+    private static final int MAX_RETAINED_BUFFER = 4096;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * 괄호 묶음을 지우고 문자(\p{L}) 연속 구간만 공백 하나로 이어 붙인다.
+     * 기존: replaceAll("\\([^)]*\\)", " ") -> 숫자 제거 -> replaceAll("[^\\p{L}\\s]", " ") -> 공백 분리 후 join
+     */
+    public static String letterWords(String text) {
+        if (text == null || text.isEmpty()) return "";
+        StringBuilder out = buffer();
+        int n = text.length();
+        boolean unmatchedParens = false;
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < n) {
+            char c = text.charAt(i);
+            if (c == '(' && !unmatchedParens) {
+                int close = text.indexOf(')', i + 1);
+                if (close >= 0) {
+                    pendingSpace = true;
+                    i = close + 1;
+                    continue;
+                }
+                // 뒤에 닫는 괄호가 없으면 이후의 여는 괄호도 짝이 없다
+                unmatchedParens = true;
+            }
+            int cp = text.codePointAt(i);
+            if (Character.isLetter(cp)) {
+                if (pendingSpace && out.length() > 0) out.append(' ');
+                pendingSpace = false;
+                out.appendCodePoint(cp);
+            } else {
+                pendingSpace = true;
+            }
+            i += Character.charCount(cp);
+        }
+        return release(out, text);
+    }
+
+    /**
+     * letterWords와 같은 규칙으로 나눈 단어 목록.
+     */
+    public static List<String> letterWordList(String text) {
+        if (text == null || text.isEmpty()) return List.of();
+        List<String> out = new ArrayList<>();
+        int n = text.length();
+        boolean unmatchedParens = false;
+        int start = -1;
+        int i = 0;
+        while (i < n) {
+            char c = text.charAt(i);
+            if (c == '(' && !unmatchedParens) {
+                int close = text.indexOf(')', i + 1);
+                if (close >= 0) {
+                    if (start >= 0) out.add(text.substring(start, i));
+                    start = -1;
+                    i = close + 1;
+                    continue;
+                }
+                unmatchedParens = true;
+            }
+            int cp = text.codePointAt(i);
+            if (Character.isLetter(cp)) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                out.add(text.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(cp);
+        }
+        if (start >= 0) out.add(text.substring(start, n));
+        return out;
+    }
+
+    /**
+     * 괄호 묶음/숫자/단위를 지운 뒤 마지막 문자(\p{L}) 연속 구간을 반환한다.
+     * wholeWordUnits는 \b 경계의 ASCII 대소문자 무시 일치, anywhereUnits는 위치와 무관한 일치로 지운다(둘 다 앞에 둔 것이 우선).
+     * 기존: PAREN -> NUMBER(\d+(?:[./]\d+)?) -> UNITS -> [^\p{L}\s] -> 공백 정리 후 마지막 토큰
+     */
+    public static String lastWordWithoutUnits(String text, String[] wholeWordUnits, String[] anywhereUnits) {
+        if (text == null || text.isEmpty()) return "";
+
+        // 1) 괄호 묶음과 숫자를 공백으로 바꾼 중간 결과(단위의 \b 판정은 이 문자열 기준)
+        StringBuilder a = buffer();
+        int n = text.length();
+        boolean unmatchedParens = false;
+        int i = 0;
+        while (i < n) {
+            char c = text.charAt(i);
+            if (c == '(' && !unmatchedParens) {
+                int close = text.indexOf(')', i + 1);
+                if (close >= 0) {
+                    a.append(' ');
+                    i = close + 1;
+                    continue;
+                }
+                unmatchedParens = true;
+            }
+            if (isAsciiDigit(c)) {
+                i = skipNumber(text, i);
+                a.append(' ');
+                continue;
+            }
+            a.append(c);
+            i++;
+        }
+
+        // 2) 단위를 건너뛰며 마지막 문자 구간 위치를 기록
+        int m = a.length();
+        int lastStart = -1;
+        int lastEnd = -1;
+        int runStart = -1;
+        i = 0;
+        while (i < m) {
+            int unitLength = matchUnit(a, i, wholeWordUnits, anywhereUnits);
+            if (unitLength > 0) {
+                if (runStart >= 0) {
+                    lastStart = runStart;
+                    lastEnd = i;
+                    runStart = -1;
+                }
+                i += unitLength;
+                continue;
+            }
+            int cp = Character.codePointAt(a, i);
+            if (Character.isLetter(cp)) {
+                if (runStart < 0) runStart = i;
+            } else if (runStart >= 0) {
+                lastStart = runStart;
+                lastEnd = i;
+                runStart = -1;
+            }
+            i += Character.charCount(cp);
+        }
+        if (runStart >= 0) {
+            lastStart = runStart;
+            lastEnd = m;
+        }
+        String result = lastStart < 0 ? "" : a.substring(lastStart, lastEnd);
+        recycle(a);
+        return result;
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 문자(\p{L})와 10진 숫자(\p{Nd})만 남긴다.
+     * 기존: toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{Nd}]+", "").trim()
+     */
+    public static String compareKey(String text) {
+        if (text == null || text.isEmpty()) return "";
+        String source = text;
+        if (needsContextualLowerCase(text)) {
+            // İ(U+0130), Σ(U+03A3)는 문맥에 따라 소문자 결과가 달라지므로 String 규칙을 그대로 따른다
+            source = text.toLowerCase(Locale.ROOT);
+        }
+        StringBuilder out = buffer();
+        int n = source.length();
+        int i = 0;
+        while (i < n) {
+            int cp = source.codePointAt(i);
+            int lower = source == text ? Character.toLowerCase(cp) : cp;
+            if (Character.isLetter(lower) || Character.isDigit(lower)) {
+                out.appendCodePoint(lower);
+            }
+            i += Character.charCount(cp);
+        }
+        return release(out, text);
+    }
+
+    /**
+     * BOM 제거, '_'를 공백으로, 괄호 묶음을 공백으로 바꾼 뒤 공백(\s)을 하나로 줄이고 앞뒤를 trim한다.
+     * 기존: replace(BOM, "").replace("_", " ").trim() -> PAREN -> replaceAll("\\s+", " ").trim()
+     */
+    public static String catalogKey(String text) {
+        if (text == null || text.isEmpty()) return "";
+        StringBuilder out = buffer();
+        int n = text.length();
+        boolean unmatchedParens = false;
+        boolean inSpace = false;
+        int i = 0;
+        while (i < n) {
+            char c = text.charAt(i);
+            if (c == '\uFEFF') {
+                i++;
+                continue;
+            }
+            if (c == '(' && !unmatchedParens) {
+                int close = text.indexOf(')', i + 1);
+                if (close >= 0) {
+                    if (!inSpace) out.append(' ');
+                    inSpace = true;
+                    i = close + 1;
+                    continue;
+                }
+                unmatchedParens = true;
+            }
+            if (c == '_' || isRegexSpace(c)) {
+                if (!inSpace) out.append(' ');
+                inSpace = true;
+            } else {
+                out.append(c);
+                inSpace = false;
+            }
+            i++;
+        }
+
+        // String.trim()과 같은 기준(<= U+0020)으로 앞뒤 제거
+        int start = 0;
+        int end = out.length();
+        while (start < end && out.charAt(start) <= ' ') start++;
+        while (end > start && out.charAt(end - 1) <= ' ') end--;
+        if (start == 0 && end == out.length()) return release(out, text);
+        String result = out.substring(start, end);
+        recycle(out);
+        return result;
+    }
+
+    /**
+     * 알파벳(\p{IsAlphabetic})/숫자(\p{IsDigit}) 연속 구간 목록.
+     * 기존: replaceAll("[^\\p{IsAlphabetic}\\p{IsDigit}]+", " ").trim().split("\\s+")
+     */
+    public static List<String> alnumTokens(String text) {
+        if (text == null || text.isEmpty()) return List.of();
+        List<String> out = new ArrayList<>();
+        int n = text.length();
+        int start = -1;
+        int i = 0;
+        while (i < n) {
+            int cp = text.codePointAt(i);
+            if (Character.isAlphabetic(cp) || Character.isDigit(cp)) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                out.add(text.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(cp);
+        }
+        if (start >= 0) out.add(text.substring(start, n));
+        return out;
+    }
+
+    private static int skipNumber(String text, int i) {
+        // \d+(?:[./]\d+)?
+        int n = text.length();
+        while (i < n && isAsciiDigit(text.charAt(i))) i++;
+        if (i + 1 < n && (text.charAt(i) == '.' || text.charAt(i) == '/') && isAsciiDigit(text.charAt(i + 1))) {
+            i++;
+            while (i < n && isAsciiDigit(text.charAt(i))) i++;
+        }
+        return i;
+    }
+
+    private static int matchUnit(CharSequence s, int i, String[] wholeWordUnits, String[] anywhereUnits) {
+        // 일치한 단위 길이(없으면 0). 정규식 교대(|)처럼 앞에 둔 후보부터 시도
+        if (isWordBoundary(s, i)) {
+            for (String unit : wholeWordUnits) {
+                if (regionMatchesAsciiIgnoreCase(s, i, unit) && isWordBoundary(s, i + unit.length())) {
+                    return unit.length();
+                }
+            }
+        }
+        for (String unit : anywhereUnits) {
+            if (regionMatches(s, i, unit)) return unit.length();
+        }
+        return 0;
+    }
+
+    private static boolean isWordBoundary(CharSequence s, int i) {
+        // java.util.regex의 \b(UNICODE_CHARACTER_CLASS 없음)와 같은 판정
+        boolean left = false;
+        if (i > 0) {
+            int ch = Character.codePointBefore(s, i);
+            left = isWordChar(ch) || (Character.getType(ch) == Character.NON_SPACING_MARK && hasBaseCharacter(s, i - 1));
+        }
+        boolean right = false;
+        if (i < s.length()) {
+            int ch = Character.codePointAt(s, i);
+            right = isWordChar(ch) || (Character.getType(ch) == Character.NON_SPACING_MARK && hasBaseCharacter(s, i));
+        }
+        return left ^ right;
+    }
+
+    private static boolean isWordChar(int ch) {
+        return ch == '_' || Character.isLetterOrDigit(ch);
+    }
+
+    private static boolean hasBaseCharacter(CharSequence s, int i) {
+        for (int x = i; x >= 0; x--) {
+            int ch = Character.codePointAt(s, x);
+            if (Character.isLetterOrDigit(ch)) return true;
+            if (Character.getType(ch) == Character.NON_SPACING_MARK) continue;
+            return false;
+        }
+        return false;
+    }
+
+    private static boolean regionMatchesAsciiIgnoreCase(CharSequence s, int i, String unit) {
+        if (i + unit.length() > s.length()) return false;
+        for (int k = 0; k < unit.length(); k++) {
+            char c = s.charAt(i + k);
+            char u = unit.charAt(k);
+            if (c != u && !(c >= 'A' && c <= 'Z' && c + ('a' - 'A') == u)) return false;
+        }
+        return true;
+    }
+
+    private static boolean regionMatches(CharSequence s, int i, String unit) {
+        if (i + unit.length() > s.length()) return false;
+        for (int k = 0; k < unit.length(); k++) {
+            if (s.charAt(i + k) != unit.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    private static boolean needsContextualLowerCase(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u0130' || c == '\u03A3') return true;
+        }
+        return false;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isRegexSpace(char c) {
+        // 정규식 \s: [ \t\n\x0B\f\r]
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static String release(StringBuilder out, String original) {
+        // 결과가 입력과 같으면 새 문자열을 만들지 않는다
+        String result = contentEquals(out, original) ? original : out.toString();
+        recycle(out);
+        return result;
+    }
+
+    private static void recycle(StringBuilder sb) {
+        if (sb.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        } else {
+            sb.setLength(0);
+        }
+    }
+
+    private static boolean contentEquals(StringBuilder sb, String s) {
+        if (sb.length() != s.length()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (sb.charAt(i) != s.charAt(i)) return false;
+        }
+        return true;
+    }
+}
@@ -45,6 +45,13 @@ ALTER TABLE notice ADD COLUMN IF NOT EXISTS company_id BIGINT REFERENCES company
 CREATE INDEX IF NOT EXISTS idx_notice_company_id
     ON notice(company_id);
 
+-- 공지 목록 키셋 페이지네이션((created_at, notice_id) 내림차순)
+CREATE INDEX IF NOT EXISTS ix_notice_created
+    ON notice (created_at DESC, notice_id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_notice_company_created
+    ON notice (company_id, created_at DESC, notice_id DESC);
+
 --notice_comment(공지사항 댓글) 테이블
 CREATE TABLE IF NOT EXISTS notice_comment (
     notice_comment_id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
@@ -142,6 +149,10 @@ CREATE INDEX IF NOT EXISTS idx_market_report_recipe
 CREATE INDEX IF NOT EXISTS idx_market_report_type
     ON market_report (report_type);
 
+-- 리포트 목록 키셋 페이지네이션((created_at, report_id) 내림차순)
+CREATE INDEX IF NOT EXISTS ix_market_report_created
+    ON market_report (created_at DESC, report_id DESC);
+
 --influencer(인플루언서) 테이블
 CREATE TABLE IF NOT EXISTS influencer (
     influencer_id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
@@ -202,3 +213,117 @@ ON consumer_feedback (report_id, consumerId);
 -- 리포트별 조회 성능
 CREATE INDEX IF NOT EXISTS ix_consumer_feedback_report
 ON consumer_feedback (report_id);
+
+-- haccp_search_cache (HACCP 검색 응답 캐시) 테이블
+CREATE TABLE IF NOT EXISTS haccp_search_cache (
+    cache_key VARCHAR(300) PRIMARY KEY, -- 검색유형|키워드|pageNo|numOfRows
+    search_type VARCHAR(20) NOT NULL, -- prdkind / prdlstNm
+    keyword VARCHAR(200) NOT NULL,
+    page_no INT NOT NULL,
+    num_of_rows INT NOT NULL,
+    response_body TEXT NOT NULL, -- HACCP XML 응답 원문
+    empty_result BOOLEAN NOT NULL DEFAULT FALSE, -- 검색 결과 0건 여부(짧은 TTL 적용)
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 만료 행 정리용 인덱스
+CREATE INDEX IF NOT EXISTS ix_haccp_search_cache_expires
+ON haccp_search_cache (expires_at);
+
+-- report_job (비동기 보고서 생성 작업) 테이블
+CREATE TABLE IF NOT EXISTS report_job (
+    job_id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    recipe_id BIGINT NOT NULL REFERENCES recipe(recipe_id) ON DELETE CASCADE,
+    requester_id VARCHAR(50) NOT NULL,
+    request_json TEXT, -- ReportCreateRequest 원문
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED' CHECK (status IN ('QUEUED','RUNNING','SUCCEEDED','FAILED')),
+    stage VARCHAR(20) NOT NULL DEFAULT 'GENERATE', -- 다음에 실행할 단계(GENERATE -> PERSIST -> DONE)
+    report_json TEXT, -- GENERATE 단계 체크포인트(리포트 JSON)
+    summary TEXT, -- GENERATE 단계 체크포인트(요약)
+    allergen_json TEXT, -- GENERATE 단계 체크포인트(알레르기 분석 결과)
+    consumers_json TEXT, -- GENERATE 단계 체크포인트(가상 소비자/평가)
+    report_id BIGINT REFERENCES market_report(report_id) ON DELETE SET NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    error_message TEXT,
+    locked_by VARCHAR(100), -- 작업을 잡은 워커(인스턴스) ID
+    locked_until TIMESTAMP, -- 임대 만료 시각(지나면 다른 워커가 이어서 처리)
+    run_after TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 재시도 대기
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+-- 대기/실행 중 작업만 훑는 부분 인덱스(SKIP LOCKED 선점용)
+CREATE INDEX IF NOT EXISTS ix_report_job_claimable
+ON report_job (job_id)
+WHERE status IN ('QUEUED', 'RUNNING');
+
+CREATE INDEX IF NOT EXISTS ix_report_job_recipe
+ON report_job (recipe_id);
+
+-- llm_response_cache (결정적인 LLM 호출 응답 캐시) 테이블
+CREATE TABLE IF NOT EXISTS llm_response_cache (
+    cache_key VARCHAR(64) PRIMARY KEY, -- SHA-256(호출 위치, model, messages, temperature, response_format)
+    call_site VARCHAR(50) NOT NULL,
+    model VARCHAR(100),
+    response_body TEXT NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 만료 행 정리용 인덱스
+CREATE INDEX IF NOT EXISTS ix_llm_response_cache_expires
+ON llm_response_cache (expires_at);
+
+-- recipe_summary (레시피 카드 읽기 모델) 테이블
+-- 레시피/재료/최신 AI 리포트/알레르기를 모아 둔 행. 레시피 쓰기 트랜잭션에서 함께 갱신된다
+-- (작성자 이름은 조회 시 userinfo에서 가져온다. 비어 있거나 빠진 행은 애플리케이션 시작 시 채운다)
+CREATE TABLE IF NOT EXISTS recipe_summary (
+    recipe_id BIGINT PRIMARY KEY REFERENCES recipe(recipe_id) ON DELETE CASCADE,
+    recipe_name VARCHAR(200) NOT NULL,
+    description TEXT,
+    user_id VARCHAR(50) NOT NULL,
+    company_id BIGINT,
+    status VARCHAR(20) NOT NULL,
+    open_yn VARCHAR(1) NOT NULL,
+    has_image BOOLEAN NOT NULL DEFAULT FALSE,
+    ingredients JSONB, -- 재료명 목록
+    allergens JSONB, -- 매칭된 알레르기 성분 목록
+    latest_report_id BIGINT,
+    latest_report_summary TEXT,
+    hub_visible BOOLEAN NOT NULL DEFAULT FALSE, -- 공개된 AI 리포트 존재 여부
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- 목록 키셋 페이지네이션((created_at, recipe_id) 내림차순). 허브 목록은 노출 대상만 담은 부분 인덱스
+CREATE INDEX IF NOT EXISTS ix_recipe_summary_hub
+ON recipe_summary (created_at DESC, recipe_id DESC)
+WHERE hub_visible;
+
+CREATE INDEX IF NOT EXISTS ix_recipe_summary_company_hub
+ON recipe_summary (company_id, created_at DESC, recipe_id DESC)
+WHERE hub_visible;
+
+CREATE INDEX IF NOT EXISTS ix_recipe_summary_user
+ON recipe_summary (user_id, created_at DESC, recipe_id DESC);
+
+-- 레시피 검색: 제목/설명/재료/공개 AI 리포트 요약을 모은 search_text(애플리케이션이 갱신)에
+-- 전문 검색(tsvector, 제목 가중치 A)과 부분 일치/오타 허용(pg_trgm) GIN 인덱스를 둔다.
+-- 한국어 사전이 없으므로 'simple' 구성으로 토큰화하고, 조사 붙은 단어 등은 trigram으로 보완
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE recipe_summary ADD COLUMN IF NOT EXISTS search_text TEXT;
+
+ALTER TABLE recipe_summary ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(recipe_name, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(search_text, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_recipe_summary_search_vector
+ON recipe_summary USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS ix_recipe_summary_search_trgm
+ON recipe_summary USING GIN (search_text gin_trgm_ops);
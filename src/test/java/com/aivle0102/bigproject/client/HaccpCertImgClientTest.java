@@ -0,0 +1,82 @@
+package com.aivle0102.bigproject.client;
+
+import com.aivle0102.bigproject.repository.HaccpSearchCacheRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class HaccpCertImgClientTest {
+
+    private static final String XML = """
+            <response><header><resultCode>OK</resultCode></header><body><totalCount>1</totalCount>
+            <items><item><prdlstReportNo>1</prdlstReportNo><prdlstNm>간장</prdlstNm></item></items></body></response>
+            """;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private HaccpCertImgClient client(boolean cacheEnabled) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(200)).map(t -> ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, "application/xml")
+                            .body(XML)
+                            .build());
+                })
+                .build();
+        HaccpResponseCache cache = new HaccpResponseCache(
+                mock(HaccpSearchCacheRepository.class), registry, cacheEnabled, 10, 60, 5);
+        return new HaccpCertImgClient(webClient, cache, registry, "http://localhost", "key");
+    }
+
+    @Test
+    void concurrentIdenticalSearchesShareOneUpstreamCall() {
+        HaccpCertImgClient client = client(false);
+
+        // 앞뒤 공백만 다른 키워드도 같은 조회에 합류한다
+        Tuple2<JsonNode, JsonNode> results = Mono.zip(
+                client.searchByPrdkindAsync("간장", 1, 3),
+                client.searchByPrdkindAsync(" 간장 ", 1, 3)).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(results.getT1()).isEqualTo(results.getT2());
+        assertThat(registry.get("haccp.client.coalesced").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void searchStartsOnlyWhenSubscribed() {
+        HaccpCertImgClient client = client(false);
+
+        Mono<JsonNode> unused = client.searchByPrdkindAsync("간장", 1, 3);
+        JsonNode later = client.searchByPrdkind("간장", 1, 3);
+
+        assertThat(unused).isNotNull();
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(registry.get("haccp.client.coalesced").counter().count()).isZero();
+        assertThat(later.path("body").path("items").path("item").path("prdlstNm").asText()).isEqualTo("간장");
+    }
+
+    @Test
+    void completedSearchIsNotCoalescedWithLaterOne() {
+        HaccpCertImgClient client = client(false);
+
+        client.searchByPrdkind("간장", 1, 3);
+        JsonNode again = client.searchByPrdkind("간장", 1, 3);
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(again.path("body").path("items").path("item").path("prdlstNm").asText()).isEqualTo("간장");
+    }
+}
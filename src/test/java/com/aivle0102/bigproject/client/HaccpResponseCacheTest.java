@@ -0,0 +1,76 @@
+package com.aivle0102.bigproject.client;
+
+import com.aivle0102.bigproject.domain.HaccpSearchCacheEntry;
+import com.aivle0102.bigproject.repository.HaccpSearchCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HaccpResponseCacheTest {
+
+    private final HaccpSearchCacheRepository repository = mock(HaccpSearchCacheRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HaccpResponseCache cache = new HaccpResponseCache(repository, registry, true, 10, 60, 5);
+
+    @Test
+    void secondLookupIsServedFromMemory() {
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get("prdkind", "간장", 1, 3, () -> {
+                upstreamCalls.incrementAndGet();
+                return new HaccpResponseCache.CachedResponse("<response/>", false, true);
+            });
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(registry.get("haccp.cache.lookups").tag("tier", "memory").counter().count()).isEqualTo(2.0);
+        verify(repository).save(any(HaccpSearchCacheEntry.class));
+    }
+
+    @Test
+    void storedRowIsServedWithoutUpstreamCall() {
+        when(repository.findById("prdlstNm|우유|1|20")).thenReturn(Optional.of(HaccpSearchCacheEntry.builder()
+                .cacheKey("prdlstNm|우유|1|20")
+                .responseBody("<response/>")
+                .emptyResult(true)
+                .expiresAt(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5))
+                .build()));
+
+        HaccpResponseCache.CachedResponse cached = cache.get("prdlstNm", "우유", 1, 20, () -> {
+            throw new AssertionError("upstream must not be called");
+        });
+
+        assertThat(cached.empty()).isTrue();
+        assertThat(registry.get("haccp.cache.lookups").tag("tier", "db").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void nonCacheableResponsesAreNotStored() {
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get("prdkind", "밀가루", 1, 3, () -> {
+                upstreamCalls.incrementAndGet();
+                return new HaccpResponseCache.CachedResponse("<error/>", true, false);
+            });
+        }
+
+        assertThat(upstreamCalls).hasValue(2);
+        verify(repository, never()).save(any(HaccpSearchCacheEntry.class));
+    }
+}
@@ -0,0 +1,104 @@
+package com.aivle0102.bigproject.client;
+
+import com.aivle0102.bigproject.domain.LlmResponseCacheEntry;
+import com.aivle0102.bigproject.repository.LlmResponseCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LlmResponseCacheTest {
+
+    private final LlmResponseCacheRepository repository = mock(LlmResponseCacheRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("llm.cache.sites.target-recommendation.enabled", "false");
+    private final LlmResponseCache cache = new LlmResponseCache(repository, registry, environment, true, 10, 60);
+
+    @Test
+    void repeatedPromptIsServedFromMemory() {
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            String content = cache.get("report-summary", body("간장계란밥", 0.4), () -> {
+                upstreamCalls.incrementAndGet();
+                return "요약";
+            });
+            assertThat(content).isEqualTo("요약");
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(registry.get("llm.cache.lookups").tag("site", "report-summary").tag("tier", "memory")
+                .counter().count()).isEqualTo(2.0);
+        verify(repository).save(any(LlmResponseCacheEntry.class));
+    }
+
+    @Test
+    void storedRowIsServedWithoutUpstreamCall() {
+        when(repository.findById(anyString())).thenReturn(Optional.of(LlmResponseCacheEntry.builder()
+                .responseBody("[\"계란\"]")
+                .expiresAt(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5))
+                .build()));
+
+        String content = cache.get("ingredient-extraction", body("계란을 푼다", 0.2), () -> {
+            throw new AssertionError("upstream must not be called");
+        });
+
+        assertThat(content).isEqualTo("[\"계란\"]");
+    }
+
+    @Test
+    void disabledSiteAndBlankResponsesAreNotCached() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.get("target-recommendation", body("비빔밥", 0.2), () -> {
+                upstreamCalls.incrementAndGet();
+                return "{}";
+            });
+        }
+        assertThat(upstreamCalls).hasValue(2);
+        verify(repository, never()).findById(anyString());
+
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        cache.get("report-summary", body("빈 응답", 0.4), () -> "");
+        verify(repository, never()).save(any(LlmResponseCacheEntry.class));
+    }
+
+    @Test
+    void keyDependsOnResponseShapingFieldsOnly() {
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("temperature", 0.4);
+        reordered.put("messages", body("간장계란밥", 0.4).get("messages"));
+        reordered.put("model", "gpt-4.1-mini");
+        reordered.put("stream", false);
+
+        String key = cache.cacheKey("report-summary", body("간장계란밥", 0.4));
+        assertThat(cache.cacheKey("report-summary", reordered)).isEqualTo(key);
+        assertThat(cache.cacheKey("report-summary", body("간장계란밥", 0.2))).isNotEqualTo(key);
+        assertThat(cache.cacheKey("ingredient-extraction", body("간장계란밥", 0.4))).isNotEqualTo(key);
+    }
+
+    private static Map<String, Object> body(String prompt, double temperature) {
+        return Map.of(
+                "model", "gpt-4.1-mini",
+                "messages", List.of(Map.of("role", "user", "content", prompt)),
+                "temperature", temperature
+        );
+    }
+}
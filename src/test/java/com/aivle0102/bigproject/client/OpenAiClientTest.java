@@ -0,0 +1,112 @@
+package com.aivle0102.bigproject.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAiClientTest {
+
+    private static final String OK = """
+            {"choices": [{"message": {"role": "assistant", "content": "[\\"간장\\"]"}}],
+             "usage": {"prompt_tokens": 30, "completion_tokens": 12, "total_tokens": 42,
+                       "prompt_tokens_details": {"cached_tokens": 24}}}
+            """;
+    private static final Map<String, Object> BODY = Map.of(
+            "model", "gpt-4o-mini",
+            "messages", List.of(Map.of("role", "user", "content", "재료: 간장"))
+    );
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private OpenAiClient client(int rateLimitedResponses, String rateLimitBody) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    int call = upstreamCalls.incrementAndGet();
+                    if (call <= rateLimitedResponses) {
+                        return Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, "0.05")
+                                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                .body(rateLimitBody)
+                                .build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                            .body(OK)
+                            .build());
+                })
+                .build();
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(registry, true, 100, 100_000, 10, 5_000);
+        return new OpenAiClient(webClient, limiter, new OpenAiMetrics(registry), 3, 10, 100, 2);
+    }
+
+    @Test
+    void rateLimitedCallIsRetriedAfterBackoff() {
+        OpenAiClient client = client(2, "{\"error\": {\"code\": \"rate_limit_exceeded\"}}");
+
+        assertThat(client.chatCompletion("test", BODY)).isEqualTo("[\"간장\"]");
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(registry.get("openai.gateway.pauses").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("openai.client.rate.limited").tag("model", "gpt-4o-mini").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("openai.client.requests").tag("outcome", "success").tag("caller", "test").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("openai.client.tokens").tag("type", "prompt").counter().count()).isEqualTo(30.0);
+        assertThat(registry.get("openai.client.tokens").tag("type", "completion").counter().count()).isEqualTo(12.0);
+        assertThat(registry.get("openai.client.tokens").tag("type", "cached").counter().count()).isEqualTo(24.0);
+        assertThat(registry.get("openai.client.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    void exhaustedQuotaIsNotRetried() {
+        OpenAiClient client = client(5, "{\"error\": {\"code\": \"insufficient_quota\"}}");
+
+        assertThatThrownBy(() -> client.chatCompletion("test", BODY)).hasMessage("OpenAI Rate Limit 초과");
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void streamedCompletionDeliversDeltasInOrder() {
+        String events = """
+                data: {"choices": [{"delta": {"role": "assistant"}}]}
+
+                data: {"choices": [{"delta": {"content": "{\\"executive"}}]}
+
+                data: {"choices": [{"delta": {"content": "Summary\\": \\"요약\\"}"}}]}
+
+                data: {"choices": [], "usage": {"prompt_tokens": 8, "completion_tokens": 4, "total_tokens": 12, "prompt_tokens_details": {"cached_tokens": 6}}}
+
+                data: [DONE]
+
+                """;
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, "text/event-stream")
+                        .body(events)
+                        .build()))
+                .build();
+        OpenAiClient client = new OpenAiClient(
+                webClient, new OpenAiRateLimiter(registry, true, 100, 100_000, 10, 5_000), new OpenAiMetrics(registry),
+                3, 10, 100, 2);
+        List<String> deltas = new ArrayList<>();
+
+        String content = client.chatCompletionStream("test", BODY, deltas::add);
+
+        assertThat(deltas).containsExactly("{\"executive", "Summary\": \"요약\"}");
+        assertThat(content).isEqualTo("{\"executiveSummary\": \"요약\"}");
+        assertThat(registry.get("openai.client.tokens").tag("operation", "chat.stream").tag("type", "cached").counter().count())
+                .isEqualTo(6.0);
+    }
+}
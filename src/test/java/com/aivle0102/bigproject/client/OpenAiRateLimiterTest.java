@@ -0,0 +1,49 @@
+package com.aivle0102.bigproject.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAiRateLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void requestBeyondBucketIsRejectedWhenWaitExceedsLimit() {
+        // 분당 2건: 세 번째 요청은 30초를 기다려야 하므로 대기 한도(100ms) 안에 들어올 수 없다
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(registry, true, 2, 100_000, 10, 100);
+
+        limiter.acquire(10);
+        limiter.acquire(10);
+
+        assertThatThrownBy(() -> limiter.acquire(10)).isInstanceOf(IllegalStateException.class);
+        assertThat(registry.get("openai.gateway.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(limiter.queueDepth()).isZero();
+    }
+
+    @Test
+    void tokensAreReconciledWithActualUsage() {
+        // 예상 900 토큰을 차감했더라도 실제 사용량이 100이면 나머지는 돌려받는다
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(registry, true, 100, 1_000, 10, 100);
+
+        limiter.acquire(900);
+        limiter.reconcile(900, 100);
+
+        limiter.acquire(800);
+    }
+
+    @Test
+    void retryAfterPausesAllCallers() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(registry, true, 100, 100_000, 10, 5_000);
+        limiter.pauseFor(Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        limiter.acquire(10);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+}
@@ -0,0 +1,79 @@
+package com.aivle0102.bigproject.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private static final Resource RAW = new ClassPathResource("data/raw_produce_catalog.json");
+    private static final Resource SEAFOOD = new ClassPathResource("data/raw_produce_seafood_category.json");
+    private static final Resource PROCESSED = new ClassPathResource("data/processed_foods_catalog.json");
+    private static final Resource ALLERGEN = new ClassPathResource("data/allergen.json");
+
+    @Test
+    void rawProduceSnapshotMatchesJson() {
+        RawProduceCatalogLoader json = new RawProduceCatalogLoader(RAW, SEAFOOD);
+        json.load();
+        RawProduceCatalogLoader snapshot = new RawProduceCatalogLoader(RAW, SEAFOOD);
+        ReflectionTestUtils.setField(snapshot, "snapshotResource", snapshot("raw_produce"));
+        snapshot.load();
+
+        assertThat(snapshot.getRawProduceNames()).isEqualTo(json.getRawProduceNames());
+        assertThat(snapshot.getSeafoodCategoryByName()).isEqualTo(json.getSeafoodCategoryByName());
+    }
+
+    @Test
+    void processedFoodsSnapshotMatchesJson() {
+        ProcessedFoodsCatalogLoader json = new ProcessedFoodsCatalogLoader(PROCESSED);
+        json.load();
+        ProcessedFoodsCatalogLoader snapshot = new ProcessedFoodsCatalogLoader(PROCESSED);
+        ReflectionTestUtils.setField(snapshot, "snapshotResource", snapshot("processed_foods"));
+        snapshot.load();
+
+        assertThat(snapshot.getEntries()).hasSameSizeAs(json.getEntries());
+        for (int i = 0; i < json.getEntries().size(); i++) {
+            assertThat(snapshot.getEntries().get(i)).usingRecursiveComparison().isEqualTo(json.getEntries().get(i));
+        }
+        for (String query : List.of("간장", "우유", "버터", "체다치즈", "팝콘", "고추장", "요거트")) {
+            assertThat(snapshot.buildSearchPlan(query)).isEqualTo(json.buildSearchPlan(query));
+            assertThat(snapshot.matchDirectFromCatalog(query)).isEqualTo(json.matchDirectFromCatalog(query));
+        }
+    }
+
+    @Test
+    void allergenSnapshotMatchesJson() {
+        AllergenCatalogLoader json = new AllergenCatalogLoader(ALLERGEN);
+        json.load();
+        AllergenCatalogLoader snapshot = new AllergenCatalogLoader(ALLERGEN);
+        ReflectionTestUtils.setField(snapshot, "snapshotResource", snapshot("allergen"));
+        snapshot.load();
+
+        assertThat(snapshot.getGlutenCereals()).isEqualTo(json.getGlutenCereals());
+        assertThat(snapshot.getCountryToAllergens()).isEqualTo(json.getCountryToAllergens());
+        assertThat(snapshot.getCountryToName()).isEqualTo(json.getCountryToName());
+        assertThat(snapshot.getCountryToLegalBasis()).isEqualTo(json.getCountryToLegalBasis());
+    }
+
+    @Test
+    void staleSnapshotFallsBackToJson() {
+        // 다른 원본(체크섬 불일치)으로 읽으면 스냅샷을 버리고 JSON을 사용
+        assertThat(CatalogSnapshot.read(snapshot("allergen"), "allergen", new Resource[]{SEAFOOD}, in -> {
+            throw new AssertionError("stale snapshot must not be decoded");
+        })).isFalse();
+        assertThat(CatalogSnapshot.read(new ClassPathResource("data/snapshot/missing.bin"), "allergen",
+                new Resource[]{ALLERGEN}, in -> {
+                })).isFalse();
+    }
+
+    private static Resource snapshot(String name) {
+        Resource resource = new ClassPathResource("data/snapshot/" + name + ".bin");
+        assertThat(resource.exists()).as("build should generate " + name + ".bin").isTrue();
+        return resource;
+    }
+}
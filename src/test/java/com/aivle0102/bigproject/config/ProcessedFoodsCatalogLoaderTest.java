@@ -0,0 +1,183 @@
+package com.aivle0102.bigproject.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessedFoodsCatalogLoaderTest {
+
+    private static ProcessedFoodsCatalogLoader loader;
+
+    @BeforeAll
+    static void load() {
+        loader = new ProcessedFoodsCatalogLoader();
+        ReflectionTestUtils.setField(loader, "catalogResource", new ClassPathResource("data/processed_foods_catalog.json"));
+        loader.load();
+    }
+
+    @Test
+    void searchPlanMatchesLegacyFullScan() {
+        for (String query : queries()) {
+            ProcessedFoodsCatalogLoader.CatalogSearchPlan plan = loader.buildSearchPlan(query);
+            ProcessedFoodsCatalogLoader.CatalogSearchPlan legacy = legacyBuildSearchPlan(query);
+            assertThat(plan.prdkindCandidates()).as("prdkind: " + query).isEqualTo(legacy.prdkindCandidates());
+            assertThat(plan.prdlstNmCandidates()).as("prdlstNm: " + query).isEqualTo(legacy.prdlstNmCandidates());
+        }
+    }
+
+    @Test
+    void directMatchMatchesLegacyFullScan() {
+        for (String query : queries()) {
+            assertThat(loader.matchDirectFromCatalog(query)).as(query).isEqualTo(legacyMatchDirect(query));
+        }
+    }
+
+    @Test
+    void boundedLevenshteinAgreesWithFullDistanceWithinBound() {
+        Random random = new Random(7);
+        String alphabet = "간장고추된장우유치즈";
+        for (int n = 0; n < 2000; n++) {
+            String a = randomString(random, alphabet, random.nextInt(9));
+            String b = randomString(random, alphabet, random.nextInt(9));
+            int full = levenshtein(a, b);
+            for (int bound = 0; bound <= 8; bound++) {
+                int bounded = ProcessedFoodsCatalogLoader.NameIndex.boundedLevenshtein(a, b, bound);
+                if (full <= bound) {
+                    assertThat(bounded).as(a + "/" + b + "/" + bound).isEqualTo(full);
+                } else {
+                    assertThat(bounded).as(a + "/" + b + "/" + bound).isGreaterThan(bound);
+                }
+            }
+        }
+    }
+
+    private static List<String> queries() {
+        // 대표 재료명 + 카탈로그 이름 자체 + 한 글자 변형(삭제/치환/추가)
+        Set<String> out = new LinkedHashSet<>(List.of(
+                "간장", "고추장", "된장", "우유", "버터", "치즈", "밀가루", "설탕", "참기름", "굴소스",
+                "마요네즈", "케첩", "두부", "라면", "떡", "어묵", "햄", "베이컨", "요구르트", "생크림",
+                "진간장", "국간장", "모짜렐라 치즈", "체다치즈", "팝콘", "a", "빵", "(국산)간장"
+        ));
+        Random random = new Random(11);
+        List<ProcessedFoodsCatalogLoader.ProcessedFoodEntry> entries = loader.getEntries();
+        for (int n = 0; n < 300; n++) {
+            ProcessedFoodsCatalogLoader.ProcessedFoodEntry e = entries.get(random.nextInt(entries.size()));
+            String base = n % 2 == 0 ? e.getProcessedName() : e.getRepresentativeName();
+            if (base == null || base.isBlank()) continue;
+            out.add(base);
+            out.add(mutate(random, base));
+        }
+        return new ArrayList<>(out);
+    }
+
+    private static String mutate(Random random, String base) {
+        StringBuilder sb = new StringBuilder(base);
+        int pos = random.nextInt(sb.length());
+        switch (random.nextInt(3)) {
+            case 0 -> sb.deleteCharAt(pos);
+            case 1 -> sb.setCharAt(pos, '맛');
+            default -> sb.insert(pos, '소');
+        }
+        return sb.toString();
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    // ---- 기존 전수 탐색 구현 (기준값) ----
+
+    private static ProcessedFoodsCatalogLoader.CatalogSearchPlan legacyBuildSearchPlan(String ingredientName) {
+        String normalized = normalizeForCompare(ingredientName);
+        if (normalized.isBlank()) return new ProcessedFoodsCatalogLoader.CatalogSearchPlan(List.of(), List.of());
+
+        Map<String, Double> prdkindScores = new HashMap<>();
+        Map<String, Double> prdlstScores = new HashMap<>();
+        for (ProcessedFoodsCatalogLoader.ProcessedFoodEntry e : loader.getEntries()) {
+            String processed = safe(e.getProcessedName());
+            String representative = safe(e.getRepresentativeName());
+            double processedScore = similarityScore(normalized, normalizeForCompare(processed));
+            double repScore = similarityScore(normalized, normalizeForCompare(representative));
+            if (!processed.isBlank() && processedScore >= 0.80) prdkindScores.merge(processed, processedScore, Math::max);
+            if (!representative.isBlank() && repScore >= 0.75) prdlstScores.merge(representative, repScore, Math::max);
+        }
+        return new ProcessedFoodsCatalogLoader.CatalogSearchPlan(top(prdkindScores), top(prdlstScores));
+    }
+
+    private static Optional<String> legacyMatchDirect(String ingredientName) {
+        if (ingredientName == null || ingredientName.isBlank()) return Optional.empty();
+        String normalized = normalizeForCompare(ingredientName);
+        if (normalized.isBlank()) return Optional.empty();
+        for (ProcessedFoodsCatalogLoader.ProcessedFoodEntry e : loader.getEntries()) {
+            if (normalized.equals(normalizeForCompare(e.getProcessedName()))
+                    || normalized.equals(normalizeForCompare(e.getRepresentativeName()))) {
+                String major = safe(e.getMajorCategory());
+                String minor = safe(e.getMinorCategory());
+                for (String hint : List.of("유제품", "유가공", "치즈", "버터")) {
+                    if (major.contains(hint) || minor.contains(hint)) return Optional.of("Milk");
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static List<String> top(Map<String, Double> scores) {
+        return scores.entrySet().stream()
+                .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
+                .limit(5)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static double similarityScore(String a, String b) {
+        if (a.isBlank() || b.isBlank()) return 0.0;
+        if (a.equals(b)) return 1.0;
+        double containsScore = (a.contains(b) || b.contains(a)) ? 0.9 : 0.0;
+        int maxLen = Math.max(a.length(), b.length());
+        double edit = 1.0 - ((double) levenshtein(a, b) / (double) maxLen);
+        return Math.max(containsScore, edit);
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) prev[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+
+    private static String normalizeForCompare(String text) {
+        if (text == null) return "";
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{Nd}]+", "").trim();
+    }
+
+    private static String safe(String text) {
+        return text == null ? "" : text.trim();
+    }
+}
@@ -0,0 +1,89 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.client.LlmResponseCache;
+import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.dto.ReportRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiReportServiceTest {
+
+    private final OpenAiClient openAiClient = mock(OpenAiClient.class);
+    private final ExecutorService sectionExecutor = ExecutorConfig.daemonPool("report-section", 3);
+    private final AiReportService service = new AiReportService(openAiClient, mock(LlmResponseCache.class), sectionExecutor);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "model", "gpt-4.1-mini");
+        ReflectionTestUtils.setField(service, "generationMode", "sections");
+    }
+
+    @AfterEach
+    void tearDown() {
+        sectionExecutor.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sectionsAreGeneratedConcurrentlyAndMergedInReportOrder() {
+        // 세 섹션 호출이 서로를 기다려야 끝나므로, 순차 처리라면 래치가 열리지 않는다
+        CountDownLatch inFlight = new CountDownLatch(3);
+        when(openAiClient.chatCompletion(anyString(), any())).thenAnswer(invocation -> {
+            Map<String, Object> body = invocation.getArgument(1);
+            List<Map<String, String>> messages = (List<Map<String, String>>) body.get("messages");
+            String prompt = messages.get(messages.size() - 1).get("content");
+            inFlight.countDown();
+            assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+            if (prompt.contains("\"swot\"")) return "{\"swot\": {\"strengths\": [\"가격\"]}}";
+            if (prompt.contains("\"kpis\"")) return "```json\n{\"kpis\": [{\"name\": \"재구매율\"}]}\n```";
+            return "{\"executiveSummary\": {\"decision\": \"GO\"}}";
+        });
+        ReportRequest request = new ReportRequest();
+        request.setRecipe("간장계란밥: 밥, 계란, 간장");
+        request.setTargetCountry("US");
+        request.setSections(List.of("kpis", "executiveSummary", "swot"));
+
+        List<String> streamed = new ArrayList<>();
+        Map<String, Object> report = service.generateReportStreaming(request, (section, value) -> streamed.add(section));
+
+        assertThat(report).containsOnlyKeys("executiveSummary", "swot", "kpis");
+        assertThat(new ArrayList<>(report.keySet())).containsExactly("kpis", "executiveSummary", "swot");
+        assertThat(streamed).containsExactlyInAnyOrder("executiveSummary", "swot", "kpis");
+
+        // 모든 섹션 호출이 같은 앞부분(시스템 + 규칙/전체 스키마/레시피 컨텍스트)을 공유하고 마지막 메시지만 섹션 이름이 다르다
+        ArgumentCaptor<Map<String, Object>> bodies = ArgumentCaptor.forClass(Map.class);
+        verify(openAiClient, times(3)).chatCompletion(anyString(), bodies.capture());
+        List<?> prefix = ((List<?>) bodies.getValue().get("messages")).subList(0, 2);
+        assertThat(bodies.getAllValues())
+                .extracting(b -> (Object) ((List<?>) b.get("messages")).subList(0, 2))
+                .containsOnly((Object) prefix);
+        assertThat(((Map<String, String>) prefix.get(1)).get("content"))
+                .contains("\"kpis\":", "\"executiveSummary\":", "\"swot\":", "간장계란밥")
+                .doesNotContain("\"marketSnapshot\":");
+        assertThat(bodies.getAllValues())
+                .extracting(b -> ((List<Map<String, String>>) b.get("messages")).get(2).get("content"))
+                .containsExactlyInAnyOrder(
+                        "이번에는 \"kpis\" 섹션만 작성해줘.",
+                        "이번에는 \"executiveSummary\" 섹션만 작성해줘.",
+                        "이번에는 \"swot\" 섹션만 작성해줘.");
+    }
+}
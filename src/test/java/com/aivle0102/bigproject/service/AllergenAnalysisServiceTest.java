@@ -0,0 +1,151 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.client.HaccpCertImgClient;
+import com.aivle0102.bigproject.client.LlmResponseCache;
+import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.config.AllergenCatalogLoader;
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.config.ProcessedFoodsCatalogLoader;
+import com.aivle0102.bigproject.config.RawProduceCatalogLoader;
+import com.aivle0102.bigproject.dto.AllergenAnalysisResponse;
+import com.aivle0102.bigproject.dto.IngredientEvidence;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AllergenAnalysisServiceTest {
+
+    private final AllergenCatalogLoader allergenCatalogLoader = mock(AllergenCatalogLoader.class);
+    private final HaccpCertImgClient haccpClient = mock(HaccpCertImgClient.class);
+    private final ProcessedFoodsCatalogLoader processedFoodsCatalogLoader = mock(ProcessedFoodsCatalogLoader.class);
+    private final RawProduceCatalogLoader rawProduceCatalogLoader = mock(RawProduceCatalogLoader.class);
+    // 풀 없이 만든 서비스는 재료를 호출한 스레드에서 순차로 탐색한다
+    private final AllergenAnalysisService service = newService(null);
+
+    private AllergenAnalysisService newService(ExecutorService ingredientExecutor) {
+        return new AllergenAnalysisService(
+                allergenCatalogLoader,
+                new AllergenMatcher(),
+                haccpClient,
+                processedFoodsCatalogLoader,
+                rawProduceCatalogLoader,
+                mock(OpenAiClient.class),
+                mock(LlmResponseCache.class),
+                ingredientExecutor
+        );
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(allergenCatalogLoader.getCountryToAllergens()).thenReturn(Map.of(
+                "US", List.of("Milk", "Egg", "Soybean"),
+                "JP", List.of("Milk", "Egg"),
+                "KR", List.of("Egg", "Soybean")
+        ));
+        when(rawProduceCatalogLoader.matchSeafoodCategory(anyString())).thenReturn(Optional.empty());
+        when(processedFoodsCatalogLoader.matchDirectFromCatalog(anyString())).thenReturn(Optional.empty());
+
+        JsonNode response = new ObjectMapper().readTree("""
+                {"response": {"body": {"totalCount": "1", "items": {"item": [
+                  {"prdlstReportNo": "1", "prdlstNm": "특제양념", "prdkind": "소스", "allergy": "우유, 대두"}
+                ]}}}}
+                """);
+        when(haccpClient.searchByPrdkind("특제양념", 1, 3)).thenReturn(response);
+    }
+
+    @Test
+    void countriesShareOneHaccpLookupPerIngredient() {
+        Map<String, AllergenAnalysisResponse> byCountry = service.analyzeForCountries(
+                List.of("계란", "특제양념"),
+                new LinkedHashSet<>(List.of("US", "일본", "KR"))
+        );
+
+        assertThat(byCountry).containsOnlyKeys("US", "JP", "KR");
+        assertThat(byCountry.get("US").getFinalMatchedAllergens()).containsExactly("Egg", "Milk", "Soybean");
+        assertThat(byCountry.get("JP").getFinalMatchedAllergens()).containsExactly("Egg", "Milk");
+        assertThat(byCountry.get("KR").getFinalMatchedAllergens()).containsExactly("Egg", "Soybean");
+        verify(haccpClient, times(1)).searchByPrdkind(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void concurrentResolutionMatchesSequentialRun() throws Exception {
+        // 뒤 재료일수록 HACCP 응답이 빨리 오도록 해 완료 순서를 입력 순서와 반대로 만든다(모든 국가 의무인 계란을 넣어 폴백 없이 1차 탐색만)
+        List<String> ingredients = List.of("특제양념", "비법소스", "데리야끼소스", "볶음양념", "초장소스");
+        List<String> allergies = List.of("우유, 계란", "계란", "대두, 계란, 밀", "계란, 우유, 대두", "계란");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode empty = mapper.readTree("{\"response\": {\"body\": {\"totalCount\": \"0\"}}}");
+        when(haccpClient.searchByPrdkind(anyString(), anyInt(), anyInt())).thenReturn(empty);
+        for (int i = 0; i < ingredients.size(); i++) {
+            String name = ingredients.get(i);
+            long delayMs = (ingredients.size() - i) * 20L;
+            JsonNode response = mapper.readTree("""
+                    {"response": {"body": {"totalCount": "1", "items": {"item": [
+                      {"prdlstReportNo": "%d", "prdlstNm": "%s", "prdkind": "소스", "allergy": "%s"}
+                    ]}}}}
+                    """.formatted(i + 1, name, allergies.get(i)));
+            when(haccpClient.searchByPrdkind(name, 1, 3)).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(delayMs);
+                    return response;
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+        ExecutorService ingredientExecutor = ExecutorConfig.daemonPool("allergen-ingredient", 4);
+        AllergenAnalysisService concurrent = newService(ingredientExecutor);
+
+        try {
+            for (String country : List.of("US", "JP", "KR")) {
+                AllergenAnalysisResponse expected = service.analyzeIngredients(ingredients, country);
+                AllergenAnalysisResponse actual = concurrent.analyzeIngredients(ingredients, country);
+
+                assertThat(actual.getFinalMatchedAllergens()).isEqualTo(expected.getFinalMatchedAllergens());
+                assertThat(actual.getHaccpSearchEvidences())
+                        .extracting(IngredientEvidence::getIngredient)
+                        .containsExactlyElementsOf(ingredients);
+                assertThat(actual.getHaccpSearchEvidences())
+                        .usingRecursiveFieldByFieldElementComparator()
+                        .containsExactlyElementsOf(expected.getHaccpSearchEvidences());
+                assertThat(actual.getNote()).isEqualTo(expected.getNote());
+            }
+        } finally {
+            ingredientExecutor.shutdownNow();
+        }
+        assertThat(maxRunning.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void singleCountryMatchesCountrySetProjection() {
+        for (String country : List.of("US", "JP", "KR")) {
+            AllergenAnalysisResponse single = service.analyzeIngredients(List.of("계란", "특제양념"), country);
+            AllergenAnalysisResponse projected = service.analyzeForCountries(
+                    List.of("계란", "특제양념"),
+                    new LinkedHashSet<>(List.of(country))
+            ).get(country);
+
+            assertThat(projected.getFinalMatchedAllergens()).isEqualTo(single.getFinalMatchedAllergens());
+            assertThat(projected.getDirectMatchedAllergens()).isEqualTo(single.getDirectMatchedAllergens());
+            assertThat(projected.getNote()).isEqualTo(single.getNote());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.dto.AllergenAnalysisResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AllergenBatchServiceTest {
+
+    private final AllergenAnalysisService analysisService = mock(AllergenAnalysisService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService batchExecutor;
+    private AllergenBatchService service;
+
+    @AfterEach
+    void tearDown() {
+        if (batchExecutor != null) batchExecutor.shutdownNow();
+    }
+
+    @Test
+    void resultsAreWrittenInCompletionOrderWithinParallelismLimit() throws Exception {
+        start(2);
+        // 1번은 다른 두 결과가 기록될 때까지 끝나지 않으므로 완료 순서대로라면 마지막 줄이 된다
+        CountDownLatch twoLinesWritten = new CountDownLatch(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(analysisService.analyzeIngredients(anyList(), anyString(), any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                String country = invocation.getArgument(1);
+                if ("US".equals(country)) {
+                    assertThat(twoLinesWritten.await(5, TimeUnit.SECONDS)).isTrue();
+                }
+                if ("JP".equals(country)) {
+                    throw new IllegalStateException("HACCP 호출 실패");
+                }
+                return AllergenAnalysisResponse.builder().targetCountry(country).build();
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                twoLinesWritten.countDown();
+            }
+        };
+
+        service.analyzeBatch(jobs(job(1, "US"), job(2, "JP"), job(3, "KR")), out);
+
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).extracting(line -> line.path("recipeId").asLong()).containsExactly(2L, 3L, 1L);
+        assertThat(lines.get(0).path("error").asText()).isEqualTo("HACCP 호출 실패");
+        assertThat(lines.get(2).path("result").path("targetCountry").asText()).isEqualTo("US");
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void writeFailureStopsReadingFurtherJobs() {
+        start(1);
+        when(analysisService.analyzeIngredients(anyList(), anyString(), any()))
+                .thenReturn(AllergenAnalysisResponse.builder().build());
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("연결 끊김");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("연결 끊김");
+            }
+        };
+
+        // 첫 작업의 기록 실패 전에 이미 읽어 둔 두 번째 작업까지만 실행된다
+        assertThatThrownBy(() -> service.analyzeBatch(
+                jobs(job(1, "US"), job(2, "US"), job(3, "US"), job(4, "US"), job(5, "US")), closed))
+                .isInstanceOf(IOException.class)
+                .hasMessage("연결 끊김");
+        verify(analysisService, times(2)).analyzeIngredients(anyList(), anyString(), any());
+    }
+
+    private void start(int parallelism) {
+        batchExecutor = ExecutorConfig.daemonPool("allergen-batch", parallelism);
+        service = new AllergenBatchService(analysisService, batchExecutor);
+        ReflectionTestUtils.setField(service, "batchParallelism", parallelism);
+        ReflectionTestUtils.setField(service, "maxSharedIngredients", 100);
+    }
+
+    private static String job(long recipeId, String country) {
+        return "{\"recipeId\": " + recipeId + ", \"ingredients\": [\"간장\"], \"targetCountry\": \"" + country + "\"}";
+    }
+
+    private static InputStream jobs(String... jobs) {
+        return new ByteArrayInputStream(String.join("\n", jobs).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
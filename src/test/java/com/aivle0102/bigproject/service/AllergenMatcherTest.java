@@ -0,0 +1,129 @@
+package com.aivle0102.bigproject.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllergenMatcherTest {
+
+    private static final List<String> NOISE = List.of(
+            "정제수", "설탕", "소금", "(국산)", "10%", "2.5", "혼합제제", "향료", "산도조절제", "  ", "-", "L-글루타민산나트륨"
+    );
+
+    private final AllergenMatcher matcher = new AllergenMatcher();
+
+    @Test
+    void rawmtrlMatchesLegacyContainsScan() {
+        List<String> samples = new ArrayList<>(List.of(
+                "정제수, 탈지대두(외국산), 밀(미국산), 천일염, 주정",
+                "밀가루(밀:미국산)/설탕·쇼트닝;계란|우유",
+                "새우젓(새우, 소금), 꽃게추출물, 멸치액젓",
+                "참깨, 참기름\n호두분태\r\n캐슈넛",
+                "간장(대두, 밀), 된장, 고추장",
+                ""
+        ));
+        samples.addAll(randomRawmtrl(500));
+
+        for (String rawmtrl : samples) {
+            assertThat(matcher.extractCanonicalFromRawmtrl(rawmtrl))
+                    .as(rawmtrl)
+                    .isEqualTo(legacyRawmtrl(rawmtrl));
+        }
+    }
+
+    @Test
+    void tokensMatchLegacyContainsScan() {
+        List<String> tokens = new ArrayList<>();
+        tokens.addAll(haccpKeys());
+        tokens.addAll(AllergenMatcher.INGREDIENT_TO_CANONICAL.keySet());
+        tokens.addAll(AllergenMatcher.MULTI_INGREDIENT_TO_CANONICAL.keySet());
+        tokens.addAll(randomRawmtrl(200));
+
+        for (String token : tokens) {
+            assertThat(matcher.extractCanonicalFromTokens(List.of(token)))
+                    .as(token)
+                    .isEqualTo(legacyTokens(List.of(token)));
+        }
+        assertThat(matcher.extractCanonicalFromTokens(tokens)).isEqualTo(legacyTokens(tokens));
+    }
+
+    private static List<String> haccpKeys() {
+        return new ArrayList<>(AllergenMatcher.HACCP_KO_TO_CANONICAL.keySet());
+    }
+
+    private static List<String> randomRawmtrl(int count) {
+        // 사전 키워드와 잡음 토큰을 섞어 HACCP rawmtrl 형태의 문자열 생성
+        List<String> vocabulary = new ArrayList<>(NOISE);
+        vocabulary.addAll(haccpKeys());
+        vocabulary.addAll(AllergenMatcher.INGREDIENT_TO_CANONICAL.keySet());
+        vocabulary.addAll(AllergenMatcher.MULTI_INGREDIENT_TO_CANONICAL.keySet());
+        List<String> separators = List.of(", ", ",", "/", "·", ";", "|", "\n", "", " ");
+
+        Random random = new Random(42);
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            int words = 1 + random.nextInt(12);
+            for (int w = 0; w < words; w++) {
+                sb.append(vocabulary.get(random.nextInt(vocabulary.size())));
+                sb.append(separators.get(random.nextInt(separators.size())));
+            }
+            out.add(sb.toString());
+        }
+        return out;
+    }
+
+    // ---- 기존 String.contains 전수 비교 구현 (기준값) ----
+
+    private static Set<String> legacyRawmtrl(String rawmtrlRaw) {
+        if (rawmtrlRaw == null || rawmtrlRaw.isBlank()) return Set.of();
+        String normalized = rawmtrlRaw.replace("/", " ")
+                .replace("·", ",")
+                .replace(";", ",")
+                .replace("|", ",")
+                .trim();
+        List<String> tokens = new ArrayList<>();
+        for (String p : normalized.split("[,\\n\\r]+")) {
+            tokens.add(p);
+        }
+        return legacyTokens(tokens);
+    }
+
+    private static Set<String> legacyTokens(List<String> rawTokens) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String t : rawTokens) {
+            if (t == null || t.isBlank()) continue;
+            String token = legacyNormalizeToken(t);
+            if (token.isEmpty()) continue;
+            out.addAll(legacyContains(token, AllergenMatcher.HACCP_KO_TO_CANONICAL));
+            out.addAll(legacyContains(token, AllergenMatcher.INGREDIENT_TO_CANONICAL));
+            for (Map.Entry<String, Set<String>> entry : AllergenMatcher.MULTI_INGREDIENT_TO_CANONICAL.entrySet()) {
+                if (token.contains(entry.getKey())) out.addAll(entry.getValue());
+            }
+        }
+        return out;
+    }
+
+    private static Set<String> legacyContains(String token, Map<String, String> map) {
+        Set<String> out = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            if (token.contains(entry.getKey())) out.add(entry.getValue());
+        }
+        return out;
+    }
+
+    private static String legacyNormalizeToken(String token) {
+        String noParen = token.replaceAll("\\([^)]*\\)", " ");
+        String noNumbers = noParen.replaceAll("\\d+(?:\\.\\d+)?", " ");
+        String cleaned = noNumbers.replaceAll("[^\\p{L}\\s]", " ").trim();
+        if (cleaned.isBlank()) return "";
+        return String.join(" ", cleaned.split("\\s+")).trim();
+    }
+}
@@ -0,0 +1,120 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.domain.ConsumerFeedback;
+import com.aivle0102.bigproject.domain.MarketReport;
+import com.aivle0102.bigproject.domain.VirtualConsumer;
+import com.aivle0102.bigproject.repository.ConsumerFeedbackRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EvaluationServiceTest {
+
+    private final OpenAiClient openAiClient = mock(OpenAiClient.class);
+    private final ConsumerFeedbackRepository repository = mock(ConsumerFeedbackRepository.class);
+    private final ExecutorService personaExecutor = ExecutorConfig.daemonPool("persona-evaluation", 4);
+    private final EvaluationService service = new EvaluationService(openAiClient, new ObjectMapper(), repository, personaExecutor);
+
+    @AfterEach
+    void tearDown() {
+        personaExecutor.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void personasAreEvaluatedConcurrentlyAndSavedOnce() {
+        // 세 번의 호출이 서로를 기다려야 끝나므로, 순차 처리라면 래치가 열리지 않는다
+        CountDownLatch inFlight = new CountDownLatch(3);
+        when(openAiClient.chatCompletion(anyString(), any())).thenAnswer(invocation -> {
+            Map<String, Object> body = invocation.getArgument(1);
+            String prompt = ((List<Map<String, String>>) body.get("messages")).get(0).get("content");
+            if (prompt.contains("국가: 중국")) {
+                throw new RuntimeException("OpenAI Rate Limit 초과");
+            }
+            inFlight.countDown();
+            assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+            return "{\"totalScore\": 70, \"tasteScore\": 70, \"priceScore\": 60, \"healthScore\": 65, \"purchaseIntent\": \"YES\"}";
+        });
+        MarketReport report = MarketReport.builder().id(1L).build();
+        List<VirtualConsumer> personas = List.of(
+                persona("미국"), persona("중국"), persona("일본"), persona("베트남"));
+
+        List<ConsumerFeedback> results = service.evaluateAndSave(report, personas, "{}");
+
+        assertThat(results).extracting(f -> f.getConsumer().getCountry()).containsExactly("미국", "일본", "베트남");
+        assertThat(results).allSatisfy(f -> assertThat(f.getReport()).isSameAs(report));
+        ArgumentCaptor<List<ConsumerFeedback>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(3);
+    }
+
+    @Test
+    void failedEvaluationCancelsTheRestBeforeRethrowing() {
+        MarketReport report = MarketReport.builder().id(1L).build();
+        CompletableFuture<ConsumerFeedback> failed = CompletableFuture.failedFuture(new IllegalStateException("풀 종료"));
+        CompletableFuture<ConsumerFeedback> running = new CompletableFuture<>();
+        CompletableFuture<ConsumerFeedback> queued = new CompletableFuture<>();
+
+        assertThatThrownBy(() -> service.saveEvaluations(report, List.of(failed, running, queued)))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(running).isCancelled();
+        assertThat(queued).isCancelled();
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    void queuedEvaluationIsNotRunAfterCancellation() throws Exception {
+        // 풀(4)을 모두 점유한 상태에서 다섯 번째 평가를 취소하면 LLM 호출이 시작되지 않는다
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(4);
+        when(openAiClient.chatCompletion(anyString(), any())).thenAnswer(invocation -> {
+            busy.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "{\"totalScore\": 70}";
+        });
+        List<CompletableFuture<ConsumerFeedback>> evaluations = List.of(
+                service.evaluateAsync(persona("미국"), "{}"),
+                service.evaluateAsync(persona("중국"), "{}"),
+                service.evaluateAsync(persona("일본"), "{}"),
+                service.evaluateAsync(persona("베트남"), "{}"),
+                service.evaluateAsync(persona("태국"), "{}"));
+        assertThat(busy.await(5, TimeUnit.SECONDS)).isTrue();
+
+        evaluations.get(4).cancel(true);
+        release.countDown();
+        CompletableFuture.allOf(evaluations.subList(0, 4).toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        // 큐는 FIFO이므로 뒤에 넣은 평가가 끝났다면 취소된 평가는 이미 꺼내져 건너뛰어졌다
+        service.evaluateAsync(persona("독일"), "{}").get(5, TimeUnit.SECONDS);
+
+        verify(openAiClient, times(5)).chatCompletion(anyString(), any());
+    }
+
+    private static VirtualConsumer persona(String country) {
+        return VirtualConsumer.builder()
+                .country(country)
+                .ageGroup("30대")
+                .personaName(country + " 직장인")
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.aivle0102.bigproject.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngredientResolutionCacheTest {
+
+    @Test
+    void sameKeySharesInFlightResolution() {
+        IngredientResolutionCache cache = new IngredientResolutionCache(10);
+        CompletableFuture<IngredientCandidates> upstream = new CompletableFuture<>();
+        AtomicInteger starts = new AtomicInteger();
+
+        CompletableFuture<IngredientCandidates> first = cache.resolve("간장", () -> {
+            starts.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<IngredientCandidates> second = cache.resolve("간장", () -> {
+            starts.incrementAndGet();
+            return upstream;
+        });
+        upstream.complete(candidates("HACCP_PRDKIND_EXPLORATORY"));
+
+        assertThat(starts).hasValue(1);
+        assertThat(second.join()).isSameAs(first.join());
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void failedResolutionIsRetried() {
+        IngredientResolutionCache cache = new IngredientResolutionCache(10);
+        AtomicInteger starts = new AtomicInteger();
+
+        CompletableFuture<IngredientCandidates> failed = cache.resolve("milk", () -> {
+            starts.incrementAndGet();
+            throw new IllegalStateException("HACCP 호출 실패");
+        });
+        CompletableFuture<IngredientCandidates> retried = cache.resolve("milk", () -> {
+            starts.incrementAndGet();
+            return CompletableFuture.completedFuture(candidates("PRDLSTNM_INGREDIENT_EXACT"));
+        });
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(retried.join().primary().searchStrategy()).isEqualTo("PRDLSTNM_INGREDIENT_EXACT");
+        assertThat(starts).hasValue(2);
+    }
+
+    private static IngredientCandidates candidates(String strategy) {
+        IngredientCandidates.Evidence evidence = new IngredientCandidates.Evidence(strategy, List.of(), Set.of());
+        return new IngredientCandidates(evidence, () -> evidence);
+    }
+}
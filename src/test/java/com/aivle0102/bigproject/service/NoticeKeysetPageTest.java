@@ -0,0 +1,76 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.Notice;
+import com.aivle0102.bigproject.dto.KeysetPage;
+import com.aivle0102.bigproject.dto.NoticeResponse;
+import com.aivle0102.bigproject.exception.CustomException;
+import com.aivle0102.bigproject.repository.NoticeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 공지 목록 키셋 페이지: 커서를 따라가면 누락/중복 없이 (created_at, id) 내림차순으로 끝까지 조회된다
+@SpringBootTest
+@ActiveProfiles("test")
+class NoticeKeysetPageTest {
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @MockitoBean
+    private AiReportService aiReportService;
+
+    @MockitoBean
+    private AllergenAnalysisService allergenAnalysisService;
+
+    @MockitoBean
+    private PersonaService personaService;
+
+    @MockitoBean
+    private EvaluationService evaluationService;
+
+    @Test
+    void cursorWalksAllNoticesWithoutGapsOrDuplicates() {
+        noticeRepository.deleteAll();
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Notice notice = noticeRepository.save(Notice.builder()
+                    .title("공지 " + i)
+                    .content("내용")
+                    .authorId("writer")
+                    .build());
+            expected.add(0, notice.getId());
+        }
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPage<NoticeResponse> page = noticeService.getNotices(null, cursor, 3);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            page.items().forEach(item -> walked.add(item.getId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> noticeService.getNotices(null, "not-a-cursor", 10))
+                .isInstanceOf(CustomException.class);
+    }
+}
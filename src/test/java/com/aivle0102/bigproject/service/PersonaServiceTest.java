@@ -0,0 +1,67 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.client.OpenAiClient;
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.domain.VirtualConsumer;
+import com.aivle0102.bigproject.dto.AgeGroupResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PersonaServiceTest {
+
+    private final OpenAiClient openAiClient = mock(OpenAiClient.class);
+    private final ExecutorService generationExecutor = ExecutorConfig.daemonPool("persona-generation", 3);
+    private final PersonaService service = new PersonaService(openAiClient, new ObjectMapper(), generationExecutor);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "generationTimeoutSeconds", 5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generationExecutor.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void personasAreGeneratedConcurrentlyInTargetOrder() {
+        // 성공하는 두 건이 서로를 기다려야 끝나므로, 순차 처리라면 래치가 열리지 않는다
+        CountDownLatch inFlight = new CountDownLatch(2);
+        when(openAiClient.chatCompletion(anyString(), any(), any(Duration.class))).thenAnswer(invocation -> {
+            Map<String, Object> body = invocation.getArgument(1);
+            String prompt = ((List<Map<String, String>>) body.get("messages")).get(0).get("content");
+            String country = prompt.contains("국가: 일본") ? "일본" : prompt.contains("국가: 미국") ? "미국" : "중국";
+            if (country.equals("중국")) {
+                throw new IllegalStateException("Timeout on blocking read");
+            }
+            inFlight.countDown();
+            assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+            return "{\"country\": \"" + country + "\", \"ageGroup\": \"21-30\", \"personaName\": \"" + country + " 직장인\"}";
+        });
+
+        List<VirtualConsumer> personas = service.generatePersonas("간장 베이스 덮밥", List.of(
+                new AgeGroupResult("미국", "21-30", ""),
+                new AgeGroupResult("중국", "21-30", ""),
+                new AgeGroupResult("일본", "21-30", "")
+        ));
+
+        assertThat(personas).extracting(VirtualConsumer::getCountry).containsExactly("미국", "일본");
+    }
+}
@@ -0,0 +1,292 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.ConsumerFeedback;
+import com.aivle0102.bigproject.domain.Influencer;
+import com.aivle0102.bigproject.domain.MarketReport;
+import com.aivle0102.bigproject.domain.Recipe;
+import com.aivle0102.bigproject.domain.RecipeAllergen;
+import com.aivle0102.bigproject.domain.RecipeIngredient;
+import com.aivle0102.bigproject.domain.UserInfo;
+import com.aivle0102.bigproject.domain.VirtualConsumer;
+import com.aivle0102.bigproject.dto.RecipeListItemResponse;
+import com.aivle0102.bigproject.dto.RecipeResponse;
+import com.aivle0102.bigproject.repository.ConsumerFeedbackRepository;
+import com.aivle0102.bigproject.repository.InfluencerRepository;
+import com.aivle0102.bigproject.repository.MarketReportRepository;
+import com.aivle0102.bigproject.repository.RecipeAllergenRepository;
+import com.aivle0102.bigproject.repository.RecipeIngredientRepository;
+import com.aivle0102.bigproject.repository.RecipeRepository;
+import com.aivle0102.bigproject.repository.RecipeSummaryRepository;
+import com.aivle0102.bigproject.repository.UserInfoRepository;
+import com.aivle0102.bigproject.repository.VirtualConsumerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 레시피 목록 조회의 SQL 수가 레시피 수와 무관하게 일정해야 한다(N+1 방지). 목록은 recipe_summary 읽기 모델에서 읽는다
+@SpringBootTest
+@ActiveProfiles("test")
+class RecipeListQueryCountTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Autowired
+    private MarketReportRepository marketReportRepository;
+
+    @Autowired
+    private VirtualConsumerRepository virtualConsumerRepository;
+
+    @Autowired
+    private ConsumerFeedbackRepository consumerFeedbackRepository;
+
+    @Autowired
+    private RecipeAllergenRepository recipeAllergenRepository;
+
+    @Autowired
+    private InfluencerRepository influencerRepository;
+
+    @Autowired
+    private UserInfoRepository userInfoRepository;
+
+    @Autowired
+    private RecipeSummaryService recipeSummaryService;
+
+    @Autowired
+    private RecipeSummaryRepository recipeSummaryRepository;
+
+    @Autowired
+    private RecipeSummaryRebuildRunner recipeSummaryRebuildRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private AiReportService aiReportService;
+
+    @MockitoBean
+    private AllergenAnalysisService allergenAnalysisService;
+
+    @MockitoBean
+    private PersonaService personaService;
+
+    @MockitoBean
+    private EvaluationService evaluationService;
+
+    @Test
+    void listQueryCountDoesNotGrowWithRecipeCount() {
+        seedAuthor("list-small", 3);
+        seedAuthor("list-large", 12);
+
+        long small = countStatements(() -> assertThat(recipeService.getByAuthor("list-small")).hasSize(3));
+        long large = countStatements(() -> assertThat(recipeService.getByAuthor("list-large")).hasSize(12));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void detailCarriesRelationsThatListItemsOmit() {
+        seedAuthor("list-detail", 3);
+
+        List<RecipeListItemResponse> items = recipeService.getByAuthor("list-detail");
+        assertThat(items).extracting(RecipeListItemResponse::getUserName).containsOnly("작성자 list-detail");
+        assertThat(items).extracting(RecipeListItemResponse::isHasImage).containsOnly(false);
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getIngredients()).containsExactly("밥", "계란", "간장");
+            assertThat(item.getAllergens()).containsExactly("Egg");
+            assertThat(item.getLatestReportId()).isNotNull();
+        });
+
+        List<RecipeResponse> responses = items.stream()
+                .map(item -> recipeService.getOne(item.getId(), "list-detail"))
+                .toList();
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getIngredients()).containsExactly("밥", "계란", "간장");
+            assertThat(response.getAllergen()).containsKey("matchedAllergens");
+            assertThat((List<?>) response.getReport().get("evaluationResults")).hasSize(1);
+        });
+        // 최신 리포트가 AI가 아니면 인플루언서는 그 리포트 기준(없음), 그 외에는 AI 리포트의 인플루언서
+        assertThat(responses).extracting(response -> response.getInfluencers().size()).containsOnly(0, 1);
+        assertThat(recipeService.getAll(null, null, 200).items())
+                .extracting(RecipeListItemResponse::getId)
+                .containsAll(items.stream().map(RecipeListItemResponse::getId).toList());
+    }
+
+    @Test
+    void listFlagsImageAndServesItSeparately() {
+        seedAuthor("list-image", 1);
+        Recipe recipe = recipeRepository.findAll().stream()
+                .filter(r -> "list-image".equals(r.getUserId()))
+                .findFirst()
+                .orElseThrow();
+        recipe.setImageBase64("data:image/png;base64,iVBORw0KGgo=");
+        recipeRepository.save(recipe);
+        recipeSummaryService.rebuildAll();
+
+        assertThat(recipeService.getByAuthor("list-image"))
+                .singleElement()
+                .satisfies(item -> assertThat(item.isHasImage()).isTrue());
+        assertThat(recipeService.getImage(recipe.getId(), "list-image")).contains("data:image/png;base64,iVBORw0KGgo=");
+    }
+
+    @Test
+    void summaryFollowsServiceWrites() {
+        seedAuthor("list-writes", 1);
+        Long recipeId = recipeService.getByAuthor("list-writes").get(0).getId();
+        assertThat(hubIds()).contains(recipeId);
+        assertThat(recipeSummaryRepository.findById(recipeId).orElseThrow().getSearchText())
+                .contains("간장계란밥 0", "계란", "Egg", "요약");
+
+        // 공개 AI 리포트를 지우면 같은 트랜잭션에서 허브 노출과 최신 리포트가 갱신된다
+        MarketReport openReport = marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(recipeId).get(0);
+        recipeService.deleteReport(openReport.getId(), "list-writes");
+        assertThat(hubIds()).doesNotContain(recipeId);
+        assertThat(recipeService.getByAuthor("list-writes").get(0).getLatestReportId()).isNull();
+        // 검색 텍스트에서도 지워진 리포트 요약이 빠진다
+        assertThat(recipeSummaryRepository.findById(recipeId).orElseThrow().getSearchText())
+                .contains("간장계란밥 0")
+                .doesNotContain("요약");
+
+        recipeService.delete(recipeId, "list-writes");
+        assertThat(recipeService.getByAuthor("list-writes")).isEmpty();
+        assertThat(recipeSummaryRepository.findById(recipeId)).isEmpty();
+    }
+
+    @Test
+    void authorNameChangeShowsWithoutSummaryRewrite() {
+        seedAuthor("list-rename", 2);
+
+        jdbcTemplate.update("update userinfo set username = ? where userid = ?", "새 이름", "list-rename");
+
+        assertThat(recipeService.getByAuthor("list-rename"))
+                .extracting(RecipeListItemResponse::getUserName)
+                .containsOnly("새 이름");
+    }
+
+    @Test
+    void startupBackfillsRecipesWithoutSummary() {
+        // 배포 직후처럼 요약 행이 없는 레시피
+        seedAuthor("list-backfill", 2);
+        recipeSummaryRepository.deleteAll(recipeSummaryRepository.findByUserIdOrderByCreatedAtDescRecipeIdDesc("list-backfill"));
+        assertThat(recipeService.getByAuthor("list-backfill")).isEmpty();
+
+        recipeSummaryRebuildRunner.run(null);
+
+        assertThat(recipeService.getByAuthor("list-backfill"))
+                .hasSize(2)
+                .allSatisfy(item -> assertThat(item.getIngredients()).containsExactly("밥", "계란", "간장"));
+    }
+
+    private List<Long> hubIds() {
+        return recipeService.getAll(null, null, 200).items().stream().map(RecipeListItemResponse::getId).toList();
+    }
+
+    private long countStatements(Runnable call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        call.run();
+        long count = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        return count;
+    }
+
+    private void seedAuthor(String authorId, int recipes) {
+        userInfoRepository.save(UserInfo.builder()
+                .userId(authorId)
+                .userPw("pw")
+                .userName("작성자 " + authorId)
+                .userState("1")
+                .joinDate(LocalDateTime.now())
+                .passwordChangedAt(OffsetDateTime.now())
+                .build());
+        for (int i = 0; i < recipes; i++) {
+            Recipe recipe = recipeRepository.save(Recipe.builder()
+                    .recipeName("간장계란밥 " + i)
+                    .status("PUBLISHED")
+                    .openYn("Y")
+                    .userId(authorId)
+                    .targetCountry("US")
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            List<RecipeIngredient> ingredients = recipeIngredientRepository.saveAll(List.of(
+                    RecipeIngredient.builder().recipe(recipe).ingredientName("밥").build(),
+                    RecipeIngredient.builder().recipe(recipe).ingredientName("계란").build(),
+                    RecipeIngredient.builder().recipe(recipe).ingredientName("간장").build()));
+            recipeAllergenRepository.save(RecipeAllergen.builder()
+                    .recipe(recipe)
+                    .ingredient(ingredients.get(1))
+                    .targetCountry("US")
+                    .matchedAllergen("Egg")
+                    .analysisRef("DIRECT_MATCH")
+                    .build());
+
+            MarketReport evaluated = report(recipe, "AI", "Y");
+            addFeedback(evaluated);
+            influencerRepository.save(Influencer.builder()
+                    .report(evaluated)
+                    .influencerInfo("{\"name\": \"inf-" + i + "\"}")
+                    .build());
+            // 레시피마다 평가 리포트를 찾는 경로가 달라지도록 구성(최신이 AI / 최신이 비AI / 최신 AI에 피드백 없음)
+            if (i % 3 == 1) {
+                report(recipe, "USER", "N");
+            } else if (i % 3 == 2) {
+                report(recipe, "AI", "N");
+            }
+        }
+        recipeSummaryService.rebuildAll();
+    }
+
+    private MarketReport report(Recipe recipe, String type, String openYn) {
+        return marketReportRepository.save(MarketReport.builder()
+                .recipe(recipe)
+                .reportType(type)
+                .content("{\"executiveSummary\": {\"decision\": \"GO\"}}")
+                .summary("요약")
+                .openYn(openYn)
+                .build());
+    }
+
+    private void addFeedback(MarketReport report) {
+        VirtualConsumer consumer = virtualConsumerRepository.save(VirtualConsumer.builder()
+                .report(report)
+                .personaName("Emily")
+                .country("미국")
+                .ageGroup("20대")
+                .reason("간편식 선호")
+                .foodPreference("한식")
+                .build());
+        consumerFeedbackRepository.save(ConsumerFeedback.builder()
+                .report(report)
+                .consumer(consumer)
+                .totalScore(80)
+                .tasteScore(80)
+                .priceScore(70)
+                .healthScore(75)
+                .positiveFeedback("맛있다")
+                .negativeFeedback("짜다")
+                .build());
+    }
+}
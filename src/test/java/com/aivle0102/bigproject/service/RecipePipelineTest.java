@@ -0,0 +1,209 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.ConsumerFeedback;
+import com.aivle0102.bigproject.domain.VirtualConsumer;
+import com.aivle0102.bigproject.dto.AgeGroupResult;
+import com.aivle0102.bigproject.dto.AllergenAnalysisResponse;
+import com.aivle0102.bigproject.dto.RecipeCreateRequest;
+import com.aivle0102.bigproject.dto.RecipeResponse;
+import com.aivle0102.bigproject.dto.ReportCreateRequest;
+import com.aivle0102.bigproject.repository.MarketReportRepository;
+import com.aivle0102.bigproject.repository.RecipeAllergenRepository;
+import com.aivle0102.bigproject.repository.VirtualConsumerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 레시피 생성 파이프라인: 단계를 겹쳐 돌려도 결과는 순차 실행과 같고, 실패 시 먼저 시작한 단계는 중단된다
+@SpringBootTest
+@ActiveProfiles("test")
+class RecipePipelineTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private MarketReportRepository marketReportRepository;
+
+    @Autowired
+    private VirtualConsumerRepository virtualConsumerRepository;
+
+    @Autowired
+    private RecipeAllergenRepository recipeAllergenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private AiReportService aiReportService;
+
+    @MockitoBean
+    private AllergenAnalysisService allergenAnalysisService;
+
+    @MockitoBean
+    private PersonaService personaService;
+
+    @MockitoBean
+    private EvaluationService evaluationService;
+
+    @BeforeEach
+    void stubExternalCalls() {
+        when(aiReportService.generateReport(any()))
+                .thenReturn(Map.of("executiveSummary", Map.of("decision", "GO")));
+        when(aiReportService.generateSummary(anyString())).thenReturn("요약");
+        when(allergenAnalysisService.analyzeIngredients(anyList(), any())).thenReturn(AllergenAnalysisResponse.builder()
+                .targetCountry("US")
+                .directMatchedAllergens(Map.of("Egg", "계란"))
+                .finalMatchedAllergens(List.of("Egg"))
+                .build());
+        when(personaService.selectTopAgeGroups(anyString(), anyList()))
+                .thenReturn(List.of(new AgeGroupResult("미국", "20대", "간편식 선호")));
+        when(personaService.generatePersonasAsync(anyString(), anyList())).thenAnswer(inv -> List.of(
+                CompletableFuture.completedFuture(
+                        VirtualConsumer.builder().personaName("Emily").country("미국").ageGroup("20대").build())));
+        when(evaluationService.evaluateAsync(any(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(evaluationService.saveEvaluations(any(), anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    void pipelinedCreateMatchesSequentialRunAndRecordsStageTimings() {
+        RecipeService target = AopTestUtils.getTargetObject(recipeService);
+        ExecutorService pipelineExecutor = (ExecutorService) ReflectionTestUtils.getField(target, "pipelineExecutor");
+        assertThat(pipelineExecutor).isNotNull();
+
+        RecipeResponse pipelined = recipeService.create("pipeline-chef", request());
+        RecipeResponse sequential;
+        ReflectionTestUtils.setField(target, "pipelineExecutor", null);
+        try {
+            sequential = recipeService.create("pipeline-chef", request());
+        } finally {
+            ReflectionTestUtils.setField(target, "pipelineExecutor", pipelineExecutor);
+        }
+
+        assertThat(pipelined.getReport()).isEqualTo(sequential.getReport());
+        assertThat(pipelined.getSummary()).isEqualTo(sequential.getSummary());
+        assertThat(pipelined.getAllergen()).isEqualTo(sequential.getAllergen());
+        assertThat(pipelined.getIngredients()).isEqualTo(sequential.getIngredients());
+        assertThat(personaNames(pipelined)).containsExactly("Emily").isEqualTo(personaNames(sequential));
+
+        for (String stage : List.of("allergen", "report", "age-groups", "summary", "consumers")) {
+            Timer timer = meterRegistry.find("recipe.pipeline.stage").tag("stage", stage).tag("outcome", "success").timer();
+            assertThat(timer).as(stage).isNotNull();
+            assertThat(timer.count()).as(stage).isGreaterThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void failedSummaryInterruptsStagesAlreadyRunning() throws Exception {
+        // 알레르기 분석과 연령대 선정이 모두 진행 중일 때 요약이 실패하면 두 단계의 호출이 인터럽트되어야 한다
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        when(allergenAnalysisService.analyzeIngredients(anyList(), any())).thenAnswer(inv -> {
+            started.countDown();
+            return blockUntilInterrupted(interrupted);
+        });
+        when(personaService.selectTopAgeGroups(anyString(), anyList())).thenAnswer(inv -> {
+            started.countDown();
+            return blockUntilInterrupted(interrupted);
+        });
+        when(aiReportService.generateSummary(anyString())).thenAnswer(inv -> {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            throw new IllegalStateException("OpenAI 응답 없음");
+        });
+
+        assertThatThrownBy(() -> recipeService.create("pipeline-chef", request()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("레시피 보고서 생성에 실패했습니다.");
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void persistRetryReusesCheckpointedAnalysisAndEvaluations() {
+        // 보고서 작업: GENERATE 단계에서 외부 호출을 모두 끝내고, PERSIST 재시도는 체크포인트만으로 저장한다
+        when(evaluationService.evaluateAsync(any(), anyString())).thenAnswer(inv -> CompletableFuture.completedFuture(
+                ConsumerFeedback.builder().consumer(inv.getArgument(0)).totalScore(80).tasteScore(4).build()));
+        RecipeCreateRequest request = request();
+        request.setReportSections(List.of("executiveSummary", "summary", "allergenNote", "globalMarketMap"));
+        RecipeResponse recipe = recipeService.create("pipeline-chef", request, false);
+        assertThat(request.getReportSections()).hasSize(4);
+        assertThat(marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(recipe.getId())).isEmpty();
+
+        ReportCreateRequest reportRequest = new ReportCreateRequest();
+        reportRequest.setReportSections(request.getReportSections());
+        RecipeService.GeneratedReport generated =
+                recipeService.generateReportContent(recipe.getId(), "pipeline-chef", reportRequest);
+        assertThatThrownBy(() -> recipeService.saveGeneratedReport(recipe.getId(), "pipeline-chef", reportRequest,
+                generated, reportId -> {
+                    throw new IllegalStateException("보고서 작업 임대를 잃었습니다");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(recipe.getId())).isEmpty();
+
+        recipeService.saveGeneratedReport(recipe.getId(), "pipeline-chef", reportRequest, generated, reportId -> { });
+
+        verify(allergenAnalysisService, times(1)).analyzeIngredients(anyList(), any());
+        verify(personaService, times(1)).generatePersonasAsync(anyString(), anyList());
+        verify(evaluationService, times(1)).evaluateAsync(any(), anyString());
+        assertThat(recipeAllergenRepository.findByRecipe_IdOrderByIdAsc(recipe.getId())).isNotEmpty();
+        assertThat(personaNames(recipe)).containsExactly("Emily");
+        ArgumentCaptor<List<CompletableFuture<ConsumerFeedback>>> saved = ArgumentCaptor.captor();
+        verify(evaluationService, times(2)).saveEvaluations(any(), saved.capture());
+        ConsumerFeedback feedback = saved.getValue().get(0).join();
+        assertThat(feedback.getTotalScore()).isEqualTo(80);
+        assertThat(feedback.getPersonaName()).isEqualTo("Emily");
+    }
+
+    private static <T> T blockUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            throw new AssertionError("취소되지 않은 단계가 끝까지 실행됨");
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("중단됨", e);
+        }
+    }
+
+    private List<String> personaNames(RecipeResponse response) {
+        Long reportId = marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(response.getId()).get(0).getId();
+        return virtualConsumerRepository.findAll().stream()
+                .filter(consumer -> reportId.equals(consumer.getReport().getId()))
+                .map(VirtualConsumer::getPersonaName)
+                .toList();
+    }
+
+    private static RecipeCreateRequest request() {
+        RecipeCreateRequest request = new RecipeCreateRequest();
+        request.setTitle("간장계란밥");
+        request.setDescription("간단한 한 그릇");
+        request.setIngredients(List.of("밥", "계란", "간장"));
+        request.setSteps(List.of("밥을 담는다", "계란을 올린다"));
+        request.setTargetCountry("US");
+        return request;
+    }
+}
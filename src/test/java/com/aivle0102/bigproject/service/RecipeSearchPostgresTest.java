@@ -0,0 +1,129 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.dto.RecipeListItemResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 허브 검색 네이티브 질의(tsvector + pg_trgm)를 실제 PostgreSQL과 schema.sql로 확인: 순위, LIKE 이스케이프, 회사 범위.
+// H2로는 돌릴 수 없어 Docker가 없는 환경에서는 건너뛴다
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class RecipeSearchPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.sql.init.mode", () -> "always");
+    }
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AiReportService aiReportService;
+
+    @MockitoBean
+    private AllergenAnalysisService allergenAnalysisService;
+
+    @MockitoBean
+    private PersonaService personaService;
+
+    @MockitoBean
+    private EvaluationService evaluationService;
+
+    private Long companyA;
+    private Long companyB;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE recipe_summary, recipe, userinfo, company RESTART IDENTITY CASCADE");
+        companyA = jdbcTemplate.queryForObject(
+                "INSERT INTO company (company_name) VALUES ('A식품') RETURNING company_id", Long.class);
+        companyB = jdbcTemplate.queryForObject(
+                "INSERT INTO company (company_name) VALUES ('B식품') RETURNING company_id", Long.class);
+        user("chef-a", companyA);
+        user("chef-b", companyB);
+    }
+
+    @Test
+    void titleMatchRanksAboveBodyMatchAndNonMatchesAreExcluded() {
+        Long titleMatch = recipe("chef-a", companyA, "간장 계란밥", "간장 계란밥 계란 밥 참기름", true);
+        Long bodyMatch = recipe("chef-a", companyA, "소불고기", "소불고기 양념에 간장 조금 소고기 배", true);
+        recipe("chef-a", companyA, "김치찌개", "김치찌개 김치 돼지고기 두부", true);
+        recipe("chef-a", companyA, "간장 비빔국수", "간장 비빔국수 소면 간장", false);
+
+        assertThat(search(null, "간장")).containsExactly(titleMatch, bodyMatch);
+    }
+
+    @Test
+    void likeWildcardsInQueryMatchOnlyLiterally() {
+        recipe("chef-a", companyA, "간장 계란밥", "간장 계란밥 계란 밥", true);
+        Long literal = recipe("chef-a", companyA, "참기름 세트", "참기름 세트 100% 국산_참깨", true);
+
+        // 이스케이프하지 않으면 '%%%', '%_%'가 모든 행과 일치한다
+        assertThat(search(null, "%")).containsExactly(literal);
+        assertThat(search(null, "_")).containsExactly(literal);
+    }
+
+    @Test
+    void companyMemberSeesOnlyOwnCompanyResults() {
+        Long own = recipe("chef-a", companyA, "간장 계란밥", "간장 계란밥 계란 밥", true);
+        Long other = recipe("chef-b", companyB, "간장 계란밥", "간장 계란밥 계란 밥", true);
+
+        assertThat(search("chef-a", "간장")).containsExactly(own);
+        assertThat(search("chef-b", "간장")).containsExactly(other);
+        assertThat(search(null, "간장")).containsExactlyInAnyOrder(own, other);
+    }
+
+    private List<Long> search(String requesterId, String query) {
+        return recipeService.search(requesterId, query, null, 10).items().stream()
+                .map(RecipeListItemResponse::getId)
+                .toList();
+    }
+
+    private void user(String userId, Long companyId) {
+        jdbcTemplate.update(
+                "INSERT INTO userinfo (userId, userPw, userName, company_id) VALUES (?, 'pw', ?, ?)",
+                userId, userId, companyId);
+    }
+
+    private Long recipe(String userId, Long companyId, String name, String searchText, boolean hubVisible) {
+        Long id = jdbcTemplate.queryForObject(
+                "INSERT INTO recipe (recipe_name, user_id, company_id) VALUES (?, ?, ?) RETURNING recipe_id",
+                Long.class, name, userId, companyId);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+                INSERT INTO recipe_summary (recipe_id, recipe_name, user_id, company_id, status, open_yn,
+                                            search_text, hub_visible, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'PUBLISHED', 'Y', ?, ?, ?, ?)
+                """, id, name, userId, companyId, searchText, hubVisible, now, now);
+        return id;
+    }
+}
@@ -0,0 +1,134 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.RecipeSummary;
+import com.aivle0102.bigproject.dto.KeysetPage;
+import com.aivle0102.bigproject.dto.RecipeListItemResponse;
+import com.aivle0102.bigproject.exception.CustomException;
+import com.aivle0102.bigproject.repository.RecipeSummaryRepository;
+import com.aivle0102.bigproject.util.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 허브 검색의 커서/페이지 크기/LIKE 이스케이프 처리. 순위 질의는 PostgreSQL 전용이라 저장소는 순위순 결과를 돌려주는 것으로 대신한다
+@SpringBootTest
+@ActiveProfiles("test")
+class RecipeSearchTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @MockitoBean
+    private RecipeSummaryRepository recipeSummaryRepository;
+
+    @MockitoBean
+    private AiReportService aiReportService;
+
+    @MockitoBean
+    private AllergenAnalysisService allergenAnalysisService;
+
+    @MockitoBean
+    private PersonaService personaService;
+
+    @MockitoBean
+    private EvaluationService evaluationService;
+
+    @Test
+    void cursorWalksRankedResultsWithoutGapsOrDuplicates() {
+        List<RecipeSummary> ranked = LongStream.rangeClosed(1, 5).mapToObj(RecipeSearchTest::summary).toList();
+        when(recipeSummaryRepository.searchHub(eq("간장"), eq("%간장%"), anyInt(), anyInt())).thenAnswer(inv -> {
+            int offset = inv.getArgument(2);
+            int limit = inv.getArgument(3);
+            return ranked.subList(Math.min(offset, ranked.size()), Math.min(offset + limit, ranked.size()));
+        });
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPage<RecipeListItemResponse> page = recipeService.search(null, "간장", cursor, 2);
+            page.items().forEach(item -> walked.add(item.getId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(walked).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(pages).isEqualTo(3);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다
+        verify(recipeSummaryRepository).searchHub("간장", "%간장%", 0, 3);
+        verify(recipeSummaryRepository).searchHub("간장", "%간장%", 2, 3);
+        verify(recipeSummaryRepository).searchHub("간장", "%간장%", 4, 3);
+    }
+
+    @Test
+    void queryIsTrimmedAndLikeWildcardsAreEscaped() {
+        when(recipeSummaryRepository.searchHub(anyString(), anyString(), anyInt(), anyInt())).thenReturn(List.of());
+
+        recipeService.search(null, "  50%_off\\ ", null, null);
+
+        verify(recipeSummaryRepository).searchHub("50%_off\\", "%50\\%\\_off\\\\%", 0, 51);
+    }
+
+    @Test
+    void longQueryIsTruncatedAndSizeIsClamped() {
+        when(recipeSummaryRepository.searchHub(anyString(), anyString(), anyInt(), anyInt())).thenReturn(List.of());
+        String longQuery = "가".repeat(150);
+
+        recipeService.search(null, longQuery, null, 1000);
+
+        String truncated = "가".repeat(100);
+        verify(recipeSummaryRepository).searchHub(truncated, "%" + truncated + "%", 0, 201);
+    }
+
+    @Test
+    void blankQueryFallsBackToHubList() {
+        when(recipeSummaryRepository.findHubPage(any(), any(), any(Limit.class))).thenReturn(List.of(summary(7)));
+
+        KeysetPage<RecipeListItemResponse> page = recipeService.search(null, "   ", null, 10);
+
+        assertThat(page.items()).extracting(RecipeListItemResponse::getId).containsExactly(7L);
+        verify(recipeSummaryRepository, never()).searchHub(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void invalidOrListCursorIsRejected() {
+        String listCursor = new KeysetCursor(LocalDateTime.now(), 1L).encode();
+
+        for (String cursor : List.of("not-a-cursor", listCursor)) {
+            assertThatThrownBy(() -> recipeService.search(null, "간장", cursor, 10))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessage("잘못된 페이지 커서입니다.");
+        }
+        verify(recipeSummaryRepository, never()).searchHub(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    private static RecipeSummary summary(long id) {
+        return RecipeSummary.builder()
+                .recipeId(id)
+                .recipeName("간장 레시피 " + id)
+                .userId("chef")
+                .status("PUBLISHED")
+                .openYn("Y")
+                .hubVisible(true)
+                .createdAt(LocalDateTime.now().minusMinutes(id))
+                .build();
+    }
+}
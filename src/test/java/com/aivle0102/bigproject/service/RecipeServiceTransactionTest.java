@@ -0,0 +1,170 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.MarketReport;
+import com.aivle0102.bigproject.domain.RecipeIngredient;
+import com.aivle0102.bigproject.domain.VirtualConsumer;
+import com.aivle0102.bigproject.dto.AgeGroupResult;
+import com.aivle0102.bigproject.dto.AllergenAnalysisResponse;
+import com.aivle0102.bigproject.dto.RecipeCreateRequest;
+import com.aivle0102.bigproject.dto.RecipeResponse;
+import com.aivle0102.bigproject.dto.ReportDetailResponse;
+import com.aivle0102.bigproject.repository.MarketReportRepository;
+import com.aivle0102.bigproject.repository.RecipeIngredientRepository;
+import com.aivle0102.bigproject.repository.VirtualConsumerRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// 외부 호출(LLM/HACCP)이 진행되는 동안 커넥션 풀에서 빌려간 JDBC 커넥션이 없어야 한다
+@SpringBootTest
+@ActiveProfiles("test")
+class RecipeServiceTransactionTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private MarketReportRepository marketReportRepository;
+
+    @Autowired
+    private VirtualConsumerRepository virtualConsumerRepository;
+
+    @Autowired
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private AiReportService aiReportService;
+
+    @MockitoBean
+    private AllergenAnalysisService allergenAnalysisService;
+
+    @MockitoBean
+    private PersonaService personaService;
+
+    @MockitoBean
+    private EvaluationService evaluationService;
+
+    // 외부 호출 이름 -> 호출 시점에 사용 중이던 커넥션 수
+    private final Map<String, Integer> activeDuringCall = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void stubExternalCalls() {
+        when(aiReportService.generateReport(any())).thenAnswer(inv -> {
+            record("generateReport");
+            return Map.of("executiveSummary", Map.of("decision", "GO"));
+        });
+        when(aiReportService.generateSummary(anyString())).thenAnswer(inv -> {
+            record("generateSummary");
+            return "요약";
+        });
+        when(allergenAnalysisService.analyzeIngredients(anyList(), any())).thenAnswer(inv -> {
+            record("analyzeIngredients");
+            return AllergenAnalysisResponse.builder()
+                    .targetCountry("US")
+                    .directMatchedAllergens(Map.of("Egg", "계란"))
+                    .build();
+        });
+        when(personaService.selectTopAgeGroups(anyString(), anyList())).thenAnswer(inv -> {
+            record("selectTopAgeGroups");
+            return List.of(new AgeGroupResult("미국", "20대", "간편식 선호"));
+        });
+        when(personaService.generatePersonasAsync(anyString(), anyList())).thenAnswer(inv ->
+                List.of(CompletableFuture.supplyAsync(() -> {
+                    record("generatePersonas");
+                    return VirtualConsumer.builder().personaName("Emily").country("미국").ageGroup("20대").build();
+                })));
+        when(evaluationService.evaluateAsync(any(), anyString())).thenAnswer(inv ->
+                CompletableFuture.supplyAsync(() -> {
+                    record("evaluate");
+                    return null;
+                }));
+        when(evaluationService.saveEvaluations(any(), anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    void createAndCreateReportHoldNoConnectionDuringExternalCalls() {
+        RecipeResponse created = recipeService.create("chef", recipeRequest());
+        ReportDetailResponse report = recipeService.createReport(created.getId(), "chef", null);
+
+        assertThat(activeDuringCall).containsOnlyKeys(
+                "generateReport", "generateSummary", "analyzeIngredients",
+                "selectTopAgeGroups", "generatePersonas", "evaluate");
+        assertThat(activeDuringCall.values()).containsOnly(0);
+
+        // 저장은 그대로 이루어져야 한다
+        assertThat(marketReportRepository.findByRecipe_IdOrderByCreatedAtDesc(created.getId())).hasSize(2);
+        assertThat(virtualConsumerRepository.findAll())
+                .filteredOn(consumer -> report.getReportId().equals(consumer.getReport().getId()))
+                .extracting(VirtualConsumer::getPersonaName)
+                .containsExactly("Emily");
+    }
+
+    @Test
+    void updateWithRegeneratedReportHoldsNoConnectionDuringExternalCalls() {
+        RecipeResponse created = recipeService.create("chef", recipeRequest());
+        activeDuringCall.clear();
+
+        RecipeCreateRequest request = recipeRequest();
+        request.setIngredients(List.of("밥", "계란", "간장", "참기름"));
+        request.setRegenerateReport(true);
+        recipeService.update(created.getId(), "chef", request);
+
+        // 보고서/요약 재생성, 바뀐 재료 알레르기 분석, 페르소나 생성/평가 모두 커넥션 없이 호출
+        assertThat(activeDuringCall).containsOnlyKeys(
+                "generateReport", "generateSummary", "analyzeIngredients",
+                "selectTopAgeGroups", "generatePersonas", "evaluate");
+        assertThat(activeDuringCall.values()).containsOnly(0);
+
+        assertThat(recipeIngredientRepository.findByRecipe_IdOrderByIdAsc(created.getId()))
+                .extracting(RecipeIngredient::getIngredientName)
+                .containsExactly("밥", "계란", "간장", "참기름");
+        MarketReport latest = marketReportRepository.findTopByRecipe_IdOrderByCreatedAtDesc(created.getId()).orElseThrow();
+        assertThat(latest.getSummary()).isEqualTo("요약");
+        assertThat(virtualConsumerRepository.findAll())
+                .filteredOn(consumer -> latest.getId().equals(consumer.getReport().getId()))
+                .extracting(VirtualConsumer::getPersonaName)
+                .containsExactly("Emily");
+    }
+
+    private static RecipeCreateRequest recipeRequest() {
+        RecipeCreateRequest request = new RecipeCreateRequest();
+        request.setTitle("간장계란밥");
+        request.setDescription("간단한 한 그릇");
+        request.setIngredients(List.of("밥", "계란", "간장"));
+        request.setSteps(List.of("밥을 담는다", "계란을 올린다"));
+        request.setTargetCountry("US");
+        return request;
+    }
+
+    private void record(String call) {
+        activeDuringCall.merge(call, activeConnections(), Math::max);
+    }
+
+    private int activeConnections() {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
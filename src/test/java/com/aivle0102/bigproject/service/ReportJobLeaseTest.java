@@ -0,0 +1,216 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.config.ExecutorConfig;
+import com.aivle0102.bigproject.domain.ReportJob;
+import com.aivle0102.bigproject.repository.ReportJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// report_job 선점/임대를 실제 DB(H2)로 확인: SKIP LOCKED 선점, locked_by 확인 갱신, 임대 만료 후 재선점, 종료 시 반환
+@SpringBootTest
+@ActiveProfiles("test")
+class ReportJobLeaseTest {
+
+    private static final RecipeService.GeneratedReport GENERATED =
+            new RecipeService.GeneratedReport("{}", "요약", null, "[]");
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private AiReportService aiReportService;
+
+    @MockitoBean
+    private AllergenAnalysisService allergenAnalysisService;
+
+    @MockitoBean
+    private PersonaService personaService;
+
+    @MockitoBean
+    private EvaluationService evaluationService;
+
+    @BeforeEach
+    void clearJobs() {
+        reportJobRepository.deleteAll();
+    }
+
+    @Test
+    void claimSkipsRowsLockedByAnotherTransaction() throws Exception {
+        Long first = enqueue();
+        Long second = enqueue();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 다른 인스턴스가 첫 작업을 잠그고 있는 동안 선점
+        CompletableFuture<List<Long>> holder = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            List<Long> ids = reportJobRepository.lockClaimable(LocalDateTime.now(), 1).stream().map(ReportJob::getId).toList();
+            locked.countDown();
+            await(release);
+            return ids;
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+        List<ReportJob> claimed;
+        try {
+            claimed = reportJobService.claim("worker-b", 10, 300, 3);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(holder.get(5, TimeUnit.SECONDS)).containsExactly(first);
+        assertThat(claimed).extracting(ReportJob::getId).containsExactly(second);
+        ReportJob job = reportJobRepository.findById(second).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJob.STATUS_RUNNING);
+        assertThat(job.getLockedBy()).isEqualTo("worker-b");
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void updatesFromAnotherWorkerAreIgnored() {
+        Long id = enqueue();
+        reportJobService.claim("worker-a", 1, 300, 3);
+
+        assertThat(reportJobService.checkpointGenerated(id, "worker-b", GENERATED)).isFalse();
+        reportJobService.fail(id, "worker-b", "남의 작업");
+        assertThat(reportJobRepository.findById(id).orElseThrow().getStatus()).isEqualTo(ReportJob.STATUS_RUNNING);
+
+        assertThat(reportJobService.checkpointGenerated(id, "worker-a", GENERATED)).isTrue();
+        ReportJob job = reportJobRepository.findById(id).orElseThrow();
+        assertThat(job.getStage()).isEqualTo(ReportJob.STAGE_PERSIST);
+        assertThat(job.getReportJson()).isEqualTo("{}");
+        assertThat(job.getConsumersJson()).isEqualTo("[]");
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndOldOwnerLosesIt() {
+        Long id = enqueue();
+        // 임대가 바로 만료되도록 음수 임대 시간으로 선점(인스턴스가 죽어 연장하지 못한 상황)
+        reportJobService.claim("worker-a", 1, -1, 3);
+
+        List<ReportJob> reclaimed = reportJobService.claim("worker-b", 1, 300, 3);
+
+        assertThat(reclaimed).extracting(ReportJob::getId).containsExactly(id);
+        assertThat(reclaimed.get(0).getAttempts()).isEqualTo(2);
+        assertThat(reportJobService.checkpointGenerated(id, "worker-a", GENERATED)).isFalse();
+        assertThat(reportJobService.checkpointGenerated(id, "worker-b", GENERATED)).isTrue();
+
+        // 최대 시도 횟수를 채운 작업은 다시 만료되면 실행하지 않고 실패 처리
+        reportJobService.extendLeases(List.of(id), "worker-b", -1);
+        assertThat(reportJobService.claim("worker-c", 1, 300, 3)).extracting(ReportJob::getAttempts).containsExactly(3);
+        reportJobService.extendLeases(List.of(id), "worker-c", -1);
+        assertThat(reportJobService.claim("worker-d", 1, 300, 3)).isEmpty();
+        ReportJob job = reportJobRepository.findById(id).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJob.STATUS_FAILED);
+        assertThat(job.getLockedBy()).isNull();
+    }
+
+    @Test
+    void releaseAllRequeuesOnlyOwnJobsAndKeepsCheckpoint() {
+        Long own = enqueue();
+        Long other = enqueue();
+        reportJobService.claim("worker-a", 1, 300, 3);
+        reportJobService.checkpointGenerated(own, "worker-a", GENERATED);
+        reportJobService.claim("worker-b", 1, 300, 3);
+
+        assertThat(reportJobService.releaseAll("worker-a")).isEqualTo(1);
+
+        ReportJob released = reportJobRepository.findById(own).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(ReportJob.STATUS_QUEUED);
+        assertThat(released.getLockedBy()).isNull();
+        assertThat(released.getAttempts()).isZero();
+        assertThat(released.getStage()).isEqualTo(ReportJob.STAGE_PERSIST);
+        assertThat(reportJobRepository.findById(other).orElseThrow().getLockedBy()).isEqualTo("worker-b");
+        assertThat(reportJobService.claim("worker-c", 10, 300, 3)).extracting(ReportJob::getId).containsExactly(own);
+    }
+
+    @Test
+    void drainReleasesJobStillRunningAfterTimeout() throws Exception {
+        Long id = enqueue();
+        RecipeService recipeService = mock(RecipeService.class);
+        CountDownLatch started = new CountDownLatch(1);
+        when(recipeService.generateReportContent(anyLong(), anyString(), any())).thenAnswer(inv -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                return GENERATED;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("중단됨", e);
+            }
+        });
+        ExecutorService jobExecutor = ExecutorConfig.daemonPool("report-job", 1);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ReportJobWorker worker = new ReportJobWorker(reportJobService, recipeService, jobExecutor, scheduler);
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "workers", 1);
+        ReflectionTestUtils.setField(worker, "pollIntervalMs", TimeUnit.MINUTES.toMillis(10));
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "retryBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(worker, "drainTimeoutSeconds", 1L);
+        worker.start();
+        worker.poll();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        worker.drain();
+
+        // 드레인 후 중단된 실행의 늦은 재시도 기록은 locked_by 확인에서 걸러진다
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThat(jobExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        ReportJob job = reportJobRepository.findById(id).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJob.STATUS_QUEUED);
+        assertThat(job.getLockedBy()).isNull();
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getErrorMessage()).isNull();
+        assertThat(job.getRunAfter()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    private Long enqueue() {
+        LocalDateTime now = LocalDateTime.now().minusSeconds(1);
+        return reportJobRepository.save(ReportJob.builder()
+                .recipeId(1L)
+                .requesterId("chef")
+                .status(ReportJob.STATUS_QUEUED)
+                .stage(ReportJob.STAGE_GENERATE)
+                .attempts(0)
+                .runAfter(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()).getId();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
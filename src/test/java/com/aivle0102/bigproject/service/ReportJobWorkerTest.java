@@ -0,0 +1,115 @@
+package com.aivle0102.bigproject.service;
+
+import com.aivle0102.bigproject.domain.ReportJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportJobWorkerTest {
+
+    private final ReportJobService jobService = mock(ReportJobService.class);
+    private final RecipeService recipeService = mock(RecipeService.class);
+    // run()만 직접 호출하므로 풀과 스케줄러는 쓰이지 않는다
+    private final ReportJobWorker worker = new ReportJobWorker(
+            jobService, recipeService, mock(ExecutorService.class), mock(ScheduledExecutorService.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "retryBackoffSeconds", 30L);
+    }
+
+    @Test
+    void generatesCheckpointsThenPersists() {
+        ReportJob job = job(ReportJob.STAGE_GENERATE, 1);
+        RecipeService.GeneratedReport generated = new RecipeService.GeneratedReport("{}", "요약", null, "[]");
+        when(recipeService.generateReportContent(eq(10L), eq("chef"), any())).thenReturn(generated);
+        when(jobService.checkpointGenerated(eq(1L), anyString(), eq(generated))).thenReturn(true);
+
+        worker.run(job);
+
+        verify(jobService).complete(eq(job), anyString(), eq(generated));
+    }
+
+    @Test
+    void resumedJobSkipsGeneration() {
+        // 이전 인스턴스가 GENERATE까지 마치고 죽은 작업
+        ReportJob job = job(ReportJob.STAGE_PERSIST, 2);
+        job.setReportJson("{\"swot\":{}}");
+        job.setSummary("요약");
+        job.setAllergenJson("{\"targetCountry\":\"US\"}");
+        job.setConsumersJson("[]");
+
+        worker.run(job);
+
+        verify(recipeService, never()).generateReportContent(anyLong(), anyString(), any());
+        ArgumentCaptor<RecipeService.GeneratedReport> generated = ArgumentCaptor.forClass(RecipeService.GeneratedReport.class);
+        verify(jobService).complete(eq(job), anyString(), generated.capture());
+        assertThat(generated.getValue()).isEqualTo(new RecipeService.GeneratedReport(
+                "{\"swot\":{}}", "요약", "{\"targetCountry\":\"US\"}", "[]"));
+    }
+
+    @Test
+    void lostLeaseStopsBeforePersist() {
+        ReportJob job = job(ReportJob.STAGE_GENERATE, 1);
+        when(recipeService.generateReportContent(anyLong(), anyString(), any()))
+                .thenReturn(new RecipeService.GeneratedReport("{}", null, null, "[]"));
+        when(jobService.checkpointGenerated(anyLong(), anyString(), any())).thenReturn(false);
+
+        worker.run(job);
+
+        verify(jobService, never()).complete(any(), anyString(), any());
+    }
+
+    @Test
+    void transientFailureIsRetriedUntilMaxAttempts() {
+        ReportJob job = job(ReportJob.STAGE_PERSIST, 1);
+        doThrow(new IllegalStateException("timeout")).when(jobService).complete(any(), anyString(), any());
+
+        worker.run(job);
+        verify(jobService).retryLater(eq(1L), anyString(), eq("timeout"), any(LocalDateTime.class));
+
+        job.setAttempts(3);
+        worker.run(job);
+        verify(jobService).fail(eq(1L), anyString(), eq("timeout"));
+    }
+
+    @Test
+    void invalidJobFailsWithoutRetry() {
+        ReportJob job = job(ReportJob.STAGE_GENERATE, 1);
+        when(recipeService.generateReportContent(anyLong(), anyString(), any()))
+                .thenThrow(new IllegalArgumentException("레시피를 찾을 수 없습니다."));
+
+        worker.run(job);
+
+        verify(jobService).fail(eq(1L), anyString(), eq("레시피를 찾을 수 없습니다."));
+        verify(jobService, never()).retryLater(anyLong(), anyString(), anyString(), any());
+    }
+
+    private static ReportJob job(String stage, int attempts) {
+        return ReportJob.builder()
+                .id(1L)
+                .recipeId(10L)
+                .requesterId("chef")
+                .status(ReportJob.STATUS_RUNNING)
+                .stage(stage)
+                .attempts(attempts)
+                .build();
+    }
+}
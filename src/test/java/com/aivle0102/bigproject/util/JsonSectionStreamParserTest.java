@@ -0,0 +1,64 @@
+package com.aivle0102.bigproject.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonSectionStreamParserTest {
+
+    private static final String REPORT = """
+            ```json
+            {
+              "executiveSummary": "간장 베이스 \\"덮밥\\" {요약}, 핵심",
+              "marketSnapshot": {"trend": ["HMR", "저당"], "size": {"value": 1.5, "unit": "조원"}},
+              "swot": {"strengths": ["가격]"], "weaknesses": []},
+              "kpis": [{"name": "재구매율", "target": 30}],
+              "score": 87,
+              "approved": true
+            }
+            ```""";
+
+    @Test
+    void sectionsAreEmittedAsSoonAsTheyComplete() {
+        Map<String, String> sections = new LinkedHashMap<>();
+        JsonSectionStreamParser parser = new JsonSectionStreamParser(sections::put);
+
+        int marketEnd = REPORT.indexOf("\"swot\"");
+        parser.feed(REPORT.substring(0, marketEnd));
+        assertThat(sections).containsOnlyKeys("executiveSummary", "marketSnapshot");
+
+        parser.feed(REPORT.substring(marketEnd));
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(sections).containsExactly(
+                Map.entry("executiveSummary", "\"간장 베이스 \\\"덮밥\\\" {요약}, 핵심\""),
+                Map.entry("marketSnapshot", "{\"trend\": [\"HMR\", \"저당\"], \"size\": {\"value\": 1.5, \"unit\": \"조원\"}}"),
+                Map.entry("swot", "{\"strengths\": [\"가격]\"], \"weaknesses\": []}"),
+                Map.entry("kpis", "[{\"name\": \"재구매율\", \"target\": 30}]"),
+                Map.entry("score", "87"),
+                Map.entry("approved", "true")
+        );
+    }
+
+    @Test
+    void chunkBoundariesDoNotChangeResult() {
+        Map<String, String> whole = new LinkedHashMap<>();
+        new JsonSectionStreamParser(whole::put).feed(REPORT);
+
+        Random random = new Random(14L);
+        for (int run = 0; run < 200; run++) {
+            Map<String, String> chunked = new LinkedHashMap<>();
+            JsonSectionStreamParser parser = new JsonSectionStreamParser(chunked::put);
+            int i = 0;
+            while (i < REPORT.length()) {
+                int end = Math.min(REPORT.length(), i + 1 + random.nextInt(8));
+                parser.feed(REPORT.substring(i, end));
+                i = end;
+            }
+            assertThat(chunked).isEqualTo(whole);
+        }
+    }
+}
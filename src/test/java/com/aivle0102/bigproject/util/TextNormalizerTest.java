@@ -0,0 +1,190 @@
+package com.aivle0102.bigproject.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTest {
+
+    private static final int SAMPLES = 20_000;
+
+    // 레시피/카탈로그에 실제로 나오는 조각과 경계 사례(괄호 짝 불일치, 결합 문자, 보충 평면 문자 등)
+    private static final List<String> FRAGMENTS = List.of(
+            "간장", "설탕", "대두", "밀가루", "계란", "우유", "알로에", "통깨", "잎새버섯", "한줌", "테이블스푼", "큰술", "작은술",
+            "g", "kg", "G", "Kg", "ml", "ML", "l", "L", "tbsp", "Tsp", "cup", "cups", "CUPS", "cupcake", "gram",
+            "1", "2", "10", "1.5", "1/2", "3.", ".5", "0", "１", "٣",
+            "(", ")", "(국산)", "((중국산)", "(미국산", "국산)", "[", "]", "{", "}",
+            " ", "  ", "\t", "\n", "\r", "\u000B", "\f", "\u0001", "\u00A0", "\u3000", "\uFEFF",
+            ",", ".", "/", "-", "_", "·", ";", "|", "%", "&", "+", "'", "\"",
+            "é", "É", "İ", "Σ", "ΣΑ", "ΑΣ", "ß", "K", "ſ", "ǅ", "漢", "ｇ", "ㄱ", "ㅏ",
+            "\u0301", "a\u0301", "\u0301g", "g\u0301",
+            "😀", "𝐀", "𝐚𝐛", "\uD800", "\uDC00"
+    );
+
+    private static final String[] WHOLE_WORD_UNITS = {
+            "g", "kg", "mg", "ml", "l", "tbsp", "tsp", "cup", "cups"
+    };
+    private static final String[] ANYWHERE_UNITS = {
+            "큰술", "작은술", "술", "스푼", "숟가락", "티스푼", "테이블스푼", "컵", "개", "마리", "모", "쪽", "줌", "꼬집",
+            "팩", "봉지", "캔", "포기", "줄기", "잎", "알", "통", "덩이", "조각", "토막", "한줌", "적당량", "약간"
+    };
+
+    @Test
+    void letterWordsMatchesLegacyNormalizeToken() {
+        assertEquivalent(TextNormalizer::letterWords, TextNormalizerTest::legacyNormalizeToken);
+        assertEquivalent(TextNormalizer::letterWordList, TextNormalizerTest::legacyLetterWordList);
+    }
+
+    @Test
+    void lastWordWithoutUnitsMatchesLegacyCleanIngredientToken() {
+        assertEquivalent(
+                s -> TextNormalizer.lastWordWithoutUnits(s, WHOLE_WORD_UNITS, ANYWHERE_UNITS),
+                TextNormalizerTest::legacyCleanIngredientToken
+        );
+    }
+
+    @Test
+    void compareKeyMatchesLegacyNormalizeForCompare() {
+        assertEquivalent(TextNormalizer::compareKey, TextNormalizerTest::legacyNormalizeForCompare);
+    }
+
+    @Test
+    void catalogKeyMatchesLegacyNormalizeKey() {
+        assertEquivalent(TextNormalizer::catalogKey, TextNormalizerTest::legacyNormalizeKey);
+    }
+
+    @Test
+    void alnumTokensMatchesLegacyTokenize() {
+        assertEquivalent(TextNormalizer::alnumTokens, TextNormalizerTest::legacyTokenize);
+    }
+
+    private static <T> void assertEquivalent(Function<String, T> actual, Function<String, T> legacy) {
+        for (String input : samples()) {
+            assertThat(actual.apply(input)).as("input=[%s]", escape(input)).isEqualTo(legacy.apply(input));
+        }
+    }
+
+    private static List<String> samples() {
+        // 조각을 무작위로 이어 붙인 입력(시드 고정) + 무작위 BMP/보충 평면 문자
+        Random random = new Random(20260117L);
+        List<String> out = new ArrayList<>(FRAGMENTS);
+        out.add("");
+        for (int i = 0; i < SAMPLES; i++) {
+            StringBuilder sb = new StringBuilder();
+            int parts = 1 + random.nextInt(10);
+            for (int p = 0; p < parts; p++) {
+                if (random.nextInt(8) == 0) {
+                    sb.appendCodePoint(random.nextInt(4) == 0 ? 0x10000 + random.nextInt(0x20000) : random.nextInt(0xD800));
+                } else {
+                    sb.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+                }
+            }
+            out.add(sb.toString());
+        }
+        return out;
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+        s.codePoints().forEach(cp -> {
+            if (cp < 0x20 || cp > 0x7E) sb.append(String.format("\\u{%X}", cp));
+            else sb.appendCodePoint(cp);
+        });
+        return sb.toString();
+    }
+
+    // ---- 기존 정규식 구현 (기준값) ----
+
+    private static String legacyNormalizeToken(String token) {
+        // AllergenMatcher.normalizeToken
+        String noParen = token.replaceAll("\\([^)]*\\)", " ");
+        String noNumbers = noParen.replaceAll("\\d+(?:\\.\\d+)?", " ");
+        String cleaned = noNumbers.replaceAll("[^\\p{L}\\s]", " ").trim();
+        List<String> tokens = legacyWhitespaceSplit(cleaned);
+        if (tokens.isEmpty()) return "";
+        return String.join(" ", tokens).trim();
+    }
+
+    private static List<String> legacyLetterWordList(String raw) {
+        // AllergenMatcher.normalizeIngredientForQuery의 토큰 단계
+        String noParen = raw.replaceAll("\\([^)]*\\)", " ");
+        String noNumbers = noParen.replaceAll("\\d+(?:\\.\\d+)?", " ");
+        String cleaned = noNumbers.replaceAll("[^\\p{L}\\s]", " ").trim();
+        return legacyWhitespaceSplit(cleaned);
+    }
+
+    private static List<String> legacyWhitespaceSplit(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        String[] parts = text.trim().split("\\s+");
+        List<String> out = new ArrayList<>();
+        for (String p : parts) {
+            if (!p.isBlank()) out.add(p);
+        }
+        return out;
+    }
+
+    private static final Pattern PAREN = Pattern.compile("\\([^)]*\\)");
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:[\\./]\\d+)?");
+    private static final Pattern UNITS = Pattern.compile(
+            "(?i)\\b(g|kg|mg|ml|l|tbsp|tsp|cup|cups)\\b|"
+                    + "(큰술|작은술|술|스푼|숟가락|티스푼|테이블스푼|컵|개|마리|모|쪽|줌|꼬집|팩|봉지|캔|포기|줄기|잎|알|통|덩이|조각|토막|한줌|적당량|약간)"
+    );
+
+    private static String legacyCleanIngredientToken(String token) {
+        // RecipeIngredientExtractor.cleanIngredientToken
+        if (token == null) return "";
+        String t = token.trim();
+        if (t.isEmpty()) return "";
+
+        t = PAREN.matcher(t).replaceAll(" ");
+        t = NUMBER.matcher(t).replaceAll(" ");
+        t = UNITS.matcher(t).replaceAll(" ");
+        t = t.replaceAll("[^\\p{L}\\s]", " ");
+        t = t.replaceAll("\\s+", " ").trim();
+        if (t.isEmpty()) return "";
+        String[] parts = t.split("\\s+");
+        if (parts.length == 0) return "";
+        return parts[parts.length - 1];
+    }
+
+    private static String legacyNormalizeForCompare(String text) {
+        // ProcessedFoodsCatalogLoader.normalizeForCompare
+        if (text == null) return "";
+        return text.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{Nd}]+", "")
+                .trim();
+    }
+
+    private static String legacyNormalizeKey(String value) {
+        // RawProduceCatalogLoader.normalizeKey
+        if (value == null) return "";
+        String cleaned = value.replace("\uFEFF", "")
+                .replace("_", " ")
+                .trim();
+        cleaned = cleaned.replaceAll("\\([^)]*\\)", " ");
+        cleaned = cleaned.replaceAll("\\s+", " ").trim();
+        return cleaned;
+    }
+
+    private static List<String> legacyTokenize(String text) {
+        // RecipeCaseServiceImpl.tokenize
+        String normalized = text.replaceAll("[^\\p{IsAlphabetic}\\p{IsDigit}]+", " ").trim();
+        if (normalized.isBlank()) return List.of();
+
+        String[] parts = normalized.split("\\s+");
+        List<String> tokens = new ArrayList<>();
+        for (String p : parts) {
+            String t = p.trim();
+            if (t.isEmpty()) continue;
+            tokens.add(t);
+        }
+        return tokens;
+    }
+}